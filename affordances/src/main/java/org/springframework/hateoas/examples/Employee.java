@@ -16,19 +16,24 @@
 package org.springframework.hateoas.examples;
 
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Version;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonProperty.Access;
 
 /**
  * Domain object representing a company employee. Project Lombok keeps actual code at a minimum. {@code @Data} -
  * Generates getters, setters, toString, hash, and equals functions {@code @Entity} - JPA annotation to flag this class
  * for DB persistence {@code @NoArgsConstructor} - Create a constructor with no args to support JPA
- * {@code @AllArgsConstructor} - Create a constructor with all args to support testing
+ * {@code @Version} - Counter bumped by every update, published as the ETag and, read-only, in the representation
  * {@code @JsonIgnoreProperties(ignoreUnknow=true)} When converting JSON to Java, ignore any unrecognized attributes.
  * This is critical for REST because it encourages adding new fields in later versions that won't break. It also allows
  * things like _links to be ignore as well, meaning HAL documents can be fetched and later posted to the server without
@@ -39,14 +44,33 @@ import javax.persistence.Id;
 @Data
 @Entity
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
-@AllArgsConstructor
 class Employee {
 
-	@Id @GeneratedValue private Long id;
+	/**
+	 * Ids are handed out in blocks of 50, so inserting a batch of employees doesn't cost a sequence call per row.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_id")
+	@SequenceGenerator(name = "employee_id", allocationSize = 50) private Long id;
 	private String firstName;
 	private String lastName;
 	private String role;
 
+	/**
+	 * Rendered with every employee, also inside a collection, where there is no {@literal ETag}. An
+	 * {@link EmployeeOperation} of a batch refers to it. Clients can't set it.
+	 */
+	@JsonProperty(access = Access.READ_ONLY) @Version private Long version;
+
+	/**
+	 * Useful constructor for an employee that's already stored, e.g. in tests.
+	 */
+	Employee(Long id, String firstName, String lastName, String role) {
+
+		this(firstName, lastName, role);
+		this.id = id;
+	}
+
 	/**
 	 * Useful constructor when id is not yet known.
 	 */
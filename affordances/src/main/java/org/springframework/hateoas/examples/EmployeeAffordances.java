@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.hateoas.AffordanceTemplate;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Adds the affordances of {@link EmployeeController} to its responses, but only once content negotiation is over and
+ * only if the selected media type actually renders them (e.g. HAL-FORMS {@literal _templates}). Plain HAL and JSON
+ * clients never pay for forms they would not see.
+ * <p>
+ * Each affordance is resolved once, as an {@link AffordanceTemplate}, and then pointed at each response's
+ * {@literal self} links.
+ * <p>
+ * A HAL-FORMS collection requested with {@code ?templates=shared} is rendered in a compact form. The item templates are
+ * declared once, on the collection, instead of being repeated by every item. Each item references a shared template
+ * through a link whose relation is the template's name. {@link SharedTemplatesReader} turns such a document back into
+ * the regular form. Other media types have nowhere to declare the shared templates, so they get the regular form.
+ */
+@ControllerAdvice(assignableTypes = EmployeeController.class)
+class EmployeeAffordances implements ResponseBodyAdvice<Object> {
+
+	/**
+	 * Names of the item templates, also the relations of the links referencing them from the items of a collection with
+	 * shared templates.
+	 */
+	static final String UPDATE_EMPLOYEE = "updateEmployee";
+	static final String PATCH_EMPLOYEE = "patchEmployee";
+	static final String DELETE_EMPLOYEE = "deleteEmployee";
+
+	/**
+	 * Media types whose serializers turn affordances into something the client sees.
+	 */
+	private static final List<MediaType> AFFORDANCE_MEDIA_TYPES = Arrays.asList(MediaTypes.HAL_FORMS_JSON,
+			MediaTypes.COLLECTION_JSON, MediaTypes.UBER_JSON);
+
+	private final AffordanceTemplate newEmployee;
+	private final AffordanceTemplate updateEmployee;
+	private final AffordanceTemplate patchEmployee;
+	private final AffordanceTemplate deleteEmployee;
+	private final AffordanceTemplate batchEmployees;
+
+	EmployeeAffordances() {
+
+		this.newEmployee = AffordanceTemplate.of(methodOn(EmployeeController.class).newEmployee(null));
+		this.updateEmployee = AffordanceTemplate.of(methodOn(EmployeeController.class).updateEmployee(null, 0L, null));
+		this.patchEmployee = AffordanceTemplate.of(methodOn(EmployeeController.class).patchEmployee(null, 0L, null))
+				.withInput(Employee.class);
+		this.deleteEmployee = AffordanceTemplate.of(methodOn(EmployeeController.class).deleteEmployee(0L, null));
+		this.batchEmployees = AffordanceTemplate.of(methodOn(EmployeeController.class).batchEmployees(null));
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+
+		if (!(body instanceof RepresentationModel) || !rendersAffordances(selectedContentType)) {
+			return body;
+		}
+
+		if (body instanceof CollectionModel) {
+
+			CollectionModel<?> collection = (CollectionModel<?>) body;
+
+			if (selectedContentType.isCompatibleWith(MediaTypes.HAL_FORMS_JSON) && hasSharedTemplates(request)) {
+
+				collection.getContent().forEach(EmployeeAffordances::referenceSharedTemplates);
+				affordSelf(collection, newEmployee, updateEmployee, patchEmployee, deleteEmployee);
+			} else {
+				collection.getContent().forEach(this::affordItem);
+				affordSelf(collection, newEmployee);
+			}
+		} else {
+			affordItem(body);
+		}
+
+		return body;
+	}
+
+	private void affordItem(Object model) {
+
+		if (!(model instanceof EntityModel)) {
+			return;
+		}
+
+		Object content = ((EntityModel<?>) model).getContent();
+
+		if (content instanceof Employee) {
+			affordSelf((EntityModel<?>) model, updateEmployee, patchEmployee, deleteEmployee);
+		} else if (content instanceof EmployeeBatch) {
+			affordSelf((EntityModel<?>) model, batchEmployees);
+		}
+	}
+
+	/**
+	 * Point a link named after each shared item template at the item, right after its {@literal self} link.
+	 */
+	private static void referenceSharedTemplates(Object model) {
+
+		if (!(model instanceof EntityModel) || !(((EntityModel<?>) model).getContent() instanceof Employee)) {
+			return;
+		}
+
+		EntityModel<?> item = (EntityModel<?>) model;
+		Links links = item.getLinks();
+
+		item.removeLinks();
+
+		for (Link link : links) {
+
+			item.add(link);
+
+			if (link.hasRel(IanaLinkRelations.SELF)) {
+				item.add(link.withRel(UPDATE_EMPLOYEE), link.withRel(PATCH_EMPLOYEE), link.withRel(DELETE_EMPLOYEE));
+			}
+		}
+	}
+
+	/**
+	 * Replace the model's {@literal self} link with one carrying the given affordances, keeping the link order intact.
+	 */
+	private static void affordSelf(RepresentationModel<?> model, AffordanceTemplate... affordances) {
+
+		Links links = model.getLinks();
+
+		model.removeLinks();
+
+		for (Link link : links) {
+
+			if (link.hasRel(IanaLinkRelations.SELF)) {
+				for (AffordanceTemplate affordance : affordances) {
+					link = affordance.applyTo(link);
+				}
+			}
+
+			model.add(link);
+		}
+	}
+
+	private static boolean rendersAffordances(MediaType mediaType) {
+		return AFFORDANCE_MEDIA_TYPES.stream().anyMatch(mediaType::isCompatibleWith);
+	}
+
+	private static boolean hasSharedTemplates(ServerHttpRequest request) {
+
+		return SharedTemplatesReader.SHARED_TEMPLATES.equals(UriComponentsBuilder.fromUri(request.getURI()).build() //
+				.getQueryParams().getFirst(SharedTemplatesReader.TEMPLATES_PARAM));
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Rejects an {@link EmployeeBatch} because one of its operations can't be applied. Thrown from inside the batch's
+ * transaction, so everything applied up to that point is rolled back.
+ */
+class EmployeeBatchException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final HttpStatus status;
+
+	EmployeeBatchException(int index, String message) {
+		this(index, HttpStatus.BAD_REQUEST, message);
+	}
+
+	EmployeeBatchException(int index, HttpStatus status, String message) {
+
+		super("Operation " + index + ": " + message);
+		this.status = status;
+	}
+
+	/**
+	 * The status to reject the whole batch with.
+	 */
+	HttpStatus getStatus() {
+		return this.status;
+	}
+}
@@ -17,52 +17,78 @@ package org.springframework.hateoas.examples;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.JsonMergePatch;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.VersionETags;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 /**
  * @author Greg Turnquist
  */
 @RestController
 class EmployeeController {
 
+	/**
+	 * Upper bound for the operations of one {@link EmployeeBatch}, which all share a transaction and a persistence
+	 * context.
+	 */
+	static final int MAX_BATCH_SIZE = 10_000;
+
 	private final EmployeeRepository repository;
+	private final ObjectMapper mapper;
+
+	EmployeeController(EmployeeRepository repository, ObjectMapper mapper) {
 
-	EmployeeController(EmployeeRepository repository) {
 		this.repository = repository;
+		this.mapper = mapper;
 	}
 
 	@GetMapping("/employees")
 	ResponseEntity<CollectionModel<EntityModel<Employee>>> findAll() {
 
+		Link employeesLink = linkTo(methodOn(EmployeeController.class).findAll()).withRel("employees");
+
 		List<EntityModel<Employee>> employeeResources = StreamSupport.stream(repository.findAll().spliterator(), false)
-				.map(employee -> EntityModel.of(employee,
-						linkTo(methodOn(EmployeeController.class).findOne(employee.getId())).withSelfRel()
-								.andAffordance(afford(methodOn(EmployeeController.class).updateEmployee(null, employee.getId())))
-								.andAffordance(afford(methodOn(EmployeeController.class).deleteEmployee(employee.getId()))),
-						linkTo(methodOn(EmployeeController.class).findAll()).withRel("employees")))
+				.map(employee -> toModel(employee, employeesLink)) //
 				.collect(Collectors.toList());
 
 		return ResponseEntity.ok(CollectionModel.of( //
 				employeeResources, //
-				linkTo(methodOn(EmployeeController.class).findAll()).withSelfRel()
-						.andAffordance(afford(methodOn(EmployeeController.class).newEmployee(null)))));
+				employeesLink.withSelfRel(), //
+				linkTo(methodOn(EmployeeController.class).findBatch()).withRel("batch")));
 	}
 
 	@PostMapping("/employees")
@@ -70,65 +96,316 @@ class EmployeeController {
 
 		Employee savedEmployee = repository.save(employee);
 
-		return EntityModel.of(savedEmployee,
-				linkTo(methodOn(EmployeeController.class).findOne(savedEmployee.getId())).withSelfRel()
-						.andAffordance(afford(methodOn(EmployeeController.class).updateEmployee(null, savedEmployee.getId())))
-						.andAffordance(afford(methodOn(EmployeeController.class).deleteEmployee(savedEmployee.getId()))),
-				linkTo(methodOn(EmployeeController.class).findAll()).withRel("employees")).getLink(IanaLinkRelations.SELF)
-						.map(Link::getHref) //
-						.map(href -> {
-							try {
-								return new URI(href);
-							} catch (URISyntaxException e) {
-								throw new RuntimeException(e);
-							}
-						}) //
-						.map(uri -> ResponseEntity.noContent().location(uri).build())
-						.orElse(ResponseEntity.badRequest().body("Unable to create " + employee));
+		return toModel(savedEmployee).getLink(IanaLinkRelations.SELF)
+				.map(Link::getHref) //
+				.map(href -> {
+					try {
+						return new URI(href);
+					} catch (URISyntaxException e) {
+						throw new RuntimeException(e);
+					}
+				}) //
+				.map(uri -> ResponseEntity.noContent().location(uri).build())
+				.orElse(ResponseEntity.badRequest().body("Unable to create " + employee));
 	}
 
 	@GetMapping("/employees/{id}")
 	ResponseEntity<EntityModel<Employee>> findOne(@PathVariable long id) {
 
-		return repository.findById(id)
-				.map(employee -> EntityModel.of(employee,
-						linkTo(methodOn(EmployeeController.class).findOne(employee.getId())).withSelfRel()
-								.andAffordance(afford(methodOn(EmployeeController.class).updateEmployee(null, employee.getId())))
-								.andAffordance(afford(methodOn(EmployeeController.class).deleteEmployee(employee.getId()))),
-						linkTo(methodOn(EmployeeController.class).findAll()).withRel("employees")))
-				.map(ResponseEntity::ok) //
+		return repository.findById(id) //
+				.map(employee -> ResponseEntity.ok() //
+						.headers(VersionETags.headersFor(employee.getVersion())) //
+						.body(toModel(employee))) //
 				.orElse(ResponseEntity.notFound().build());
 	}
 
+	/**
+	 * Replace an {@link Employee} with a single conditional statement, that only succeeds if the employee is still at
+	 * the version it's expected at. With an {@literal If-Match} header, that's the version the client last saw, and the
+	 * write fails with {@literal 412 Precondition Failed} otherwise. Without one, it's the version just read, and a
+	 * write committed in between fails it with {@literal 409 Conflict}. The response carries the new {@literal ETag}.
+	 */
 	@PutMapping("/employees/{id}")
-	ResponseEntity<?> updateEmployee(@RequestBody Employee employee, @PathVariable long id) {
+	ResponseEntity<?> updateEmployee(@RequestBody Employee employee, @PathVariable long id,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+		OptionalLong version;
+
+		if (ifMatch == null || VersionETags.isWildcard(ifMatch)) {
+
+			Optional<Employee> current = repository.findById(id);
+			version = current.isPresent() ? OptionalLong.of(current.get().getVersion()) : OptionalLong.empty();
+		} else {
+			version = VersionETags.versionOf(ifMatch);
+		}
+
+		if (!version.isPresent()) {
+			return ifMatch == null ? ResponseEntity.notFound().build() : preconditionFailed(id, ifMatch);
+		}
+
+		if (repository.updateIfVersion(id, version.getAsLong(), employee.getFirstName(), employee.getLastName(),
+				employee.getRole()) == 0) {
+			return notUpdated(id, ifMatch);
+		}
+
+		return ResponseEntity.noContent() //
+				.location(linkTo(methodOn(EmployeeController.class).findOne(id)).toUri()) //
+				.headers(VersionETags.headersFor(version.getAsLong() + 1)) //
+				.build();
+	}
+
+	/**
+	 * Partially update an {@link Employee} with a {@link JsonMergePatch}. The lookup, merge and a conditional update
+	 * like {@link #updateEmployee(Employee, long, String)}'s happen in one transaction, so the patch is applied to the
+	 * current state instead of to whatever the client last fetched. An {@literal If-Match} header is honored the same
+	 * way, and the response carries the new {@literal ETag}. The path's id always wins over an {@literal id} in the
+	 * patch.
+	 */
+	@PatchMapping(value = "/employees/{id}", consumes = JsonMergePatch.MEDIA_TYPE_VALUE)
+	@Transactional
+	public ResponseEntity<?> patchEmployee(@RequestBody JsonNode patch, @PathVariable long id,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+		Optional<Employee> employeeToPatch = repository.findById(id);
+
+		if (!employeeToPatch.isPresent()) {
+			return ifMatch == null ? ResponseEntity.notFound().build() : preconditionFailed(id, ifMatch);
+		}
+
+		Employee current = employeeToPatch.get();
+
+		if (!VersionETags.matches(ifMatch, current.getVersion())) {
+			return preconditionFailed(id, ifMatch);
+		}
+
+		if (patch.isObject()) {
+			((ObjectNode) patch).remove("id");
+		}
+
+		try {
+			// Merged into a copy, as Hibernate would flush changes to the managed one ahead of the update
+			Employee patchedEmployee = JsonMergePatch.apply(patch,
+					new Employee(id, current.getFirstName(), current.getLastName(), current.getRole()), mapper);
 
-		Employee employeeToUpdate = employee;
-		employeeToUpdate.setId(id);
+			if (repository.updateIfVersion(id, current.getVersion(), patchedEmployee.getFirstName(),
+					patchedEmployee.getLastName(), patchedEmployee.getRole()) == 0) {
+				return notUpdated(id, ifMatch);
+			}
 
-		Employee updatedEmployee = repository.save(employeeToUpdate);
+			patchedEmployee.setVersion(current.getVersion() + 1);
 
-		return EntityModel.of(updatedEmployee,
-				linkTo(methodOn(EmployeeController.class).findOne(updatedEmployee.getId())).withSelfRel()
-						.andAffordance(afford(methodOn(EmployeeController.class).updateEmployee(null, updatedEmployee.getId())))
-						.andAffordance(afford(methodOn(EmployeeController.class).deleteEmployee(updatedEmployee.getId()))),
-				linkTo(methodOn(EmployeeController.class).findAll()).withRel("employees")).getLink(IanaLinkRelations.SELF)
-						.map(Link::getHref).map(href -> {
-							try {
-								return new URI(href);
-							} catch (URISyntaxException e) {
-								throw new RuntimeException(e);
-							}
-						}) //
-						.map(uri -> ResponseEntity.noContent().location(uri).build()) //
-						.orElse(ResponseEntity.badRequest().body("Unable to update " + employeeToUpdate));
+			return ResponseEntity.ok() //
+					.headers(VersionETags.headersFor(patchedEmployee.getVersion())) //
+					.body(toModel(patchedEmployee));
+		} catch (IOException e) {
+			return ResponseEntity.badRequest().body("Unable to patch employee " + id + ": " + e.getMessage());
+		}
 	}
 
+	/**
+	 * An empty {@link EmployeeBatch}. It's the resource carrying the HAL-FORMS template for
+	 * {@link #batchEmployees(EmployeeBatch)}.
+	 */
+	@GetMapping("/employees/batch")
+	ResponseEntity<EntityModel<EmployeeBatch>> findBatch() {
+
+		return ResponseEntity.ok(EntityModel.of(new EmployeeBatch(), //
+				linkTo(methodOn(EmployeeController.class).findBatch()).withSelfRel(), //
+				linkTo(methodOn(EmployeeController.class).findAll()).withRel("employees")));
+	}
+
+	/**
+	 * Apply an ordered list of creates, updates and deletes in one transaction and one HTTP round trip. All employees
+	 * touched by updates and deletes are loaded with a single query. New and changed rows are only written when the
+	 * transaction commits, so Hibernate sends them as JDBC batches (see {@literal hibernate.jdbc.batch_size}) rather than
+	 * one statement per row. If any operation can't be applied, nothing is.
+	 * <p>
+	 * Operations carrying a {@literal version} are checked against the loaded employee, like an {@literal If-Match}
+	 * header. Hibernate checks the version again when it writes the row, so a change committed by someone else in the
+	 * meantime still fails the batch, see {@link #rejectConcurrentChange(ObjectOptimisticLockingFailureException)}.
+	 *
+	 * @param batch
+	 * @return one result per operation, in the order of the batch
+	 */
+	@PostMapping("/employees/batch")
+	@Transactional
+	public ResponseEntity<?> batchEmployees(@RequestBody EmployeeBatch batch) {
+
+		List<EmployeeOperation> operations = batch.getOperations();
+
+		if (operations.size() > MAX_BATCH_SIZE) {
+			return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+					.body("A batch is limited to " + MAX_BATCH_SIZE + " operations");
+		}
+
+		Map<Long, Employee> employees = new HashMap<>();
+		repository.findAllById(operations.stream() //
+				.filter(operation -> operation.getOp() != EmployeeOperation.Type.CREATE) //
+				.map(EmployeeOperation::getId) //
+				.filter(id -> id != null) //
+				.collect(Collectors.toSet())) //
+				.forEach(employee -> employees.put(employee.getId(), employee));
+
+		Link employeesLink = linkTo(methodOn(EmployeeController.class).findAll()).withRel("employees");
+		List<EntityModel<EmployeeOperationResult>> results = new ArrayList<>(operations.size());
+
+		for (int index = 0; index < operations.size(); index++) {
+			results.add(apply(index, operations.get(index), employees, employeesLink.getHref()));
+		}
+
+		return ResponseEntity.ok(CollectionModel.of( //
+				results, //
+				linkTo(methodOn(EmployeeController.class).findBatch()).withRel("batch"), //
+				employeesLink));
+	}
+
+	@ExceptionHandler(EmployeeBatchException.class)
+	ResponseEntity<?> rejectBatch(EmployeeBatchException e) {
+		return ResponseEntity.status(e.getStatus()).body(e.getMessage());
+	}
+
+	/**
+	 * An employee read in a transaction was changed, and committed, by someone else before the transaction wrote it
+	 * back. Nothing was written, and trying again starts from the new state.
+	 */
+	@ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+	ResponseEntity<?> rejectConcurrentChange(ObjectOptimisticLockingFailureException e) {
+		return changedConcurrently(e.getIdentifier());
+	}
+
+	/**
+	 * Delete an {@link Employee} with a single statement, with the same {@literal If-Match} precondition as
+	 * {@link #updateEmployee(Employee, long, String)}.
+	 */
 	@DeleteMapping("/employees/{id}")
-	ResponseEntity<?> deleteEmployee(@PathVariable long id) {
+	ResponseEntity<?> deleteEmployee(@PathVariable long id,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+		if (ifMatch == null || VersionETags.isWildcard(ifMatch)) {
+
+			if (repository.deleteIfPresent(id) == 0) {
+				return ifMatch == null ? ResponseEntity.notFound().build() : preconditionFailed(id, ifMatch);
+			}
+		} else {
 
-		repository.deleteById(id);
+			OptionalLong version = VersionETags.versionOf(ifMatch);
+
+			if (!version.isPresent() || repository.deleteIfVersion(id, version.getAsLong()) == 0) {
+				return preconditionFailed(id, ifMatch);
+			}
+		}
 
 		return ResponseEntity.noContent().build();
 	}
+
+	private static ResponseEntity<?> preconditionFailed(long id, String ifMatch) {
+		return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body("Employee " + id + " doesn't match " + ifMatch);
+	}
+
+	/**
+	 * A conditional update found the employee at another version than it expected. That breaks the client's
+	 * {@literal If-Match}, or else someone else's write was committed since the version was read.
+	 */
+	private static ResponseEntity<?> notUpdated(long id, String ifMatch) {
+
+		if (ifMatch != null && !VersionETags.isWildcard(ifMatch)) {
+			return preconditionFailed(id, ifMatch);
+		}
+
+		return changedConcurrently(id);
+	}
+
+	private static ResponseEntity<?> changedConcurrently(Object id) {
+		return ResponseEntity.status(HttpStatus.CONFLICT).body("Employee " + id + " was changed concurrently");
+	}
+
+	/**
+	 * Apply a single {@link EmployeeOperation}. Updates only change the managed {@link Employee}; dirty checking writes
+	 * them together with the inserts when the transaction flushes.
+	 *
+	 * @param index position of the operation in its batch
+	 * @param operation
+	 * @param employees the batch's employees by id, including the ones it created, removed again once deleted
+	 * @param employeesHref base for the links to affected employees, resolved once per batch
+	 * @return
+	 */
+	private EntityModel<EmployeeOperationResult> apply(int index, EmployeeOperation operation,
+			Map<Long, Employee> employees, String employeesHref) {
+
+		if (operation.getOp() == null) {
+			throw new EmployeeBatchException(index, "op must be one of CREATE, UPDATE or DELETE");
+		}
+
+		switch (operation.getOp()) {
+
+			case CREATE:
+
+				Employee created = repository
+						.save(new Employee(operation.getFirstName(), operation.getLastName(), operation.getRole()));
+				employees.put(created.getId(), created);
+
+				return EntityModel.of(
+						new EmployeeOperationResult(index, operation.getOp(), created.getId(), HttpStatus.CREATED.value()),
+						Link.of(employeesHref + "/" + created.getId(), "employee"));
+
+			case UPDATE:
+
+				Employee updated = existing(index, operation, employees);
+				updated.setFirstName(operation.getFirstName());
+				updated.setLastName(operation.getLastName());
+				updated.setRole(operation.getRole());
+
+				return EntityModel.of(
+						new EmployeeOperationResult(index, operation.getOp(), updated.getId(), HttpStatus.OK.value()),
+						Link.of(employeesHref + "/" + updated.getId(), "employee"));
+
+			default:
+
+				Employee deleted = existing(index, operation, employees);
+				employees.remove(deleted.getId());
+				repository.delete(deleted);
+
+				return EntityModel.of(
+						new EmployeeOperationResult(index, operation.getOp(), deleted.getId(), HttpStatus.NO_CONTENT.value()));
+		}
+	}
+
+	private static Employee existing(int index, EmployeeOperation operation, Map<Long, Employee> employees) {
+
+		if (operation.getId() == null) {
+			throw new EmployeeBatchException(index, operation.getOp() + " requires an id");
+		}
+
+		Employee employee = employees.get(operation.getId());
+
+		if (employee == null) {
+			throw new EmployeeBatchException(index, "no employee with id " + operation.getId());
+		}
+
+		if (operation.getVersion() != null && !operation.getVersion().equals(employee.getVersion())) {
+			throw new EmployeeBatchException(index, HttpStatus.PRECONDITION_FAILED,
+					"employee " + operation.getId() + " is no longer at version " + operation.getVersion());
+		}
+
+		return employee;
+	}
+
+	private EntityModel<Employee> toModel(Employee employee) {
+		return toModel(employee, linkTo(methodOn(EmployeeController.class).findAll()).withRel("employees"));
+	}
+
+	/**
+	 * Render a single {@link Employee}. Its update and delete affordances are only added by {@link EmployeeAffordances}
+	 * once it's clear the response will render them.
+	 *
+	 * @param employee
+	 * @param employeesLink link back to the collection, shared by every item of a collection
+	 * @return
+	 */
+	private EntityModel<Employee> toModel(Employee employee, Link employeesLink) {
+
+		Link selfLink = linkTo(methodOn(EmployeeController.class).findOne(employee.getId())).withSelfRel();
+
+		return EntityModel.of(employee, selfLink, employeesLink);
+	}
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of an {@link EmployeeBatch}. {@link Type#CREATE} ignores the {@literal id}, {@link Type#UPDATE} replaces
+ * all properties of the employee with that {@literal id}, just like a {@literal PUT}, and {@link Type#DELETE} only
+ * needs the {@literal id}. The {@literal id} may also be one created earlier in the same batch.
+ * <p>
+ * An update or delete may carry the {@literal version} it is based on, like the {@literal If-Match} header of the
+ * equivalent single request. The batch is then rejected if the employee is at another version.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+class EmployeeOperation {
+
+	enum Type {
+		CREATE, UPDATE, DELETE
+	}
+
+	private Type op;
+	private Long id;
+	private String firstName;
+	private String lastName;
+	private String role;
+	private Long version;
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import org.springframework.hateoas.server.core.Relation;
+
+/**
+ * Outcome of the {@link EmployeeOperation} at {@literal index} in an {@link EmployeeBatch}. {@literal status} is the
+ * HTTP status the equivalent single request would have answered with.
+ */
+@Data
+@AllArgsConstructor
+@Relation(collectionRelation = "results")
+class EmployeeOperationResult {
+
+	private int index;
+	private EmployeeOperation.Type op;
+	private Long id;
+	private int status;
+}
@@ -15,11 +15,47 @@
  */
 package org.springframework.hateoas.examples;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * @author Greg Turnquist
  */
 interface EmployeeRepository extends CrudRepository<Employee, Long> {
 
+	/**
+	 * Replace an employee's properties and bump its version, but only if it's still at {@literal version}. A single
+	 * conditional statement, so concurrent writers never lock each other out.
+	 *
+	 * @return the number of updated rows, {@literal 0} if the employee is gone or has changed since
+	 */
+	@Transactional
+	@Modifying
+	@Query("update Employee e set e.firstName = :firstName, e.lastName = :lastName, e.role = :role, "
+			+ "e.version = e.version + 1 where e.id = :id and e.version = :version")
+	int updateIfVersion(@Param("id") long id, @Param("version") long version, @Param("firstName") String firstName,
+			@Param("lastName") String lastName, @Param("role") String role);
+
+	/**
+	 * Delete an employee, but only if it's still at {@literal version}.
+	 *
+	 * @return the number of deleted rows, {@literal 0} if the employee is gone or has changed since
+	 */
+	@Transactional
+	@Modifying
+	@Query("delete from Employee e where e.id = :id and e.version = :version")
+	int deleteIfVersion(@Param("id") long id, @Param("version") long version);
+
+	/**
+	 * Delete an employee, whatever its version, with a single statement.
+	 *
+	 * @return the number of deleted rows, {@literal 0} if there was no such employee
+	 */
+	@Transactional
+	@Modifying
+	@Query("delete from Employee e where e.id = :id")
+	int deleteIfPresent(@Param("id") long id);
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.hateoas.MediaTypes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Client-side reader for {@link MediaTypes#HAL_FORMS_JSON} collections served with shared templates (see
+ * {@link EmployeeAffordances}).
+ * <p>
+ * In that compact form, the collection's {@literal _templates} also hold the templates of its items, and every embedded
+ * item has a link named after each template that applies to it. {@link #expand(JsonNode)} copies each referenced
+ * template into the item, targeting nothing but the item itself, just like the regular form does. The first reference
+ * becomes the item's {@literal default} template. It then drops the reference links and the shared templates. The
+ * result is the same document the server renders without {@code ?templates=shared}.
+ */
+class SharedTemplatesReader {
+
+	/**
+	 * Request parameter (and value) asking the server for shared templates.
+	 */
+	static final String TEMPLATES_PARAM = "templates";
+	static final String SHARED_TEMPLATES = "shared";
+
+	private static final String DEFAULT_TEMPLATE = "default";
+
+	/**
+	 * Expand a compact collection document in place.
+	 *
+	 * @param document HAL-FORMS collection rendered with shared templates
+	 * @return the same {@literal document}, now carrying the templates on every item
+	 */
+	JsonNode expand(JsonNode document) {
+
+		JsonNode templates = document.path("_templates");
+
+		if (!templates.isObject()) {
+			return document;
+		}
+
+		List<String> sharedTemplates = new ArrayList<>();
+
+		for (JsonNode items : document.path("_embedded")) {
+
+			if (items.isArray()) {
+				for (JsonNode item : items) {
+					expandItem((ObjectNode) item, (ObjectNode) templates, sharedTemplates);
+				}
+			} else if (items.isObject()) {
+				expandItem((ObjectNode) items, (ObjectNode) templates, sharedTemplates);
+			}
+		}
+
+		((ObjectNode) templates).remove(sharedTemplates);
+
+		return document;
+	}
+
+	private static void expandItem(ObjectNode item, ObjectNode templates, List<String> sharedTemplates) {
+
+		JsonNode links = item.path("_links");
+
+		if (!links.isObject()) {
+			return;
+		}
+
+		ObjectNode itemTemplates = item.objectNode();
+
+		for (Iterator<Map.Entry<String, JsonNode>> it = links.fields(); it.hasNext();) {
+
+			Map.Entry<String, JsonNode> link = it.next();
+			String name = link.getKey();
+
+			if (DEFAULT_TEMPLATE.equals(name) || !templates.has(name)) {
+				continue;
+			}
+
+			itemTemplates.set(itemTemplates.size() == 0 ? DEFAULT_TEMPLATE : name, templates.get(name).deepCopy());
+			it.remove();
+
+			if (!sharedTemplates.contains(name)) {
+				sharedTemplates.add(name);
+			}
+		}
+
+		if (itemTemplates.size() > 0) {
+			item.set("_templates", itemTemplates);
+		}
+	}
+}
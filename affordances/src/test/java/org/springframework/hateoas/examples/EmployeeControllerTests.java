@@ -15,6 +15,7 @@
  */
 package org.springframework.hateoas.examples;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.hamcrest.CoreMatchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
@@ -24,6 +25,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -31,11 +34,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.JsonMergePatch;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Greg Turnquist
  */
@@ -117,4 +130,307 @@ public class EmployeeControllerTests {
 				.andExpect(jsonPath("$._links.self.href", is("http://localhost/employees/1")))
 				.andExpect(jsonPath("$._links.employees.href", is("http://localhost/employees")));
 	}
+
+	@Test
+	public void getAllWithSharedTemplatesShouldDeclareItemTemplatesOnce() throws Exception {
+
+		given(repository.findAll()).willReturn(LongStream.rangeClosed(1, 10) //
+				.mapToObj(id -> new Employee(id, "Frodo", "Baggins", "ring bearer")) //
+				.collect(Collectors.toList()));
+
+		String compact = mvc.perform(get("/employees?templates=shared").accept(MediaTypes.HAL_FORMS_JSON_VALUE)) //
+				.andDo(print()) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaTypes.HAL_FORMS_JSON_VALUE))
+
+				.andExpect(jsonPath("$._embedded.employees[0]._templates").doesNotExist())
+				.andExpect(jsonPath("$._embedded.employees[0]._links.updateEmployee.href", is("http://localhost/employees/1")))
+				.andExpect(jsonPath("$._embedded.employees[0]._links.deleteEmployee.href", is("http://localhost/employees/1")))
+				.andExpect(jsonPath("$._embedded.employees[1]._templates").doesNotExist())
+				.andExpect(jsonPath("$._embedded.employees[1]._links.updateEmployee.href", is("http://localhost/employees/2")))
+
+				.andExpect(jsonPath("$._templates.default.method", is("post")))
+				.andExpect(jsonPath("$._templates.updateEmployee.method", is("put")))
+				.andExpect(jsonPath("$._templates.updateEmployee.properties[0].name", is("firstName")))
+				.andExpect(jsonPath("$._templates.deleteEmployee.method", is("delete")))
+				.andReturn().getResponse().getContentAsString();
+
+		String verbose = mvc.perform(get("/employees").accept(MediaTypes.HAL_FORMS_JSON_VALUE)) //
+				.andReturn().getResponse().getContentAsString();
+
+		ObjectMapper mapper = new ObjectMapper();
+
+		assertThat(compact.length()).isLessThan(verbose.length());
+		assertThat(new SharedTemplatesReader().expand(mapper.readTree(compact))).isEqualTo(mapper.readTree(verbose));
+	}
+
+	@Test
+	public void sharedTemplatesShouldOnlyBeReferencedWithHalForms() {
+
+		EmployeeAffordances affordances = new EmployeeAffordances();
+		MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/employees");
+		servletRequest.setQueryString("templates=shared");
+		ServletServerHttpRequest request = new ServletServerHttpRequest(servletRequest);
+
+		CollectionModel<EntityModel<Employee>> hal = frodoAlone();
+		affordances.beforeBodyWrite(hal, null, MediaTypes.HAL_JSON, null, request, null);
+
+		assertThat(hal.getContent().iterator().next().getLinks()).containsExactly(Link.of("/employees/1"));
+
+		CollectionModel<EntityModel<Employee>> halForms = frodoAlone();
+		affordances.beforeBodyWrite(halForms, null, MediaTypes.HAL_FORMS_JSON, null, request, null);
+
+		assertThat(halForms.getContent().iterator().next().getLinks()).containsExactly(Link.of("/employees/1"),
+				Link.of("/employees/1", EmployeeAffordances.UPDATE_EMPLOYEE),
+				Link.of("/employees/1", EmployeeAffordances.PATCH_EMPLOYEE),
+				Link.of("/employees/1", EmployeeAffordances.DELETE_EMPLOYEE));
+		assertThat(halForms.getRequiredLink(IanaLinkRelations.SELF).getAffordances()).hasSize(4);
+	}
+
+	@Test
+	public void affordancesShouldOnlyBeBuiltForMediaTypesThatRenderThem() {
+
+		EmployeeAffordances affordances = new EmployeeAffordances();
+		ServletServerHttpRequest request = new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/employees/1"));
+
+		EntityModel<Employee> hal = EntityModel.of(new Employee(1L, "Frodo", "Baggins", "ring bearer"),
+				Link.of("/employees/1"));
+		affordances.beforeBodyWrite(hal, null, MediaTypes.HAL_JSON, null, request, null);
+
+		assertThat(hal.getRequiredLink(IanaLinkRelations.SELF).getAffordances()).isEmpty();
+
+		EntityModel<Employee> halForms = EntityModel.of(new Employee(1L, "Frodo", "Baggins", "ring bearer"),
+				Link.of("/employees/1"));
+		affordances.beforeBodyWrite(halForms, null, MediaTypes.HAL_FORMS_JSON, null, request, null);
+
+		assertThat(halForms.getRequiredLink(IanaLinkRelations.SELF).getAffordances()).hasSize(3);
+	}
+
+	@Test
+	public void patchShouldOnlyChangeTheGivenProperties() throws Exception {
+
+		Employee frodo = new Employee(1L, "Frodo", "Baggins", "ring bearer");
+		frodo.setVersion(3L);
+
+		given(repository.findById(1L)).willReturn(Optional.of(frodo));
+		given(repository.updateIfVersion(1L, 3L, "Frodo", null, "gardener")).willReturn(1);
+
+		mvc.perform(patch("/employees/1") //
+				.contentType(JsonMergePatch.MEDIA_TYPE) //
+				.content("{ \"id\" : 2, \"role\" : \"gardener\", \"lastName\" : null }") //
+				.accept(MediaTypes.HAL_FORMS_JSON_VALUE)) //
+				.andDo(print()) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.ETAG, "\"4\"")) //
+				.andExpect(jsonPath("$.id", is(1))) //
+				.andExpect(jsonPath("$.firstName", is("Frodo"))) //
+				.andExpect(jsonPath("$.lastName", nullValue())) //
+				.andExpect(jsonPath("$.role", is("gardener"))) //
+				.andExpect(jsonPath("$._templates.patchEmployee.method", is("patch"))) //
+				.andExpect(jsonPath("$._templates.patchEmployee.properties[0].name", is("firstName")));
+
+		mvc.perform(patch("/employees/1") //
+				.contentType(JsonMergePatch.MEDIA_TYPE) //
+				.content("[]")) //
+				.andExpect(status().isBadRequest());
+
+		mvc.perform(patch("/employees/1").header(HttpHeaders.IF_MATCH, "\"2\"") //
+				.contentType(JsonMergePatch.MEDIA_TYPE) //
+				.content("{ \"role\" : \"gardener\", \"lastName\" : null }")) //
+				.andExpect(status().isPreconditionFailed());
+
+		// Someone else's write landed between the lookup and the update
+		mvc.perform(patch("/employees/1") //
+				.contentType(JsonMergePatch.MEDIA_TYPE) //
+				.content("{ \"role\" : \"cook\" }")) //
+				.andExpect(status().isConflict());
+
+		given(repository.findById(3L)).willReturn(Optional.empty());
+
+		mvc.perform(patch("/employees/3") //
+				.contentType(JsonMergePatch.MEDIA_TYPE) //
+				.content("{ \"role\" : \"gardener\" }")) //
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void batchShouldApplyAllOperationsAndReportEachResult() throws Exception {
+
+		Employee frodo = new Employee(1L, "Frodo", "Baggins", "ring bearer");
+		Employee bilbo = new Employee(2L, "Bilbo", "Baggins", "burglar");
+
+		given(repository.findAllById(any())).willReturn(Arrays.asList(frodo, bilbo));
+		given(repository.save(any())).willAnswer(invocation -> {
+
+			Employee employee = invocation.getArgument(0);
+			employee.setId(3L);
+			return employee;
+		});
+
+		mvc.perform(get("/employees/batch").accept(MediaTypes.HAL_FORMS_JSON_VALUE)) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._templates.default.method", is("post"))) //
+				.andExpect(jsonPath("$._templates.default.properties[0].name", is("operations"))) //
+				.andExpect(jsonPath("$._links.self.href", is("http://localhost/employees/batch")));
+
+		mvc.perform(post("/employees/batch") //
+				.contentType(MediaType.APPLICATION_JSON) //
+				.content("{ \"operations\" : [" //
+						+ "{ \"op\" : \"CREATE\", \"firstName\" : \"Samwise\", \"lastName\" : \"Gamgee\", \"role\" : \"gardener\" }," //
+						+ "{ \"op\" : \"UPDATE\", \"id\" : 1, \"firstName\" : \"Frodo\", \"lastName\" : \"Baggins\", \"role\" : \"hero\" }," //
+						+ "{ \"op\" : \"DELETE\", \"id\" : 2 } ] }") //
+				.accept(MediaTypes.HAL_FORMS_JSON_VALUE)) //
+				.andDo(print()) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.results[0].op", is("CREATE"))) //
+				.andExpect(jsonPath("$._embedded.results[0].id", is(3))) //
+				.andExpect(jsonPath("$._embedded.results[0].status", is(201))) //
+				.andExpect(jsonPath("$._embedded.results[0]._links.employee.href", is("http://localhost/employees/3"))) //
+				.andExpect(jsonPath("$._embedded.results[1].id", is(1))) //
+				.andExpect(jsonPath("$._embedded.results[1].status", is(200))) //
+				.andExpect(jsonPath("$._embedded.results[2].id", is(2))) //
+				.andExpect(jsonPath("$._embedded.results[2].status", is(204))) //
+				.andExpect(jsonPath("$._embedded.results[2]._links").doesNotExist()) //
+				.andExpect(jsonPath("$._links.employees.href", is("http://localhost/employees")));
+
+		assertThat(frodo.getRole()).isEqualTo("hero");
+		verify(repository).delete(bilbo);
+
+		mvc.perform(post("/employees/batch") //
+				.contentType(MediaType.APPLICATION_JSON) //
+				.content("{ \"operations\" : [ { \"op\" : \"DELETE\", \"id\" : 2 }, { \"op\" : \"DELETE\", \"id\" : 2 } ] }")) //
+				.andExpect(status().isBadRequest()) //
+				.andExpect(content().string("Operation 1: no employee with id 2"));
+	}
+
+	@Test
+	public void batchShouldFindEmployeesItCreatedAndCheckVersions() throws Exception {
+
+		Employee frodo = new Employee(1L, "Frodo", "Baggins", "ring bearer");
+		frodo.setVersion(3L);
+
+		given(repository.findAllById(any())).willReturn(Arrays.asList(frodo));
+		given(repository.save(any())).willAnswer(invocation -> {
+
+			Employee employee = invocation.getArgument(0);
+			employee.setId(50L);
+			employee.setVersion(0L);
+			return employee;
+		});
+
+		mvc.perform(post("/employees/batch") //
+				.contentType(MediaType.APPLICATION_JSON) //
+				.content("{ \"operations\" : [" //
+						+ "{ \"op\" : \"CREATE\", \"firstName\" : \"Samwise\", \"lastName\" : \"Gamgee\", \"role\" : \"cook\" }," //
+						+ "{ \"op\" : \"UPDATE\", \"id\" : 50, \"firstName\" : \"Samwise\", \"lastName\" : \"Gamgee\", \"role\" : \"gardener\", \"version\" : 0 }," //
+						+ "{ \"op\" : \"UPDATE\", \"id\" : 1, \"firstName\" : \"Frodo\", \"lastName\" : \"Baggins\", \"role\" : \"hero\", \"version\" : 3 } ] }")) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.results[1].id", is(50))) //
+				.andExpect(jsonPath("$._embedded.results[1].status", is(200))) //
+				.andExpect(jsonPath("$._embedded.results[2].status", is(200)));
+
+		assertThat(frodo.getRole()).isEqualTo("hero");
+
+		mvc.perform(post("/employees/batch") //
+				.contentType(MediaType.APPLICATION_JSON) //
+				.content("{ \"operations\" : [" //
+						+ "{ \"op\" : \"CREATE\", \"firstName\" : \"Samwise\", \"lastName\" : \"Gamgee\", \"role\" : \"cook\" }," //
+						+ "{ \"op\" : \"DELETE\", \"id\" : 50 }," //
+						+ "{ \"op\" : \"DELETE\", \"id\" : 1, \"version\" : 2 } ] }")) //
+				.andExpect(status().isPreconditionFailed()) //
+				.andExpect(content().string("Operation 2: employee 1 is no longer at version 2"));
+	}
+
+	@Test
+	public void collectionShouldShowTheVersionsABatchIsBasedOn() throws Exception {
+
+		Employee frodo = new Employee(1L, "Frodo", "Baggins", "ring bearer");
+		frodo.setVersion(3L);
+
+		given(repository.findAll()).willReturn(Arrays.asList(frodo));
+		given(repository.findAllById(any())).willReturn(Arrays.asList(frodo));
+
+		mvc.perform(get("/employees").accept(MediaTypes.HAL_FORMS_JSON_VALUE)) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.employees[0].version", is(3))) //
+				.andExpect(jsonPath("$._embedded.employees[0]._templates.default.properties[4].name", is("version")))
+				.andExpect(jsonPath("$._embedded.employees[0]._templates.default.properties[4].readOnly", is(true)));
+
+		mvc.perform(post("/employees/batch") //
+				.contentType(MediaType.APPLICATION_JSON) //
+				.content("{ \"operations\" : [ { \"op\" : \"DELETE\", \"id\" : 1, \"version\" : 3 } ] }")) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.results[0].status", is(204)));
+
+		verify(repository).delete(frodo);
+	}
+
+	@Test
+	public void putWithIfMatchShouldOnlyUpdateTheVersionItWasBasedOn() throws Exception {
+
+		Employee frodo = new Employee(1L, "Frodo", "Baggins", "ring bearer");
+		frodo.setVersion(3L);
+
+		given(repository.findById(1L)).willReturn(Optional.of(frodo));
+		given(repository.updateIfVersion(1L, 3L, "Frodo", "Baggins", "hero")).willReturn(1);
+
+		mvc.perform(get("/employees/1").accept(MediaTypes.HAL_FORMS_JSON_VALUE)) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+
+		String hero = "{ \"firstName\" : \"Frodo\", \"lastName\" : \"Baggins\", \"role\" : \"hero\" }";
+
+		mvc.perform(put("/employees/1").contentType(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_MATCH, "\"3\"")
+				.content(hero)) //
+				.andExpect(status().isNoContent()) //
+				.andExpect(header().string(HttpHeaders.ETAG, "\"4\"")) //
+				.andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/employees/1"));
+
+		mvc.perform(put("/employees/1").contentType(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_MATCH, "\"2\"")
+				.content(hero)) //
+				.andExpect(status().isPreconditionFailed());
+
+		mvc.perform(put("/employees/1").contentType(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_MATCH, "W/\"3\"")
+				.content(hero)) //
+				.andExpect(status().isPreconditionFailed());
+
+		given(repository.deleteIfVersion(1L, 4L)).willReturn(1);
+
+		mvc.perform(delete("/employees/1").header(HttpHeaders.IF_MATCH, "\"3\"")) //
+				.andExpect(status().isPreconditionFailed());
+
+		mvc.perform(delete("/employees/1").header(HttpHeaders.IF_MATCH, "\"4\"")) //
+				.andExpect(status().isNoContent());
+
+		// Without If-Match, the update is conditional on the version just read
+		mvc.perform(put("/employees/1").contentType(MediaType.APPLICATION_JSON).content(hero)) //
+				.andExpect(status().isNoContent()) //
+				.andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+		mvc.perform(put("/employees/1").contentType(MediaType.APPLICATION_JSON)
+				.content("{ \"firstName\" : \"Frodo\", \"lastName\" : \"Baggins\", \"role\" : \"cook\" }")) //
+				.andExpect(status().isConflict());
+
+		given(repository.deleteIfPresent(1L)).willReturn(1);
+
+		mvc.perform(delete("/employees/1").header(HttpHeaders.IF_MATCH, "*")) //
+				.andExpect(status().isNoContent());
+
+		mvc.perform(delete("/employees/2").header(HttpHeaders.IF_MATCH, "*")) //
+				.andExpect(status().isPreconditionFailed());
+
+		mvc.perform(delete("/employees/2")) //
+				.andExpect(status().isNotFound());
+
+		verify(repository, never()).existsById(any());
+		verify(repository, never()).deleteById(any());
+	}
+
+	private static CollectionModel<EntityModel<Employee>> frodoAlone() {
+
+		EntityModel<Employee> frodo = EntityModel.of(new Employee(1L, "Frodo", "Baggins", "ring bearer"),
+				Link.of("/employees/1"));
+
+		return CollectionModel.of(Arrays.asList(frodo), Link.of("/employees"));
+	}
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Recorder;
+
+/**
+ * An open load model: requests start at a fixed rate, whether or not the earlier ones have finished, the way
+ * independent browsers would send them. A slow response doesn't hold back the next request (which a closed loop of
+ * threads would do, and thereby hide the slowness). Each latency is taken from when the request was due, not from when
+ * it actually went out, so the harness falling behind counts against the result as well.
+ */
+class ConstantArrivalRate {
+
+	private final double rate;
+	private final Duration timeout;
+
+	/**
+	 * @param rate requests per second
+	 * @param timeout after which a request counts as an error
+	 */
+	ConstantArrivalRate(double rate, Duration timeout) {
+
+		this.rate = rate;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Send {@literal GET} requests to {@literal target} for {@literal duration}, then wait for the last ones to finish.
+	 * Those that haven't by then count as errors.
+	 *
+	 * @param hop what to call it in the report
+	 */
+	HopStatistics run(String hop, URI target, Duration duration) throws InterruptedException {
+
+		ExecutorService requests = Executors.newCachedThreadPool(runnable -> {
+
+			Thread thread = new Thread(runnable, "load");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		Recorder latencies = new Recorder(3);
+		AtomicLong errors = new AtomicLong();
+		AtomicLong running = new AtomicLong();
+
+		long interval = (long) (TimeUnit.SECONDS.toNanos(1) / this.rate);
+		long start = System.nanoTime();
+		long end = start + duration.toNanos();
+
+		for (long due = start; due < end; due += interval) {
+
+			LockSupport.parkNanos(due - System.nanoTime());
+
+			long scheduled = due;
+
+			running.incrementAndGet();
+			requests.execute(() -> {
+
+				if (!send(target)) {
+					errors.incrementAndGet();
+				}
+
+				latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled));
+				running.decrementAndGet();
+			});
+		}
+
+		requests.shutdown();
+
+		if (!requests.awaitTermination(this.timeout.toMillis() + 1_000, TimeUnit.MILLISECONDS)) {
+
+			// Whatever is still running by now has blown the timeout, but would never show up in the results.
+			errors.addAndGet(running.get());
+			requests.shutdownNow();
+		}
+
+		return new HopStatistics(hop, latencies.getIntervalHistogram(), errors.get(),
+				Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	/**
+	 * @return whether the request succeeded, after reading the whole response like a browser would
+	 */
+	private boolean send(URI target) {
+
+		try {
+			HttpURLConnection connection = (HttpURLConnection) target.toURL().openConnection();
+			connection.setConnectTimeout((int) this.timeout.toMillis());
+			connection.setReadTimeout((int) this.timeout.toMillis());
+
+			int status = connection.getResponseCode();
+
+			try (InputStream body = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+
+				byte[] buffer = new byte[8192];
+
+				while (body != null && body.read(buffer) != -1) {
+					// Drain, so the connection can be reused
+				}
+			}
+
+			return status < 400;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+}
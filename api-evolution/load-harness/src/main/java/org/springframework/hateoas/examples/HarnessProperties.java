@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * What to start and how hard to drive it, e.g. {@literal --harness.client=new --harness.server=new --harness.rate=50}.
+ */
+@Data
+@ConfigurationProperties("harness")
+class HarnessProperties {
+
+	/**
+	 * The api-evolution directory, where the tiers' jars were built.
+	 */
+	private String modules = ".";
+
+	/**
+	 * Which server to start, {@literal original} or {@literal new}.
+	 */
+	private String server = "original";
+
+	/**
+	 * Which client to start, {@literal original} or {@literal new}.
+	 */
+	private String client = "original";
+
+	/**
+	 * Extra arguments for the server, e.g. to try out a setting.
+	 */
+	private List<String> serverArgs = new ArrayList<>();
+
+	/**
+	 * Extra arguments for the client, e.g. {@literal --remote-service.hedging=false}.
+	 */
+	private List<String> clientArgs = new ArrayList<>();
+
+	/**
+	 * How many employees to create on the server before the run.
+	 */
+	private int employees = 1_000;
+
+	/**
+	 * The client page to request.
+	 */
+	private String path = "/";
+
+	/**
+	 * Requests started per second, whether or not earlier ones have finished.
+	 */
+	private double rate = 20;
+
+	/**
+	 * How long to drive load before measuring.
+	 */
+	private Duration warmup = Duration.ofSeconds(10);
+
+	/**
+	 * How long to measure.
+	 */
+	private Duration duration = Duration.ofSeconds(30);
+
+	/**
+	 * How long a single request may take before it counts as an error.
+	 */
+	private Duration timeout = Duration.ofSeconds(10);
+
+	/**
+	 * How long a tier may take to start.
+	 */
+	private Duration startup = Duration.ofMinutes(2);
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency, throughput and errors of the requests over one hop, e.g. from the browser to the client.
+ */
+class HopStatistics {
+
+	private static final String FORMAT = "%-40s %9s %8s %10s %9s %9s %9s %9s%n";
+
+	private final String hop;
+	private final Histogram latencies;
+	private final long errors;
+	private final Duration window;
+
+	/**
+	 * @param hop what to call it in the report
+	 * @param latencies in microseconds
+	 * @param errors how many of the requests failed
+	 * @param window how long it took to serve them
+	 */
+	HopStatistics(String hop, Histogram latencies, long errors, Duration window) {
+
+		this.hop = hop;
+		this.latencies = latencies;
+		this.errors = errors;
+		this.window = window;
+	}
+
+	/**
+	 * Summarize the requests a tier logged, one hop per kind of request.
+	 *
+	 * @param tier which tier logged them
+	 * @param requests from {@link Tier#requestsSince(long)}
+	 * @param window how long the measurement ran
+	 */
+	static List<HopStatistics> of(String tier, List<Tier.AccessLogEntry> requests, Duration window) {
+
+		Map<String, Histogram> latencies = new TreeMap<>();
+		Map<String, Long> errors = new TreeMap<>();
+
+		for (Tier.AccessLogEntry request : requests) {
+
+			latencies.computeIfAbsent(request.getRequest(), key -> new Histogram(3)) //
+					.recordValue(request.getMillis() * 1_000);
+			errors.merge(request.getRequest(), request.isError() ? 1L : 0L, Long::sum);
+		}
+
+		List<HopStatistics> hops = new ArrayList<>();
+
+		latencies.forEach((request, histogram) -> hops
+				.add(new HopStatistics(tier + " " + request, histogram, errors.get(request), window)));
+
+		return hops;
+	}
+
+	static String header() {
+		return String.format(FORMAT, "hop", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+	}
+
+	@Override
+	public String toString() {
+
+		long requests = this.latencies.getTotalCount();
+
+		return String.format(FORMAT, this.hop, requests, //
+				String.format("%.1f%%", requests == 0 ? 0 : 100.0 * this.errors / requests), //
+				String.format("%.1f", requests * 1_000.0 / this.window.toMillis()), //
+				millis(this.latencies.getValueAtPercentile(50)), //
+				millis(this.latencies.getValueAtPercentile(90)), //
+				millis(this.latencies.getValueAtPercentile(99)), //
+				millis(this.latencies.getMaxValue()));
+	}
+
+	private static String millis(long micros) {
+		return String.format("%.1f", micros / 1_000.0);
+	}
+}
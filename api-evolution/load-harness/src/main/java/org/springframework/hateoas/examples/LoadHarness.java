@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * The run itself: start the server and seed it, start the client pointed at it, warm both up under load, then measure.
+ * The report has one line per hop:
+ * <ul>
+ * <li>{@literal browser -> client}, timed by the harness, from when each request was due until its page was read,</li>
+ * <li>{@literal client}, the time the client took to serve each page, as logged by its Tomcat,</li>
+ * <li>{@literal client -> server}, the time the server took for each kind of request the client sent it, including
+ * the H2 queries, as logged by its Tomcat.</li>
+ * </ul>
+ * Requests the client answered from its caches don't show up in the last one. The report goes to stdout, progress is
+ * logged to stderr.
+ */
+@Component
+class LoadHarness implements CommandLineRunner {
+
+	private static final Logger LOG = LoggerFactory.getLogger(LoadHarness.class);
+
+	private final HarnessProperties properties;
+
+	LoadHarness(HarnessProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public void run(String... args) throws Exception {
+
+		Path modules = Paths.get(properties.getModules());
+		Path workDirectory = Files.createTempDirectory("load-harness");
+
+		try (Tier server = Tier.start(modules, properties.getServer(), "server", workDirectory,
+				properties.getServerArgs())) {
+
+			server.awaitReady("/", properties.getStartup());
+			LOG.info("Started {} at {}", server.getName(), server.uri(""));
+
+			seed(server);
+
+			List<String> clientArgs = new ArrayList<>();
+			clientArgs.add("--remote-service.instances=" + server.uri(""));
+			clientArgs.addAll(properties.getClientArgs());
+
+			try (Tier client = Tier.start(modules, properties.getClient(), "client", workDirectory, clientArgs)) {
+
+				client.awaitReady("/actuator/health", properties.getStartup());
+				LOG.info("Started {} at {}", client.getName(), client.uri(""));
+
+				ConstantArrivalRate load = new ConstantArrivalRate(properties.getRate(), properties.getTimeout());
+				String hop = "browser -> client GET " + properties.getPath();
+
+				LOG.info("Warming up for {} at {} requests/s", properties.getWarmup(), properties.getRate());
+				load.run(hop, client.uri(properties.getPath()), properties.getWarmup());
+
+				long clientMark = client.accessLogMark();
+				long serverMark = server.accessLogMark();
+
+				LOG.info("Measuring for {} at {} requests/s", properties.getDuration(), properties.getRate());
+				HopStatistics browser = load.run(hop, client.uri(properties.getPath()), properties.getDuration());
+				Duration window = properties.getDuration();
+
+				System.out.println();
+				System.out.print(HopStatistics.header());
+				System.out.print(browser);
+				HopStatistics.of("client", client.requestsSince(clientMark), window).forEach(System.out::print);
+				HopStatistics.of("client -> server", server.requestsSince(serverMark), window).forEach(System.out::print);
+				System.out.println();
+
+				LOG.info("Logs are in {}", workDirectory);
+			}
+		}
+	}
+
+	/**
+	 * Create the employees the run works with. Both servers accept a {@literal name}.
+	 */
+	private void seed(Tier server) {
+
+		RestTemplate rest = new RestTemplate();
+
+		for (int i = 1; i <= properties.getEmployees(); i++) {
+
+			Map<String, String> employee = new HashMap<>();
+			employee.put("name", "Employee " + i);
+			employee.put("role", "Role " + (i % 10));
+
+			rest.postForEntity(server.uri("/employees"), employee, Void.class);
+		}
+
+		LOG.info("Created {} employees", properties.getEmployees());
+	}
+}
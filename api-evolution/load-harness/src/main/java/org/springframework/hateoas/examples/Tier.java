@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One of the api-evolution applications, started from its jar in a JVM of its own on a free port. Tomcat writes an
+ * access log with the time each request took, which is how the harness sees the hops it can't time itself.
+ */
+class Tier implements Closeable {
+
+	private static final String ACCESS_LOG_PATTERN = "%m %U %s %D";
+
+	private final String name;
+	private final Process process;
+	private final int port;
+	private final Path accessLog;
+	private final Path output;
+
+	private Tier(String name, Process process, int port, Path accessLog, Path output) {
+
+		this.name = name;
+		this.process = process;
+		this.port = port;
+		this.accessLog = accessLog;
+		this.output = output;
+	}
+
+	/**
+	 * Start {@literal <flavor>-<kind>}, e.g. {@literal original-server}, built in {@literal modules}.
+	 *
+	 * @param modules the api-evolution directory
+	 * @param flavor {@literal original} or {@literal new}
+	 * @param kind {@literal server} or {@literal client}
+	 * @param workDirectory where to put the logs
+	 * @param args extra command line arguments
+	 */
+	static Tier start(Path modules, String flavor, String kind, Path workDirectory, List<String> args)
+			throws IOException {
+
+		String name = flavor + "-" + kind;
+		int port = freePort();
+		Path logs = Files.createDirectories(workDirectory.resolve(name));
+
+		List<String> command = new ArrayList<>(Arrays.asList( //
+				Paths.get(System.getProperty("java.home"), "bin", "java").toString(), //
+				"-jar", jarOf(modules.resolve(name), name).toString(), //
+				"--server.port=" + port, //
+				"--server.tomcat.accesslog.enabled=true", //
+				"--server.tomcat.accesslog.directory=" + logs.toAbsolutePath(), //
+				"--server.tomcat.accesslog.prefix=access", //
+				"--server.tomcat.accesslog.suffix=.log", //
+				"--server.tomcat.accesslog.rotate=false", //
+				"--server.tomcat.accesslog.buffered=false", //
+				"--server.tomcat.accesslog.pattern=" + ACCESS_LOG_PATTERN));
+		command.addAll(args);
+
+		Path output = logs.resolve("output.log");
+		Process process = new ProcessBuilder(command) //
+				.redirectErrorStream(true) //
+				.redirectOutput(output.toFile()) //
+				.start();
+
+		return new Tier(name, process, port, logs.resolve("access.log"), output);
+	}
+
+	URI uri(String path) {
+		return URI.create("http://localhost:" + this.port + path);
+	}
+
+	/**
+	 * Wait until {@literal path} answers with anything but a server error.
+	 */
+	void awaitReady(String path, Duration timeout) throws IOException, InterruptedException {
+
+		long deadline = System.nanoTime() + timeout.toNanos();
+
+		while (System.nanoTime() < deadline) {
+
+			if (!this.process.isAlive()) {
+				throw new IllegalStateException(this.name + " exited, see " + this.output);
+			}
+
+			try {
+				HttpURLConnection connection = (HttpURLConnection) uri(path).toURL().openConnection();
+
+				if (connection.getResponseCode() < 500) {
+					return;
+				}
+			} catch (IOException e) {
+				// Not listening yet
+			}
+
+			Thread.sleep(500);
+		}
+
+		throw new IllegalStateException(this.name + " didn't start within " + timeout + ", see " + this.output);
+	}
+
+	/**
+	 * @return a position in the access log, to read the requests logged after it with {@link #requestsSince(long)}
+	 */
+	long accessLogMark() throws IOException {
+		return Files.exists(this.accessLog) ? Files.readAllLines(this.accessLog, StandardCharsets.UTF_8).size() : 0;
+	}
+
+	/**
+	 * @param mark from {@link #accessLogMark()}
+	 * @return the requests this tier served since then
+	 */
+	List<AccessLogEntry> requestsSince(long mark) throws IOException {
+
+		List<String> lines = Files.readAllLines(this.accessLog, StandardCharsets.UTF_8);
+		List<AccessLogEntry> entries = new ArrayList<>();
+
+		for (String line : lines.subList((int) mark, lines.size())) {
+			entries.add(AccessLogEntry.parse(line));
+		}
+
+		return entries;
+	}
+
+	String getName() {
+		return this.name;
+	}
+
+	@Override
+	public void close() {
+
+		this.process.destroy();
+
+		try {
+			if (!this.process.waitFor(30, TimeUnit.SECONDS)) {
+				this.process.destroyForcibly();
+			}
+		} catch (InterruptedException e) {
+
+			this.process.destroyForcibly();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Path jarOf(Path module, String name) throws IOException {
+
+		try (DirectoryStream<Path> jars = Files.newDirectoryStream(module.resolve("target"),
+				"spring-hateoas-examples-" + name + "-*.jar")) {
+
+			for (Path jar : jars) {
+				return jar;
+			}
+		}
+
+		throw new IllegalStateException("No jar in " + module.resolve("target") + ", build it with mvn package first");
+	}
+
+	private static int freePort() throws IOException {
+
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	/**
+	 * One line of the access log, as written by {@value #ACCESS_LOG_PATTERN}.
+	 */
+	static final class AccessLogEntry {
+
+		private final String request;
+		private final int status;
+		private final long millis;
+
+		private AccessLogEntry(String request, int status, long millis) {
+
+			this.request = request;
+			this.status = status;
+			this.millis = millis;
+		}
+
+		static AccessLogEntry parse(String line) {
+
+			String[] fields = line.trim().split(" ");
+
+			// Collapse ids, so /employees/1 and /employees/2 are reported together.
+			String path = fields[1].replaceAll("/\\d+(?=/|$)", "/{id}");
+
+			return new AccessLogEntry(fields[0] + " " + path, Integer.parseInt(fields[2]), Long.parseLong(fields[3]));
+		}
+
+		String getRequest() {
+			return this.request;
+		}
+
+		boolean isError() {
+			return this.status >= 400;
+		}
+
+		long getMillis() {
+			return this.millis;
+		}
+	}
+}
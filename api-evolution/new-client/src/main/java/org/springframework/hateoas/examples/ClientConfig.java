@@ -15,10 +15,28 @@
  */
 package org.springframework.hateoas.examples;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.boot.web.client.RestTemplateCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.LinkDiscoveryCache;
+import org.springframework.hateoas.LoadBalancedExchangeFilterFunction;
+import org.springframework.hateoas.LoadBalancedRequestFactory;
+import org.springframework.hateoas.PooledHttpTransport;
+import org.springframework.hateoas.ReactiveTraverson;
+import org.springframework.hateoas.RenderedFragmentCache;
+import org.springframework.hateoas.config.HypermediaWebClientConfigurer;
 import org.springframework.hateoas.config.HypermediaRestTemplateConfigurer;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * @author Greg Turnquist
@@ -32,4 +50,71 @@ public class ClientConfig {
 			configurer.registerHypermediaTypes(restTemplate);
 		};
 	}
+
+	/**
+	 * Share one pool of keep-alive connections to the remote service between all {@link RestTemplate}s, and report its
+	 * metrics. Left to itself, {@link RestTemplateBuilder} would create a new pool for each {@link RestTemplate}.
+	 */
+	@Bean(destroyMethod = "close")
+	PooledHttpTransport pooledHttpTransport(MeterRegistry registry) {
+		return new PooledHttpTransport("remote-service", registry);
+	}
+
+	/**
+	 * Spread the requests to the remote service over its instances, e.g.
+	 * {@literal --remote-service.instances=http://localhost:9000,http://localhost:9001}, and hedge slow reads unless
+	 * {@literal remote-service.hedging=false}. It sends through the pool, bypassing the cache, which sits in front of
+	 * it instead.
+	 */
+	@Bean
+	LoadBalancedRequestFactory loadBalancedRequestFactory(PooledHttpTransport transport,
+			@Value("${remote-service.instances:" + HomeController.REMOTE_SERVICE_ROOT_URI + "}") List<URI> instances,
+			@Value("${remote-service.hedging:true}") boolean hedging) {
+
+		return new LoadBalancedRequestFactory(URI.create(HomeController.REMOTE_SERVICE_ROOT_URI), () -> instances,
+				transport.uncachedRequestFactory(), hedging);
+	}
+
+	/**
+	 * Answer from the HTTP cache where possible, keyed on the remote service's URIs, and load balance the rest.
+	 */
+	@Bean
+	RestTemplateCustomizer pooledRestTemplateCustomizer(PooledHttpTransport transport,
+			LoadBalancedRequestFactory loadBalancedRequestFactory) {
+
+		ClientHttpRequestFactory requestFactory = transport.requestFactory(loadBalancedRequestFactory);
+
+		return restTemplate -> restTemplate.setRequestFactory(requestFactory);
+	}
+
+	/**
+	 * Remember the links found by hopping from the remote service's root for a minute, then revalidate them.
+	 */
+	@Bean
+	LinkDiscoveryCache linkDiscoveryCache(RestTemplateBuilder restTemplateBuilder) {
+		return new LinkDiscoveryCache(restTemplateBuilder.build(), Duration.ofMinutes(1));
+	}
+
+	/**
+	 * Traverse the remote service without blocking, with up to 8 requests in flight per fan-out, spread over the same
+	 * instances as the {@link RestTemplate}s' requests.
+	 */
+	@Bean
+	ReactiveTraverson reactiveTraverson(WebClient.Builder webClientBuilder, HypermediaWebClientConfigurer configurer,
+			LoadBalancedRequestFactory loadBalancedRequestFactory) {
+
+		WebClient webClient = configurer.registerHypermediaTypes(webClientBuilder) //
+				.filter(new LoadBalancedExchangeFilterFunction(loadBalancedRequestFactory)) //
+				.build();
+
+		return new ReactiveTraverson(webClient, 8);
+	}
+
+	/**
+	 * Keep the employee table rendered from the remote collection until the collection's {@literal ETag} changes.
+	 */
+	@Bean
+	RenderedFragmentCache renderedFragmentCache(RestTemplateBuilder restTemplateBuilder, MeterRegistry registry) {
+		return new RenderedFragmentCache(restTemplateBuilder.build(), 16, "employees", registry);
+	}
 }
@@ -21,12 +21,15 @@ import lombok.NoArgsConstructor;
 import java.util.Arrays;
 import java.util.Optional;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 
 import org.springframework.util.StringUtils;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * An updated domain object where {@literal name} has been replaced by {@literal firstName} and {@literal} lastName. To
  * easy migration, we need to support the old {@literal name} field with a getter and a setter.
@@ -43,6 +46,12 @@ class Employee {
 	private String lastName;
 	private String role;
 
+	/**
+	 * The original server's column, still there for the rows it wrote, until {@link NameBackfill} has split all of them
+	 * into {@literal firstName} and {@literal lastName}.
+	 */
+	@JsonIgnore @Column(name = "name") private String legacyName;
+
 	Employee(String firstName, String lastName, String role) {
 
 		this.firstName = firstName;
@@ -55,12 +64,15 @@ class Employee {
 	}
 
 	/**
-	 * Just merge {@literal firstName} and {@literal lastName} together.
+	 * Just merge {@literal firstName} and {@literal lastName} together. Rows the original server wrote that haven't been
+	 * backfilled yet only have the {@literal name} it stored.
 	 *
 	 * @return
 	 */
 	public String getName() {
-		return this.firstName + " " + this.lastName;
+		return this.firstName == null && this.legacyName != null //
+				? this.legacyName //
+				: this.firstName + " " + this.lastName;
 	}
 
 	/**
@@ -17,9 +17,15 @@ package org.springframework.hateoas.examples;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -42,8 +48,11 @@ class EmployeeController {
 		this.assembler = assembler;
 	}
 
+	/**
+	 * The root rarely changes, so clients may keep it for a minute, and another minute while they revalidate it.
+	 */
 	@GetMapping("/")
-	public RepresentationModel root() {
+	public ResponseEntity<RepresentationModel> root() {
 
 		RepresentationModel rootResource = new RepresentationModel();
 
@@ -51,12 +60,33 @@ class EmployeeController {
 				linkTo(methodOn(EmployeeController.class).root()).withSelfRel(), //
 				linkTo(methodOn(EmployeeController.class).findAll()).withRel("employees"));
 
-		return rootResource;
+		return ResponseEntity.ok() //
+				.cacheControl(CacheControl.maxAge(1, TimeUnit.MINUTES).staleWhileRevalidate(1, TimeUnit.MINUTES)) //
+				.body(rootResource);
 	}
 
+	/**
+	 * Clients may store the collection, but have to revalidate it with its {@literal ETag} before every use.
+	 */
 	@GetMapping("/employees")
-	public CollectionModel<EntityModel<Employee>> findAll() {
-		return assembler.toCollectionModel(repository.findAll());
+	public ResponseEntity<CollectionModel<EntityModel<Employee>>> findAll() {
+
+		return ResponseEntity.ok() //
+				.cacheControl(CacheControl.maxAge(0, TimeUnit.SECONDS).mustRevalidate()) //
+				.body(assembler.toCollectionModel(repository.findAll()));
+	}
+
+	/**
+	 * The same collection a page at a time, e.g. {@literal /employees?size=100}, linked up with {@literal next} and
+	 * {@literal prev}. Without {@literal size}, {@link #findAll()} keeps answering with everything.
+	 */
+	@GetMapping(value = "/employees", params = "size")
+	public ResponseEntity<PagedModel<EntityModel<Employee>>> findPage(Pageable pageable,
+			PagedResourcesAssembler<Employee> pages) {
+
+		return ResponseEntity.ok() //
+				.cacheControl(CacheControl.maxAge(0, TimeUnit.SECONDS).mustRevalidate()) //
+				.body(pages.toModel(repository.findAll(pageable), assembler));
 	}
 
 	@PostMapping("/employees")
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Times the requests clients send, so background work like {@link NameBackfill} can tell when it's getting in their way.
+ * The average weighs recent requests most, and decays while there are none, so an idle server soon reads as
+ * unloaded.
+ */
+@Component
+class ForegroundLatency extends OncePerRequestFilter {
+
+	private static final double EWMA_WEIGHT = 0.3;
+	private static final long EWMA_DECAY = Duration.ofSeconds(2).toNanos();
+
+	private double latency;
+	private long updatedAt = System.nanoTime();
+
+	/**
+	 * @return the recent average
+	 */
+	synchronized Duration current() {
+
+		double decay = Math.exp(-(System.nanoTime() - this.updatedAt) / (double) EWMA_DECAY);
+
+		return Duration.ofNanos((long) (this.latency * decay));
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+
+		long start = System.nanoTime();
+
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			record(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Watching the background work isn't part of the foreground.
+	 */
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return request.getRequestURI().startsWith(NameBackfillController.MIGRATIONS);
+	}
+
+	private synchronized void record(long nanos) {
+
+		this.latency = this.latency == 0 ? nanos : this.latency + EWMA_WEIGHT * (nanos - this.latency);
+		this.updatedAt = System.nanoTime();
+	}
+}
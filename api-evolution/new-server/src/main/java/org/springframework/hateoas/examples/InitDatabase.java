@@ -15,8 +15,10 @@
  */
 package org.springframework.hateoas.examples;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
+import org.springframework.hateoas.SyntheticDataGenerator;
 import org.springframework.stereotype.Component;
 
 /**
@@ -26,9 +28,15 @@ import org.springframework.stereotype.Component;
 class InitDatabase {
 
 	private final EmployeeRepository repository;
+	private final SyntheticDataGenerator data;
+	private final long legacyEmployees;
+
+	InitDatabase(EmployeeRepository repository, SyntheticDataGenerator data,
+			@Value("${migration.legacy-employees:0}") long legacyEmployees) {
 
-	InitDatabase(EmployeeRepository repository) {
 		this.repository = repository;
+		this.data = data;
+		this.legacyEmployees = legacyEmployees;
 	}
 
 	@Bean
@@ -37,7 +45,43 @@ class InitDatabase {
 		return args -> {
 			repository.save(new Employee("Frodo", "Baggins", "ring bearer"));
 			repository.save(new Employee("Bilbo", "Baggins", "burglar"));
+			generateEmployees();
+			generateLegacyEmployees();
 		};
 	}
 
+	/**
+	 * Add as many employees as {@literal synthetic-data.employees} asks for.
+	 */
+	private void generateEmployees() {
+
+		long employees = data.getProperties().getEmployees();
+
+		if (employees == 0) {
+			return;
+		}
+
+		long firstId = data.reserveIds("hibernate_sequence", employees);
+
+		data.insert("INSERT INTO employee (id, first_name, last_name, role) VALUES (?, ?, ?, ?)", employees,
+				(index, random) -> new Object[] { firstId + index, SyntheticDataGenerator.firstName(random),
+						SyntheticDataGenerator.lastName(random), SyntheticDataGenerator.role(random) });
+	}
+
+	/**
+	 * Rows like the original server wrote them, with only a {@literal name}, for {@link NameBackfill} to migrate.
+	 */
+	private void generateLegacyEmployees() {
+
+		if (legacyEmployees == 0) {
+			return;
+		}
+
+		long firstId = data.reserveIds("hibernate_sequence", legacyEmployees);
+
+		data.insert("INSERT INTO employee (id, name, role) VALUES (?, ?, ?)", legacyEmployees,
+				(index, random) -> new Object[] { firstId + index,
+						SyntheticDataGenerator.firstName(random) + " " + SyntheticDataGenerator.lastName(random),
+						SyntheticDataGenerator.role(random) });
+	}
 }
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.Lifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Splits the {@literal name} the original server stored into {@literal firstName} and {@literal lastName}, for all the
+ * rows it wrote, while the new server keeps serving them.
+ * <ul>
+ * <li>The table is walked in chunks of {@literal migration.name-backfill.chunk-size} ids, each bounded by the ids
+ * themselves (keyset), so finding the next chunk is a short index scan however far along the backfill is.</li>
+ * <li>{@literal migration.name-backfill.workers} threads migrate chunks side by side, each in a short transaction of
+ * its own. Only the rows being changed are locked, never the table, and a row someone else already migrated is left
+ * alone.</li>
+ * <li>The highest id below which every chunk is done is kept in {@literal migration_checkpoint}. Stopping, whether with
+ * {@literal DELETE /migrations/name-backfill} or by shutting down, lets the chunks in flight finish. Starting again picks
+ * up at the checkpoint. Chunks that finished beyond it are walked once more, and find nothing left to do.</li>
+ * <li>While the average request takes longer than {@literal migration.name-backfill.latency-target}, the workers wait
+ * twice as long between chunks, up to a second. While it doesn't, they wait a little less each time.</li>
+ * </ul>
+ * Set {@literal migration.name-backfill.enabled=false} to only start it with {@literal POST /migrations/name-backfill}.
+ */
+@Component
+class NameBackfill implements Lifecycle {
+
+	private static final String MIGRATION = "employee-name";
+	private static final long PAUSE_STEP = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long MAX_PAUSE = TimeUnit.SECONDS.toNanos(1);
+
+	private final JdbcTemplate jdbc;
+	private final TransactionTemplate transactions;
+	private final ForegroundLatency foreground;
+	private final boolean enabled;
+	private final int chunkSize;
+	private final int workers;
+	private final long latencyTarget;
+
+	private final AtomicLong pause = new AtomicLong();
+	private final AtomicLong migrated = new AtomicLong();
+	private final Map<Long, Long> finishedChunks = new TreeMap<>();
+
+	private volatile State state = State.NOT_STARTED;
+	private volatile Thread coordinator;
+	private volatile boolean stopping;
+	private volatile long checkpoint;
+	private volatile long migratedBefore;
+	private volatile long startedAt;
+	private volatile long stoppedAt;
+	private volatile String failure;
+
+	NameBackfill(JdbcTemplate jdbc, PlatformTransactionManager transactionManager, ForegroundLatency foreground,
+			@Value("${migration.name-backfill.enabled:true}") boolean enabled,
+			@Value("${migration.name-backfill.chunk-size:1000}") int chunkSize,
+			@Value("${migration.name-backfill.workers:2}") int workers,
+			@Value("${migration.name-backfill.latency-target:50ms}") Duration latencyTarget) {
+
+		this.jdbc = jdbc;
+		this.transactions = new TransactionTemplate(transactionManager);
+		this.foreground = foreground;
+		this.enabled = enabled;
+		this.chunkSize = chunkSize;
+		this.workers = workers;
+		this.latencyTarget = latencyTarget.toNanos();
+	}
+
+	/**
+	 * Wait for the application to be ready, so {@link InitDatabase} has written the rows there are.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void onReady() {
+
+		if (this.enabled) {
+			start();
+		}
+	}
+
+	/**
+	 * Start, or resume from the last checkpoint.
+	 */
+	@Override
+	public synchronized void start() {
+
+		if (isRunning()) {
+			return;
+		}
+
+		this.jdbc.execute("CREATE TABLE IF NOT EXISTS migration_checkpoint (" //
+				+ "migration VARCHAR(64) PRIMARY KEY, last_id BIGINT NOT NULL, migrated BIGINT NOT NULL)");
+
+		List<long[]> checkpoints = this.jdbc.query("SELECT last_id, migrated FROM migration_checkpoint WHERE migration = ?",
+				(row, index) -> new long[] { row.getLong(1), row.getLong(2) }, MIGRATION);
+
+		this.checkpoint = checkpoints.isEmpty() ? 0 : checkpoints.get(0)[0];
+		this.migratedBefore = checkpoints.isEmpty() ? 0 : checkpoints.get(0)[1];
+		this.migrated.set(0);
+		this.finishedChunks.clear();
+		this.failure = null;
+		this.stopping = false;
+		this.startedAt = System.nanoTime();
+		this.state = State.RUNNING;
+
+		this.coordinator = new Thread(this::run, "name-backfill");
+		this.coordinator.setDaemon(true);
+		this.coordinator.start();
+	}
+
+	/**
+	 * Let the chunks in flight finish, and wait for them.
+	 */
+	@Override
+	public void stop() {
+
+		Thread coordinator = this.coordinator;
+
+		if (coordinator == null) {
+			return;
+		}
+
+		// Not by interrupting it, which would close the files of an H2 database it is reading at the time
+		this.stopping = true;
+
+		try {
+			coordinator.join(TimeUnit.SECONDS.toMillis(30));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.state == State.RUNNING;
+	}
+
+	Progress getProgress() {
+
+		long elapsed = (isRunning() ? System.nanoTime() : this.stoppedAt) - this.startedAt;
+		long migrated = this.migrated.get();
+
+		return new Progress(this.state, this.failure, this.migratedBefore + migrated, //
+				this.startedAt == 0 || elapsed <= 0 ? 0 : migrated * 1e9 / elapsed, //
+				this.checkpoint, //
+				TimeUnit.NANOSECONDS.toMillis(this.pause.get()), //
+				this.foreground.current().toMillis());
+	}
+
+	/**
+	 * Hand out the chunks, until there are none left or the backfill is stopped. At most one per worker is in flight.
+	 */
+	private void run() {
+
+		ExecutorService pool = Executors.newFixedThreadPool(this.workers,
+				new CustomizableThreadFactory("name-backfill-worker-"));
+		Semaphore inFlight = new Semaphore(this.workers);
+		State outcome = State.DONE;
+
+		try {
+
+			long from = this.checkpoint;
+
+			while (this.failure == null && !this.stopping) {
+
+				Long to = this.jdbc.queryForObject(
+						"SELECT MAX(id) FROM (SELECT id FROM employee WHERE id > ? ORDER BY id LIMIT ?)", Long.class, from,
+						this.chunkSize);
+
+				if (to == null) {
+					break;
+				}
+
+				inFlight.acquire();
+
+				long chunkFrom = from;
+
+				pool.execute(() -> {
+
+					try {
+						migrate(chunkFrom, to);
+					} catch (RuntimeException e) {
+						this.failure = e.toString();
+					} finally {
+						inFlight.release();
+					}
+				});
+
+				from = to;
+			}
+
+			if (this.stopping) {
+				outcome = State.STOPPED;
+			}
+		} catch (InterruptedException e) {
+			outcome = State.STOPPED;
+		} catch (RuntimeException e) {
+			this.failure = e.toString();
+		} finally {
+
+			pool.shutdown();
+			awaitUninterruptibly(pool);
+
+			this.stoppedAt = System.nanoTime();
+			this.coordinator = null;
+			this.state = this.failure != null ? State.FAILED : outcome;
+		}
+	}
+
+	/**
+	 * Migrate the rows with ids in {@literal (from, to]}, after waiting as long as the foreground asks for.
+	 */
+	private void migrate(long from, long to) {
+
+		try {
+			TimeUnit.NANOSECONDS.sleep(this.pause.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		Integer rows = this.transactions.execute(status -> {
+
+			List<Object[]> updates = this.jdbc.query(
+					"SELECT id, name FROM employee WHERE id > ? AND id <= ? AND first_name IS NULL AND name IS NOT NULL",
+					(row, index) -> {
+
+						Employee employee = new Employee();
+						employee.setName(row.getString(2));
+
+						return new Object[] { employee.getFirstName(), employee.getLastName(), row.getLong(1) };
+					}, from, to);
+
+			// Only where it's still needed, in case the row was changed since it was read
+			return IntStream.of(this.jdbc.batchUpdate(
+					"UPDATE employee SET first_name = ?, last_name = ? WHERE id = ? AND first_name IS NULL", updates)).sum();
+		});
+
+		finished(from, to, rows == null ? 0 : rows);
+		adjustPause();
+	}
+
+	/**
+	 * Advance the checkpoint past every chunk that is finished with all the chunks before it.
+	 */
+	synchronized void finished(long from, long to, int rows) {
+
+		this.migrated.addAndGet(rows);
+		this.finishedChunks.put(from, to);
+
+		long checkpoint = this.checkpoint;
+
+		while (this.finishedChunks.containsKey(checkpoint)) {
+			checkpoint = this.finishedChunks.remove(checkpoint);
+		}
+
+		this.checkpoint = checkpoint;
+
+		this.jdbc.update("MERGE INTO migration_checkpoint KEY (migration) VALUES (?, ?, ?)", MIGRATION, checkpoint,
+				this.migratedBefore + this.migrated.get());
+	}
+
+	/**
+	 * Back off quickly while requests are slow, and come back slowly while they aren't.
+	 */
+	void adjustPause() {
+
+		boolean slow = this.foreground.current().toNanos() > this.latencyTarget;
+
+		this.pause.updateAndGet(pause -> slow //
+				? Math.min(MAX_PAUSE, Math.max(PAUSE_STEP, pause * 2)) //
+				: Math.max(0, pause - PAUSE_STEP));
+	}
+
+	private static void awaitUninterruptibly(ExecutorService pool) {
+
+		boolean interrupted = false;
+
+		while (true) {
+			try {
+				if (pool.awaitTermination(1, TimeUnit.MINUTES)) {
+					break;
+				}
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	enum State {
+		NOT_STARTED, RUNNING, STOPPED, DONE, FAILED
+	}
+
+	/**
+	 * Where the backfill stands.
+	 */
+	@lombok.Value
+	static class Progress {
+
+		State state;
+		String failure;
+		long migrated;
+		double rowsPerSecond;
+		long checkpoint;
+		long pauseMillis;
+		long foregroundLatencyMillis;
+	}
+}
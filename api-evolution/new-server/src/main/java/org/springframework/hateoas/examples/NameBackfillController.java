@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
+
+import org.springframework.hateoas.EntityModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Watch {@link NameBackfill}: how many rows it migrated, how fast, and how far the checkpoint got. {@literal POST}
+ * starts or resumes it, {@literal DELETE} stops it after the chunks in flight.
+ */
+@RestController
+class NameBackfillController {
+
+	static final String MIGRATIONS = "/migrations";
+
+	private final NameBackfill backfill;
+
+	NameBackfillController(NameBackfill backfill) {
+		this.backfill = backfill;
+	}
+
+	@GetMapping(MIGRATIONS + "/name-backfill")
+	public ResponseEntity<EntityModel<NameBackfill.Progress>> progress() {
+
+		return ResponseEntity.ok(EntityModel.of(this.backfill.getProgress(), //
+				linkTo(methodOn(NameBackfillController.class).progress()).withSelfRel()));
+	}
+
+	@PostMapping(MIGRATIONS + "/name-backfill")
+	public ResponseEntity<EntityModel<NameBackfill.Progress>> start() {
+
+		this.backfill.start();
+
+		return progress();
+	}
+
+	@DeleteMapping(MIGRATIONS + "/name-backfill")
+	public ResponseEntity<EntityModel<NameBackfill.Progress>> stop() {
+
+		this.backfill.stop();
+
+		return progress();
+	}
+}
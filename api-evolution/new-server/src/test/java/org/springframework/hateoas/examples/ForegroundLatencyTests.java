@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.time.Duration;
+
+import javax.servlet.FilterChain;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * {@link ForegroundLatency} timing requests that take {@link #REQUEST} each.
+ */
+class ForegroundLatencyTests {
+
+	private static final Duration REQUEST = Duration.ofMillis(50);
+
+	private final ForegroundLatency latency = new ForegroundLatency();
+
+	@Test
+	void anIdleServerShouldReadAsUnloaded() {
+		assertThat(this.latency.current(), is(Duration.ZERO));
+	}
+
+	@Test
+	void requestsShouldRaiseTheAverageWhichThenDecays() throws Exception {
+
+		send("/employees");
+		send("/employees");
+
+		Duration loaded = this.latency.current();
+
+		assertThat(loaded, is(greaterThan(REQUEST.dividedBy(2))));
+
+		Thread.sleep(REQUEST.multipliedBy(4).toMillis());
+
+		assertThat(this.latency.current(), is(lessThan(loaded)));
+	}
+
+	@Test
+	void watchingTheMigrationShouldNotCount() throws Exception {
+
+		send(NameBackfillController.MIGRATIONS + "/name-backfill");
+
+		assertThat(this.latency.current(), is(Duration.ZERO));
+	}
+
+	private void send(String uri) throws Exception {
+
+		FilterChain slow = (request, response) -> {
+			try {
+				Thread.sleep(REQUEST.toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+
+		this.latency.doFilter(new MockHttpServletRequest("GET", uri), new MockHttpServletResponse(), slow);
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link NameBackfill} over rows like the original server wrote them, stopped partway and started again.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.NONE, properties = { "migration.legacy-employees=5000",
+		"migration.name-backfill.enabled=false", "migration.name-backfill.chunk-size=100" })
+class NameBackfillIntegrationTest {
+
+	private static final long LEGACY_EMPLOYEES = 5000;
+
+	@Autowired private NameBackfill backfill;
+	@Autowired private JdbcTemplate jdbc;
+	@MockBean private ForegroundLatency foreground;
+
+	@Test
+	void aStoppedBackfillShouldResumeAtItsCheckpointAndMigrateEveryRowOnce() throws InterruptedException {
+
+		assertThat(count("name IS NOT NULL AND first_name IS NULL"), is(LEGACY_EMPLOYEES));
+
+		// A slow foreground makes the workers pause longer after every chunk, which leaves time to stop them partway.
+		given(this.foreground.current()).willReturn(Duration.ofSeconds(1));
+
+		this.backfill.start();
+		await(progress -> progress.getMigrated() >= 300);
+		this.backfill.stop();
+
+		NameBackfill.Progress stopped = this.backfill.getProgress();
+
+		assertThat(stopped.getState(), is(NameBackfill.State.STOPPED));
+		assertThat(stopped.getMigrated(), is(both(greaterThanOrEqualTo(300L)).and(lessThan(LEGACY_EMPLOYEES))));
+		assertThat(stopped.getPauseMillis(), is(greaterThan(0L)));
+		assertThat(checkpoint(), contains(stopped.getCheckpoint(), stopped.getMigrated()));
+		assertThat(count("name IS NOT NULL AND first_name IS NULL AND id <= " + stopped.getCheckpoint()), is(0L));
+		assertThat(count("name IS NOT NULL AND first_name IS NULL AND id > " + stopped.getCheckpoint()),
+				is(greaterThan(0L)));
+
+		given(this.foreground.current()).willReturn(Duration.ZERO);
+
+		this.backfill.start();
+		await(progress -> progress.getState() != NameBackfill.State.RUNNING);
+
+		NameBackfill.Progress done = this.backfill.getProgress();
+		long lastId = this.jdbc.queryForObject("SELECT MAX(id) FROM employee", Long.class);
+
+		// Chunks that had finished beyond the checkpoint were walked again, and found nothing left to do.
+		assertThat(done.getState(), is(NameBackfill.State.DONE));
+		assertThat(done.getMigrated(), is(LEGACY_EMPLOYEES));
+		assertThat(checkpoint(), contains(lastId, LEGACY_EMPLOYEES));
+		assertThat(count("name IS NOT NULL AND first_name IS NULL"), is(0L));
+		assertThat(count("name IS NOT NULL AND CONCAT(first_name, ' ', last_name) <> name"), is(0L));
+	}
+
+	private List<Long> checkpoint() {
+
+		return this.jdbc.queryForObject("SELECT last_id, migrated FROM migration_checkpoint WHERE migration = ?",
+				(row, index) -> Arrays.asList(row.getLong(1), row.getLong(2)), "employee-name");
+	}
+
+	private long count(String condition) {
+		return this.jdbc.queryForObject("SELECT COUNT(*) FROM employee WHERE " + condition, Long.class);
+	}
+
+	private void await(Predicate<NameBackfill.Progress> condition) throws InterruptedException {
+
+		long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+
+		while (!condition.test(this.backfill.getProgress())) {
+
+			assertThat("Timed out", System.nanoTime() < deadline);
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * {@link NameBackfill}'s bookkeeping, with the database and the foreground stubbed out.
+ */
+class NameBackfillTests {
+
+	private static final String CHECKPOINT = "MERGE INTO migration_checkpoint KEY (migration) VALUES (?, ?, ?)";
+
+	private final JdbcTemplate jdbc = mock(JdbcTemplate.class);
+	private final ForegroundLatency foreground = mock(ForegroundLatency.class);
+	private final NameBackfill backfill = new NameBackfill(this.jdbc, mock(PlatformTransactionManager.class),
+			this.foreground, false, 100, 2, Duration.ofMillis(50));
+
+	@BeforeEach
+	void setUp() {
+		given(this.foreground.current()).willReturn(Duration.ZERO);
+	}
+
+	@Test
+	void theCheckpointShouldOnlyPassChunksThatAreFinishedWithAllBeforeThem() {
+
+		this.backfill.finished(100, 200, 10);
+		this.backfill.finished(300, 400, 10);
+
+		assertThat(this.backfill.getProgress().getCheckpoint(), is(0L));
+
+		this.backfill.finished(0, 100, 10);
+
+		assertThat(this.backfill.getProgress().getCheckpoint(), is(200L));
+
+		this.backfill.finished(200, 300, 10);
+
+		assertThat(this.backfill.getProgress().getCheckpoint(), is(400L));
+		assertThat(this.backfill.getProgress().getMigrated(), is(40L));
+
+		then(this.jdbc).should().update(CHECKPOINT, "employee-name", 0L, 10L);
+		then(this.jdbc).should().update(CHECKPOINT, "employee-name", 0L, 20L);
+		then(this.jdbc).should().update(CHECKPOINT, "employee-name", 200L, 30L);
+		then(this.jdbc).should().update(CHECKPOINT, "employee-name", 400L, 40L);
+	}
+
+	@Test
+	void theWorkersShouldBackOffWhileTheForegroundIsSlow() {
+
+		given(this.foreground.current()).willReturn(Duration.ofMillis(51));
+
+		for (long expected : new long[] { 10, 20, 40, 80, 160, 320, 640, 1000, 1000 }) {
+
+			this.backfill.adjustPause();
+
+			assertThat(this.backfill.getProgress().getPauseMillis(), is(expected));
+		}
+
+		given(this.foreground.current()).willReturn(Duration.ofMillis(50));
+
+		this.backfill.adjustPause();
+		this.backfill.adjustPause();
+
+		assertThat(this.backfill.getProgress().getPauseMillis(), is(980L));
+		assertThat(this.backfill.getProgress().getForegroundLatencyMillis(), is(50L));
+	}
+
+	@Test
+	void theWorkersShouldNotPauseWhileTheForegroundIsQuick() {
+
+		this.backfill.adjustPause();
+
+		assertThat(this.backfill.getProgress().getPauseMillis(), is(0L));
+		verifyNoInteractions(this.jdbc);
+	}
+}
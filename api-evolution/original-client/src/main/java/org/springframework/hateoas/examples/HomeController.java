@@ -15,22 +15,44 @@
  */
 package org.springframework.hateoas.examples;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.PrintWriter;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.hateoas.CollectionModel;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.HalCollectionReader;
+import org.springframework.hateoas.HalPageIterator;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkDiscoveryCache;
 import org.springframework.hateoas.MediaTypes;
-import org.springframework.hateoas.client.Traverson;
-import org.springframework.hateoas.server.core.TypeReferences.CollectionModelType;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.ReactiveTraverson;
+import org.springframework.hateoas.RenderedFragmentCache;
+import org.springframework.hateoas.server.core.TypeReferences.PagedModelType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
 
 /**
  * A web controller that serves up client data found on a remote REST service.
@@ -40,18 +62,44 @@ import org.springframework.web.client.RestTemplate;
 @Controller
 public class HomeController {
 
-	private static final String REMOTE_SERVICE_ROOT_URI = "http://localhost:9000";
+	static final String REMOTE_SERVICE_ROOT_URI = "http://localhost:9000";
+
+	private static final int EXPORT_PAGE_SIZE = 100;
+	private static final int EXPORT_PREFETCH = 4;
+	private static final int ASYNC_PAGE_SIZE = 20;
+
+	private static final ParameterizedTypeReference<EntityModel<Employee>> EMPLOYEE = //
+			new ParameterizedTypeReference<EntityModel<Employee>>() {};
+	private static final ParameterizedTypeReference<PagedModel<EntityModel<Employee>>> EMPLOYEE_PAGE = //
+			new PagedModelType<EntityModel<Employee>>() {};
 
 	private final RestTemplate rest;
+	private final LinkDiscoveryCache links;
+	private final ReactiveTraverson traverson;
+	private final HalCollectionReader reader = new HalCollectionReader();
+	private final TaskExecutor executor;
+	private final RenderedFragmentCache fragments;
+	private final ITemplateEngine templates;
+
+	public HomeController(RestTemplateBuilder restTemplateBuilder, LinkDiscoveryCache links,
+			ReactiveTraverson traverson, TaskExecutor executor, RenderedFragmentCache fragments,
+			ITemplateEngine templates) {
 
-	public HomeController(RestTemplateBuilder restTemplateBuilder) {
 		this.rest = restTemplateBuilder.build();
+		this.links = links;
+		this.traverson = traverson;
+		this.executor = executor;
+		this.fragments = fragments;
+		this.templates = templates;
 	}
 
 	/**
 	 * Get a listing of ALL {@link Employee}s by querying the remote services' root URI, and then "hopping" to the
-	 * {@literal employees} rel. NOTE: Also create a form-backed {@link Employee} object to allow creating a new entry
-	 * with the Thymeleaf template.
+	 * {@literal employees} rel. The {@link LinkDiscoveryCache} remembers that hop, so the root is rarely fetched. The
+	 * employee table is rendered once per version of the remote collection. The {@link RenderedFragmentCache} fetches it
+	 * with {@literal If-None-Match}, and as long as its {@literal ETag} stays the same, reuses the table rendered last
+	 * time. Otherwise, the {@link HalCollectionReader} hands the employees to the template straight off the response.
+	 * NOTE: Also create a form-backed {@link Employee} object to allow creating a new entry with the Thymeleaf template.
 	 *
 	 * @param model
 	 * @return
@@ -60,21 +108,89 @@ public class HomeController {
 	@GetMapping
 	public String index(Model model) throws URISyntaxException {
 
-		Traverson client = new Traverson(new URI(REMOTE_SERVICE_ROOT_URI), MediaTypes.HAL_JSON);
-		CollectionModel<EntityModel<Employee>> employees = client //
-				.follow("employees") //
-				.toObject(new CollectionModelType<EntityModel<Employee>>() {});
+		String employeesTable = links.follow(employeesLink -> fragments.render( //
+				URI.create(employeesLink.expand().getHref()), MediaTypes.HAL_JSON, response -> {
+					try (HalCollectionReader.Items<EntityModel<Employee>> employees = reader.read(response.getBody(),
+							EMPLOYEE)) {
+						return renderTable(employees);
+					}
+				}), new URI(REMOTE_SERVICE_ROOT_URI), "employees");
 
 		model.addAttribute("employee", new Employee());
-		model.addAttribute("employees", employees);
+		model.addAttribute("employeesTable", employeesTable);
 
 		return "index";
 	}
 
+	/**
+	 * The same page as {@link #index(Model)}, but the servlet thread is released while the remote service answers.
+	 * {@link ReactiveTraverson} chains the hops, and Spring MVC renders the template once the {@link Mono} completes.
+	 * The employees are fetched {@value #ASYNC_PAGE_SIZE} at a time: once the first page tells how many pages there
+	 * are, all others are fetched in parallel.
+	 *
+	 * @param model
+	 * @return
+	 * @throws URISyntaxException
+	 */
+	@GetMapping("/async")
+	public Mono<String> asyncIndex(Model model) throws URISyntaxException {
+
+		return traverson.follow(new URI(REMOTE_SERVICE_ROOT_URI), "employees") //
+				.flatMap(employeesLink -> traverson.get(page(employeesLink, 0), EMPLOYEE_PAGE) //
+						.flatMapMany(firstPage -> Flux.concat(Mono.just(firstPage),
+								traverson.getAll(otherPages(employeesLink, firstPage), EMPLOYEE_PAGE))) //
+						.concatMapIterable(PagedModel::getContent) //
+						.collectList()) //
+				.map(employees -> {
+
+					model.addAttribute("employee", new Employee());
+					model.addAttribute("employeesTable", renderTable(employees));
+
+					return "index";
+				});
+	}
+
+	/**
+	 * Export every {@link Employee} of the remote service as CSV. The remote collection is crawled a page at a time,
+	 * and while one page is written out, the {@link HalPageIterator} is already fetching the next few.
+	 * <p>
+	 * The rows are written as the pages come in, so the {@literal 200} and the first rows are sent before the last page
+	 * is fetched. If a later page fails to load, the status can't be changed any more: the export fails mid-stream, and
+	 * the client gets a {@literal 200} with a truncated body.
+	 *
+	 * @param response
+	 * @throws IOException
+	 * @throws URISyntaxException
+	 */
+	@GetMapping("/employees.csv")
+	public void export(HttpServletResponse response) throws IOException, URISyntaxException {
+
+		URI firstPage = UriComponentsBuilder //
+				.fromUriString(links.discover(new URI(REMOTE_SERVICE_ROOT_URI), "employees").expand().getHref()) //
+				.queryParam("size", EXPORT_PAGE_SIZE) //
+				.build(true) //
+				.toUri();
+
+		response.setContentType("text/csv;charset=UTF-8");
+		PrintWriter csv = response.getWriter();
+		csv.println("name,role");
+
+		try (HalPageIterator<EntityModel<Employee>> employees = new HalPageIterator<>(rest, reader, EMPLOYEE, firstPage,
+				EXPORT_PREFETCH, executor)) {
+
+			while (employees.hasNext()) {
+
+				Employee employee = employees.next().getContent();
+				csv.println(csvLine(employee.getName(), employee.getRole()));
+			}
+		}
+	}
+
 	/**
 	 * Instead of putting the creation link from the remote service in the template (a security concern), have a local
-	 * route for {@literal POST} requests. Gather up the information, and form a remote call, using {@link Traverson} to
-	 * fetch the {@literal employees} {@link Link}. Once a new employee is created, redirect back to the root URL.
+	 * route for {@literal POST} requests. Gather up the information, and form a remote call, using the
+	 * {@link LinkDiscoveryCache} to find the {@literal employees} {@link Link}. Once a new employee is created, redirect
+	 * back to the root URL.
 	 *
 	 * @param employee
 	 * @return
@@ -83,13 +199,46 @@ public class HomeController {
 	@PostMapping("/employees")
 	public String newEmployee(@ModelAttribute Employee employee) throws URISyntaxException {
 
-		Traverson client = new Traverson(new URI(REMOTE_SERVICE_ROOT_URI), MediaTypes.HAL_JSON);
-		Link employeesLink = client //
-				.follow("employees") //
-				.asLink();
-
-		this.rest.postForEntity(employeesLink.expand().getHref(), employee, Employee.class);
+		links.follow(employeesLink -> rest.postForEntity(employeesLink.expand().getHref(), employee, Employee.class),
+				new URI(REMOTE_SERVICE_ROOT_URI), "employees");
 
 		return "redirect:/";
 	}
+
+	/**
+	 * Link to page {@literal number} of the {@literal employees}, {@value #ASYNC_PAGE_SIZE} of them per page.
+	 */
+	private static Link page(Link employeesLink, int number) {
+
+		return Link.of(UriComponentsBuilder.fromUriString(employeesLink.expand().getHref()) //
+				.replaceQueryParam("page", number) //
+				.replaceQueryParam("size", ASYNC_PAGE_SIZE) //
+				.build(true) //
+				.toUriString());
+	}
+
+	private static List<Link> otherPages(Link employeesLink, PagedModel<?> firstPage) {
+
+		long pages = firstPage.getMetadata() == null ? 1 : firstPage.getMetadata().getTotalPages();
+
+		return IntStream.range(1, (int) pages) //
+				.mapToObj(number -> page(employeesLink, number)) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Render the employee table on its own, to be put into the page as is.
+	 */
+	private String renderTable(Object employees) {
+
+		return templates.process("employees",
+				new Context(LocaleContextHolder.getLocale(), Collections.singletonMap("employees", employees)));
+	}
+
+	private static String csvLine(String... values) {
+
+		return Stream.of(values) //
+				.map(value -> value == null ? "" : "\"" + value.replace("\"", "\"\"") + "\"") //
+				.collect(Collectors.joining(","));
+	}
 }
@@ -15,11 +15,11 @@
  */
 package org.springframework.hateoas.examples;
 
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
 
 /**
  * @author Greg Turnquist
  */
-interface EmployeeRepository extends CrudRepository<Employee, Long> {
+interface EmployeeRepository extends PagingAndSortingRepository<Employee, Long> {
 
 }
@@ -17,6 +17,7 @@ package org.springframework.hateoas.examples;
 
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
+import org.springframework.hateoas.SyntheticDataGenerator;
 import org.springframework.stereotype.Component;
 
 /**
@@ -26,9 +27,12 @@ import org.springframework.stereotype.Component;
 class InitDatabase {
 
 	private final EmployeeRepository repository;
+	private final SyntheticDataGenerator data;
+
+	InitDatabase(EmployeeRepository repository, SyntheticDataGenerator data) {
 
-	InitDatabase(EmployeeRepository repository) {
 		this.repository = repository;
+		this.data = data;
 	}
 
 	@Bean
@@ -37,7 +41,27 @@ class InitDatabase {
 		return args -> {
 			repository.save(new Employee("Frodo", "ring bearer"));
 			repository.save(new Employee("Bilbo", "burglar"));
+			generateEmployees();
 		};
 	}
 
+	/**
+	 * Add as many employees as {@literal synthetic-data.employees} asks for.
+	 */
+	private void generateEmployees() {
+
+		long employees = data.getProperties().getEmployees();
+
+		if (employees == 0) {
+			return;
+		}
+
+		long firstId = data.reserveIds("hibernate_sequence", employees);
+
+		data.insert("INSERT INTO employee (id, name, role) VALUES (?, ?, ?)", employees,
+				(index, random) -> new Object[] { firstId + index,
+						SyntheticDataGenerator.firstName(random) + " " + SyntheticDataGenerator.lastName(random),
+						SyntheticDataGenerator.role(random) });
+	}
+
 }
@@ -17,6 +17,8 @@ package org.springframework.hateoas.examples;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 /**
  * @author Greg Turnquist
@@ -28,4 +30,12 @@ public class OriginalServerApplication {
 		SpringApplication.run(OriginalServerApplication.class, args);
 	}
 
+	/**
+	 * Tag every response, so clients that cache documents (or the links they discovered in them) can revalidate them
+	 * with a {@literal 304 Not Modified} instead of downloading them again.
+	 */
+	@Bean
+	ShallowEtagHeaderFilter eTagFilter() {
+		return new ShallowEtagHeaderFilter();
+	}
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
+
+import java.util.List;
+
+import org.springframework.hateoas.AffordanceModel.InputPayloadMetadata;
+import org.springframework.hateoas.AffordanceModel.PayloadMetadata;
+import org.springframework.hateoas.mediatype.Affordances;
+import org.springframework.hateoas.mediatype.PropertyUtils;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpMethod;
+
+/**
+ * An {@link Affordance} captured once for a Spring MVC controller method, then pointed at any number of links.
+ * <p>
+ * {@link WebMvcLinkBuilder#afford(Object)} creates a proxy, resolves the request mapping, and inspects the request body
+ * and parameters on every call. For a collection, that happens for every item, even though only the target URI differs.
+ * An {@link AffordanceTemplate} does that work once, when it's created. {@link #applyTo(Link)} then reuses the HTTP
+ * method, name, input and output metadata, and query parameters, and takes its target from the given {@link Link}.
+ *
+ * <pre>
+ * AffordanceTemplate update = AffordanceTemplate.of(methodOn(EmployeeController.class).updateEmployee(null, 0L));
+ *
+ * Link self = update.applyTo(linkTo(methodOn(EmployeeController.class).findOne(id)).withSelfRel());
+ * </pre>
+ */
+public final class AffordanceTemplate {
+
+	private final String name;
+	private final HttpMethod httpMethod;
+	private final InputPayloadMetadata input;
+	private final PayloadMetadata output;
+	private final List<QueryParameter> queryParameters;
+
+	private AffordanceTemplate(String name, HttpMethod httpMethod, InputPayloadMetadata input, PayloadMetadata output,
+			List<QueryParameter> queryParameters) {
+
+		this.name = name;
+		this.httpMethod = httpMethod;
+		this.input = input;
+		this.output = output;
+		this.queryParameters = queryParameters;
+	}
+
+	/**
+	 * Capture the affordance of a controller method, using the same {@link WebMvcLinkBuilder#methodOn(Class, Object...)}
+	 * invocation you would hand to {@link WebMvcLinkBuilder#afford(Object)}. Arguments only need to satisfy the method
+	 * signature, since the target is supplied later on.
+	 *
+	 * @param invocationValue
+	 * @return
+	 */
+	public static AffordanceTemplate of(Object invocationValue) {
+
+		AffordanceModel model = afford(invocationValue).iterator().next();
+
+		return new AffordanceTemplate(model.getName(), model.getHttpMethod(), model.getInput(), model.getOutput(),
+				model.getQueryMethodParameters());
+	}
+
+	/**
+	 * Describe the input with the properties of {@literal type} instead of the method's request body, e.g. when the
+	 * handler accepts a raw JSON tree such as a {@link JsonMergePatch}.
+	 *
+	 * @param type
+	 * @return a new {@link AffordanceTemplate}
+	 */
+	public AffordanceTemplate withInput(Class<?> type) {
+
+		return new AffordanceTemplate(this.name, this.httpMethod, PropertyUtils.getExposedProperties(type), this.output,
+				this.queryParameters);
+	}
+
+	/**
+	 * Add this affordance to the {@link Link}, targeting the link's own URI.
+	 *
+	 * @param link
+	 * @return a copy of {@literal link} with the additional {@link Affordance}
+	 */
+	public Link applyTo(Link link) {
+
+		return Affordances.of(link) //
+				.afford(this.httpMethod) //
+				.withInput(this.input) //
+				.withOutput(this.output) //
+				.withParameters(this.queryParameters) //
+				.withName(this.name) //
+				.toLink();
+	}
+}
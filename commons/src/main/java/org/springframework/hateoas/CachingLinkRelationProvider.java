@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.Map;
+
+import org.springframework.core.Ordered;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Remembers the relations another {@link LinkRelationProvider} derived for each type. {@literal HAL} asks for the
+ * relation of every element it embeds, e.g. {@literal employees} for each of a thousand employees, and
+ * {@link EvoInflectorLinkRelationProvider} runs through its list of English plural rules, regular expressions, every
+ * time. Relations only depend on the type, so they can be kept as long as the type is.
+ */
+public class CachingLinkRelationProvider implements LinkRelationProvider, Ordered {
+
+	private final LinkRelationProvider delegate;
+	private final Map<Class<?>, LinkRelation> itemRelations = new ConcurrentReferenceHashMap<>();
+	private final Map<Class<?>, LinkRelation> collectionRelations = new ConcurrentReferenceHashMap<>();
+
+	public CachingLinkRelationProvider(LinkRelationProvider delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public LinkRelation getItemResourceRelFor(Class<?> type) {
+		return this.itemRelations.computeIfAbsent(type, this.delegate::getItemResourceRelFor);
+	}
+
+	@Override
+	public LinkRelation getCollectionResourceRelFor(Class<?> type) {
+		return this.collectionRelations.computeIfAbsent(type, this.delegate::getCollectionResourceRelFor);
+	}
+
+	@Override
+	public boolean supports(LookupContext context) {
+		return this.delegate.supports(context);
+	}
+
+	/**
+	 * Keep the delegate's place among the other providers.
+	 */
+	@Override
+	public int getOrder() {
+		return this.delegate instanceof Ordered ? ((Ordered) this.delegate).getOrder() : Ordered.LOWEST_PRECEDENCE;
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Reads the items of a {@literal HAL} collection one at a time, straight off the response body. Deserializing into a
+ * {@link CollectionModel} builds every item (and the collection around them) before the first one can be used, so a
+ * large collection costs memory in proportion to its size and the first item comes last. Here, an item is read when it
+ * is asked for, and can be dropped before the next one is read.
+ * <p>
+ * Items are taken from every relation under {@literal _embedded}, so they are expected to be of the same type. The
+ * collection's own links are collected as the parser reaches them. Spring HATEOAS renders {@literal _links} after
+ * {@literal _embedded}, so {@link Items#getLinks()} is usually complete only once the last item was read.
+ */
+public class HalCollectionReader {
+
+	private final ObjectMapper mapper;
+
+	/**
+	 * Read with a mapper that only knows {@literal HAL} and ignores unknown properties.
+	 */
+	public HalCollectionReader() {
+
+		this(new ObjectMapper() //
+				.registerModule(new Jackson2HalModule()) //
+				.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+	}
+
+	/**
+	 * @param mapper needs {@link Jackson2HalModule} registered
+	 */
+	public HalCollectionReader(ObjectMapper mapper) {
+		this.mapper = mapper;
+	}
+
+	/**
+	 * Start reading a collection. Nothing but the opening brace is read before the first call to
+	 * {@link Items#hasNext()}.
+	 *
+	 * @param body the {@literal HAL} document, closed along with the returned {@link Items}
+	 * @param itemType e.g. {@literal new ParameterizedTypeReference<EntityModel<Employee>>() {}}
+	 * @return the items, to be closed when done
+	 */
+	public <T> Items<T> read(InputStream body, ParameterizedTypeReference<T> itemType) throws IOException {
+
+		JsonParser parser = this.mapper.getFactory().createParser(body);
+
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+
+			parser.close();
+			throw new IOException("Expected a HAL document, but found " + parser.currentToken());
+		}
+
+		return new Items<>(parser, this.mapper.constructType(itemType.getType()));
+	}
+
+	private enum Position {
+		DOCUMENT, EMBEDDED, ARRAY, END
+	}
+
+	/**
+	 * The items of one collection, read lazily.
+	 */
+	public class Items<T> implements Iterator<T>, Closeable {
+
+		private final JsonParser parser;
+		private final JavaType itemType;
+		private Position position = Position.DOCUMENT;
+		private Links links = Links.NONE;
+		private @Nullable T next;
+
+		private Items(JsonParser parser, JavaType itemType) {
+
+			this.parser = parser;
+			this.itemType = itemType;
+		}
+
+		/**
+		 * @return the collection's links the parser got to so far
+		 */
+		public Links getLinks() {
+			return this.links;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			if (this.next == null) {
+
+				try {
+					this.next = advance();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+
+			return this.next != null;
+		}
+
+		@Override
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			T item = this.next;
+			this.next = null;
+
+			return item;
+		}
+
+		/**
+		 * @return the remaining items, closing the parser when the stream is closed
+		 */
+		public Stream<T> stream() {
+
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+					false) //
+					.onClose(() -> {
+						try {
+							close();
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					});
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.parser.close();
+		}
+
+		/**
+		 * Move the parser on to the next item, reading whatever else comes before it.
+		 *
+		 * @return the next item, or {@literal null} at the end of the document
+		 */
+		private @Nullable T advance() throws IOException {
+
+			while (true) {
+
+				switch (this.position) {
+
+					case ARRAY:
+
+						if (this.parser.nextToken() == JsonToken.END_ARRAY) {
+							this.position = Position.EMBEDDED;
+							break;
+						}
+
+						return mapper.readValue(this.parser, this.itemType);
+
+					case EMBEDDED:
+
+						if (this.parser.nextToken() != JsonToken.FIELD_NAME) {
+							this.position = Position.DOCUMENT;
+							break;
+						}
+
+						// A relation holds either an array of resources or a single one.
+						if (this.parser.nextToken() == JsonToken.START_ARRAY) {
+							this.position = Position.ARRAY;
+							break;
+						}
+
+						return mapper.readValue(this.parser, this.itemType);
+
+					case DOCUMENT:
+
+						if (this.parser.nextToken() != JsonToken.FIELD_NAME) {
+							this.position = Position.END;
+							break;
+						}
+
+						String field = this.parser.getCurrentName();
+						JsonToken value = this.parser.nextToken();
+
+						if ("_embedded".equals(field) && value == JsonToken.START_OBJECT) {
+							this.position = Position.EMBEDDED;
+						} else if ("_links".equals(field) && value == JsonToken.START_OBJECT) {
+							this.links = this.links.and(readLinks());
+						} else {
+							this.parser.skipChildren();
+						}
+
+						break;
+
+					default:
+						return null;
+				}
+			}
+		}
+
+		private Links readLinks() throws IOException {
+
+			ObjectNode document = mapper.createObjectNode();
+			document.set("_links", mapper.readTree(this.parser));
+
+			return mapper.treeToValue(document, RepresentationModel.class).getLinks();
+		}
+	}
+}
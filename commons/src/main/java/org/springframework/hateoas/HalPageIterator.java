@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+import org.springframework.web.client.RestOperations;
+
+/**
+ * Iterates over the items of a paged {@literal HAL} collection, following {@literal next} links. Fetching a page only
+ * when the previous one is used up makes a crawl wait a round trip per page. Instead, while the caller works through
+ * one page, the next {@literal prefetch} pages are fetched in the background, one after the other as their links are
+ * found.
+ * <p>
+ * Prefetched pages are held in memory. While the tenured heap is more than {@value #MEMORY_PRESSURE_PERCENT}% full, no
+ * further pages are prefetched, and each is only fetched when the caller gets to it.
+ * <p>
+ * A page that fails to load fails {@link #hasNext()} once the caller gets to it, after the items of the pages before
+ * it were handed out.
+ */
+public class HalPageIterator<T> implements Iterator<T>, AutoCloseable {
+
+	public static final int MEMORY_PRESSURE_PERCENT = 80;
+
+	private static final List<MemoryPoolMXBean> TENURED = ManagementFactory.getMemoryPoolMXBeans().stream() //
+			.filter(pool -> pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported()) //
+			.collect(Collectors.toList());
+
+	private final RestOperations rest;
+	private final HalCollectionReader reader;
+	private final ParameterizedTypeReference<T> itemType;
+	private final int prefetch;
+	private final Executor executor;
+	private final BooleanSupplier memoryPressure;
+
+	private final Deque<CompletableFuture<Page<T>>> ahead = new ArrayDeque<>();
+	private CompletableFuture<Page<T>> last;
+	private Iterator<T> current = Collections.emptyIterator();
+	private boolean finished;
+
+	/**
+	 * @param rest fetches the pages
+	 * @param reader reads the items off each page
+	 * @param itemType e.g. {@literal new ParameterizedTypeReference<EntityModel<Employee>>() {}}
+	 * @param first the first page
+	 * @param prefetch how many pages to fetch ahead of the one in use
+	 * @param executor runs the fetches
+	 */
+	public HalPageIterator(RestOperations rest, HalCollectionReader reader, ParameterizedTypeReference<T> itemType,
+			URI first, int prefetch, Executor executor) {
+		this(rest, reader, itemType, first, prefetch, executor, HalPageIterator::isUnderMemoryPressure);
+	}
+
+	HalPageIterator(RestOperations rest, HalCollectionReader reader, ParameterizedTypeReference<T> itemType, URI first,
+			int prefetch, Executor executor, BooleanSupplier memoryPressure) {
+
+		this.rest = rest;
+		this.reader = reader;
+		this.itemType = itemType;
+		this.prefetch = prefetch;
+		this.executor = executor;
+		this.memoryPressure = memoryPressure;
+
+		this.last = CompletableFuture.supplyAsync(() -> fetch(first), executor);
+		this.ahead.add(this.last);
+	}
+
+	@Override
+	public boolean hasNext() {
+
+		while (!this.current.hasNext()) {
+
+			if (this.finished) {
+				return false;
+			}
+
+			if (this.ahead.isEmpty()) {
+				scheduleNext();
+			}
+
+			Page<T> page = await(this.ahead.poll());
+
+			if (page == null) {
+
+				close();
+
+				return false;
+			}
+
+			this.current = page.items.iterator();
+
+			while (this.ahead.size() < this.prefetch && !this.memoryPressure.getAsBoolean()) {
+				scheduleNext();
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return this.current.next();
+	}
+
+	/**
+	 * Stop fetching pages nobody is going to ask for. A fetch already under way runs to its end, but none is started
+	 * after it.
+	 */
+	@Override
+	public void close() {
+
+		this.finished = true;
+		this.ahead.forEach(page -> page.cancel(false));
+		this.ahead.clear();
+	}
+
+	/**
+	 * Queue the page after the last one queued, to be fetched as soon as its link is known.
+	 */
+	private void scheduleNext() {
+
+		this.last = this.last.thenCompose(page -> page == null || page.next == null //
+				? CompletableFuture.completedFuture(null) //
+				: CompletableFuture.supplyAsync(() -> fetch(page.next), this.executor));
+		this.ahead.add(this.last);
+	}
+
+	private Page<T> fetch(URI uri) {
+
+		return this.rest.execute(uri, HttpMethod.GET, //
+				request -> request.getHeaders().setAccept(Collections.singletonList(MediaTypes.HAL_JSON)), //
+				response -> {
+
+					try (HalCollectionReader.Items<T> items = this.reader.read(response.getBody(), this.itemType)) {
+
+						List<T> content = items.stream().collect(Collectors.toList());
+						URI next = items.getLinks().getLink(IanaLinkRelations.NEXT) //
+								.map(link -> uri.resolve(link.expand().getHref())) //
+								.orElse(null);
+
+						return new Page<>(content, next);
+					}
+				});
+	}
+
+	private static <T> Page<T> await(CompletableFuture<Page<T>> page) {
+
+		try {
+			return page.join();
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw e;
+		}
+	}
+
+	private static boolean isUnderMemoryPressure() {
+
+		for (MemoryPoolMXBean pool : TENURED) {
+
+			MemoryUsage usage = pool.getUsage();
+
+			if (usage.getMax() > 0 && usage.getUsed() * 100 > usage.getMax() * MEMORY_PRESSURE_PERCENT) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static final class Page<T> {
+
+		private final List<T> items;
+		private final @Nullable URI next;
+
+		Page(List<T> items, @Nullable URI next) {
+
+			this.items = items;
+			this.next = next;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+
+/**
+ * Take the work off writing representations, {@literal HAL} collections in particular, that only depends on the types
+ * involved but is done again for every element:
+ * <ul>
+ * <li>deriving the plural relation of embedded elements, which {@link CachingLinkRelationProvider} remembers per type
+ * ({@literal examples.hal.cache-relations=false} to turn it off),</li>
+ * <li>looking up how to write the relations {@literal _links} are grouped by, which {@link LinkRelationModule} answers
+ * once.</li>
+ * </ul>
+ * Spring Boot registers Jackson modules with its {@link com.fasterxml.jackson.databind.ObjectMapper}, and Spring HATEOAS
+ * copies that one for each hypermedia type. {@link AfterburnerModule}, which reads properties through accessors
+ * generated as bytecode instead of through reflection, can be added the same way with
+ * {@literal examples.jackson.afterburner=true}, if the application has it on the classpath. It's off by default because
+ * {@code HalSerializationBenchmark} can't tell it apart from reflection: the cost is in the links, not in the
+ * properties of e.g. employees, and Afterburner can't reach into Spring HATEOAS' own non-public link types.
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureBefore(JacksonAutoConfiguration.class)
+public class HalSerializationAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	LinkRelationModule linkRelationModule() {
+		return new LinkRelationModule();
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "examples.hal.cache-relations", matchIfMissing = true)
+	static BeanPostProcessor cachingLinkRelationProviderPostProcessor() {
+
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+				return bean instanceof DefaultLinkRelationProvider //
+						? new CachingLinkRelationProvider((LinkRelationProvider) bean) //
+						: bean;
+			}
+		};
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(AfterburnerModule.class)
+	@ConditionalOnProperty(name = "examples.jackson.afterburner")
+	static class AfterburnerConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		AfterburnerModule afterburnerModule() {
+			return new AfterburnerModule();
+		}
+	}
+}
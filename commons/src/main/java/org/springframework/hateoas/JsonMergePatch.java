@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.io.IOException;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Applies a JSON Merge Patch (https://tools.ietf.org/html/rfc7386) to an existing object. Only the members present in
+ * the patch are written; a {@literal null} member clears the property, and everything else is left alone. Clients can
+ * then change a single field without first fetching, and then re-sending, the whole resource.
+ * <p>
+ * The patch is bound with {@link ObjectMapper#readerForUpdating(Object)}, so the same Jackson configuration applies as
+ * for a full request body. Nested objects are replaced rather than merged, unless the target marks them with
+ * {@link com.fasterxml.jackson.annotation.JsonMerge}.
+ */
+public final class JsonMergePatch {
+
+	public static final String MEDIA_TYPE_VALUE = "application/merge-patch+json";
+
+	public static final MediaType MEDIA_TYPE = MediaType.valueOf(MEDIA_TYPE_VALUE);
+
+	private JsonMergePatch() {}
+
+	/**
+	 * Merge {@literal patch} into {@literal target}.
+	 *
+	 * @param patch must be a JSON object
+	 * @param target the object to update in place
+	 * @param mapper
+	 * @return {@literal target}
+	 * @throws IOException if the patch isn't an object or doesn't fit the target's type
+	 */
+	public static <T> T apply(JsonNode patch, T target, ObjectMapper mapper) throws IOException {
+
+		if (!patch.isObject()) {
+			throw new IOException("A merge patch for " + target.getClass().getSimpleName() + " must be a JSON object");
+		}
+
+		return mapper.readerForUpdating(target).readValue(patch);
+	}
+}
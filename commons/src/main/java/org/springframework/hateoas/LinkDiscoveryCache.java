@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.springframework.hateoas.client.LinkDiscoverer;
+import org.springframework.hateoas.client.Traverson;
+import org.springframework.hateoas.mediatype.hal.HalLinkDiscoverer;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestOperations;
+
+/**
+ * Remembers the links a client discovered by hopping from a remote service's root, so that following {@literal employees}
+ * doesn't cost a fetch of the root document every time. Each hop, i.e. a document and a relation, is cached on its own:
+ * <ul>
+ * <li>for a fixed time to live, during which no request is made at all,</li>
+ * <li>after which the document is fetched again with {@literal If-None-Match}, and a {@literal 304 Not Modified}
+ * keeps the link for another time to live,</li>
+ * <li>until a {@literal 404 Not Found} or {@literal 410 Gone} shows that a discovered link went stale. Then the path is
+ * discovered afresh and the request tried once more.</li>
+ * </ul>
+ * Unlike {@link Traverson}, only {@literal HAL} documents are understood.
+ */
+public class LinkDiscoveryCache {
+
+	private final RestOperations rest;
+	private final long timeToLive;
+	private final LinkDiscoverer discoverer = new HalLinkDiscoverer();
+	private final ConcurrentMap<Hop, DiscoveredLink> hops = new ConcurrentHashMap<>();
+
+	/**
+	 * @param rest used to fetch the documents links are discovered in
+	 * @param timeToLive how long a discovered link is used without asking the remote service
+	 */
+	public LinkDiscoveryCache(RestOperations rest, Duration timeToLive) {
+
+		this.rest = rest;
+		this.timeToLive = timeToLive.toNanos();
+	}
+
+	/**
+	 * Hop from {@literal root} along {@literal rels}, and hand the final link to {@literal action}. If either the hops or
+	 * the action run into a {@literal 404} or {@literal 410}, the path is forgotten and the whole thing retried once.
+	 *
+	 * @param action what to do with the discovered link, e.g. a {@literal GET} or {@literal POST}
+	 * @param root the remote service's root
+	 * @param rels the relations to follow
+	 * @return whatever {@literal action} returned
+	 */
+	public <T> T follow(Function<Link, T> action, URI root, String... rels) {
+
+		try {
+			return action.apply(discover(root, rels));
+		} catch (HttpClientErrorException.NotFound | HttpClientErrorException.Gone e) {
+
+			invalidate(root, rels);
+
+			return action.apply(discover(root, rels));
+		}
+	}
+
+	/**
+	 * Hop from {@literal root} along {@literal rels}, using cached links where they are still fresh.
+	 *
+	 * @param root the remote service's root
+	 * @param rels the relations to follow
+	 * @return the link found for the last relation
+	 */
+	public Link discover(URI root, String... rels) {
+
+		URI document = root;
+		Link link = Link.of(root.toString());
+
+		for (String rel : rels) {
+
+			link = hop(new Hop(document, rel));
+			document = document.resolve(link.expand().getHref());
+		}
+
+		return link;
+	}
+
+	/**
+	 * Forget every cached hop on the path from {@literal root} along {@literal rels}.
+	 *
+	 * @param root the remote service's root
+	 * @param rels the relations to follow
+	 */
+	public void invalidate(URI root, String... rels) {
+
+		URI document = root;
+
+		for (String rel : rels) {
+
+			DiscoveredLink removed = this.hops.remove(new Hop(document, rel));
+
+			if (removed == null) {
+				return;
+			}
+
+			document = document.resolve(removed.link.expand().getHref());
+		}
+	}
+
+	private Link hop(Hop hop) {
+
+		long now = System.nanoTime();
+		DiscoveredLink cached = this.hops.get(hop);
+
+		if (cached != null && now - cached.discoveredAt < this.timeToLive) {
+			return cached.link;
+		}
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setAccept(Collections.singletonList(MediaTypes.HAL_JSON));
+
+		if (cached != null && cached.eTag != null) {
+			headers.setIfNoneMatch(cached.eTag);
+		}
+
+		ResponseEntity<String> response;
+
+		try {
+			response = this.rest.exchange(hop.document, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+		} catch (HttpClientErrorException.NotFound | HttpClientErrorException.Gone e) {
+
+			this.hops.remove(hop);
+			throw e;
+		}
+
+		DiscoveredLink discovered = cached != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED //
+				? new DiscoveredLink(cached.link, cached.eTag, now) //
+				: new DiscoveredLink(this.discoverer.findRequiredLinkWithRel(LinkRelation.of(hop.rel), response.getBody()),
+						response.getHeaders().getETag(), now);
+
+		this.hops.put(hop, discovered);
+
+		return discovered.link;
+	}
+
+	/**
+	 * A relation looked up in a document.
+	 */
+	private static final class Hop {
+
+		private final URI document;
+		private final String rel;
+
+		Hop(URI document, String rel) {
+
+			this.document = document;
+			this.rel = rel;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof Hop)) {
+				return false;
+			}
+
+			Hop that = (Hop) o;
+
+			return this.document.equals(that.document) && this.rel.equals(that.rel);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.document, this.rel);
+		}
+	}
+
+	private static final class DiscoveredLink {
+
+		private final Link link;
+		private final @Nullable String eTag;
+		private final long discoveredAt;
+
+		DiscoveredLink(Link link, @Nullable String eTag, long discoveredAt) {
+
+			this.link = link;
+			this.eTag = eTag;
+			this.discoveredAt = discoveredAt;
+		}
+	}
+}
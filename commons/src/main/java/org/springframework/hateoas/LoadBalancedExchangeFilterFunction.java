@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Sends a {@link WebClient}'s requests for a remote service to the instance a {@link LoadBalancedRequestFactory}
+ * chooses, and reports back their latencies and failures, so blocking and non-blocking clients of the service spread
+ * their requests over the same instances and eject the same ones. Requests aren't retried or hedged. Requests to any
+ * other origin pass straight through.
+ */
+public class LoadBalancedExchangeFilterFunction implements ExchangeFilterFunction {
+
+	private final LoadBalancedRequestFactory balancer;
+
+	public LoadBalancedExchangeFilterFunction(LoadBalancedRequestFactory balancer) {
+		this.balancer = balancer;
+	}
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+		return Mono.defer(() -> {
+
+			LoadBalancedRequestFactory.Sending sending = this.balancer.balance(request.url());
+
+			if (sending == null) {
+				return next.exchange(request);
+			}
+
+			ClientRequest balanced = ClientRequest.from(request) //
+					.url(sending.target(request.url())) //
+					.headers(headers -> headers.set(HttpHeaders.HOST, sending.host())) //
+					.build();
+
+			return next.exchange(balanced) //
+					.doOnNext(response -> sending.answered(response.rawStatusCode())) //
+					.doOnError(e -> sending.failed()) //
+					.doFinally(signal -> sending.abandoned());
+		});
+	}
+}
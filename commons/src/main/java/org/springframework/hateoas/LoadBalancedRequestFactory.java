@@ -0,0 +1,734 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Spreads the requests for one remote service over all of its instances. Requests to any other origin pass straight
+ * through to the delegate.
+ * <ul>
+ * <li>Each request goes to the better of two randomly picked instances, scored by an exponentially weighted moving
+ * average of their latency times the requests they have in flight. The average decays while an instance isn't used,
+ * so a replica that was slow gets tried again after a while.</li>
+ * <li>An instance that fails {@value #EJECT_AFTER_FAILURES} times in a row (an {@link IOException} or a
+ * {@literal 5xx}) gets no requests for {@link #EJECTION}. If all of them are ejected, all of them are used. A
+ * {@literal GET} or {@literal HEAD} that fails with an {@link IOException} is sent once more, to another instance.</li>
+ * <li>Optionally, a {@literal GET} or {@literal HEAD} that hasn't been answered after the
+ * {@value #HEDGE_PERCENTILE}th percentile of recent latencies is sent to a second instance as well. Whichever answers
+ * first wins, and the other response is closed.</li>
+ * </ul>
+ * When hedging, the first request and its hedge race each other on at most {@value #MAX_RACING} threads of their own,
+ * and the caller gets whichever usable response comes first, so a quick hedge cuts a slow answer short. With all of
+ * those threads busy, the first request is sent from the calling thread, which then waits for it, and a hedge isn't
+ * sent at all.
+ * The {@literal Host} header keeps naming the service, not the instance, so links rendered by the instances keep
+ * pointing at the service and pass through here again.
+ * <p>
+ * {@link LoadBalancedExchangeFilterFunction} spreads the requests of a
+ * {@link org.springframework.web.reactive.function.client.WebClient} over the same instances, and shares what is known
+ * about them.
+ */
+public class LoadBalancedRequestFactory implements ClientHttpRequestFactory, Closeable {
+
+	public static final int EJECT_AFTER_FAILURES = 3;
+	public static final Duration EJECTION = Duration.ofSeconds(10);
+	public static final int HEDGE_PERCENTILE = 95;
+	public static final int MAX_RACING = 8;
+
+	private static final double EWMA_WEIGHT = 0.3;
+	private static final long EWMA_DECAY = Duration.ofSeconds(10).toNanos();
+	private static final int LATENCY_SAMPLES = 256;
+	private static final int HEDGE_DELAY_REFRESH = 32;
+
+	private final URI service;
+	private final Supplier<? extends Collection<URI>> instances;
+	private final ClientHttpRequestFactory delegate;
+	private final @Nullable ScheduledThreadPoolExecutor hedgeTimer;
+	private final @Nullable ThreadPoolExecutor racers;
+	private final ConcurrentMap<URI, Instance> statistics = new ConcurrentHashMap<>();
+
+	private final long[] latencies = new long[LATENCY_SAMPLES];
+	private int nextSample;
+	private int samples;
+	private int samplesSinceRefresh;
+	private volatile long hedgeDelay = Long.MAX_VALUE;
+
+	/**
+	 * @param service the URI clients use for the remote service, only its scheme, host and port matter
+	 * @param instances looked up for every request, so the list may change at runtime
+	 * @param delegate creates the requests to the chosen instances
+	 * @param hedging whether to hedge {@literal GET} and {@literal HEAD} requests
+	 */
+	public LoadBalancedRequestFactory(URI service, Supplier<? extends Collection<URI>> instances,
+			ClientHttpRequestFactory delegate, boolean hedging) {
+
+		this.service = service;
+		this.instances = instances;
+		this.delegate = delegate;
+
+		if (hedging) {
+
+			this.hedgeTimer = new ScheduledThreadPoolExecutor(1, daemon("hedge-timer"));
+			this.hedgeTimer.setRemoveOnCancelPolicy(true);
+			this.racers = new ThreadPoolExecutor(0, MAX_RACING, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+					daemon("racing-request"));
+		} else {
+
+			this.hedgeTimer = null;
+			this.racers = null;
+		}
+	}
+
+	@Override
+	public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+
+		return isService(uri) //
+				? new BalancedRequest(uri, httpMethod) //
+				: this.delegate.createRequest(uri, httpMethod);
+	}
+
+	@Override
+	public void close() {
+
+		if (this.racers != null) {
+
+			this.hedgeTimer.shutdownNow();
+			this.racers.shutdownNow();
+		}
+	}
+
+	private static ThreadFactory daemon(String name) {
+
+		return runnable -> {
+
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private boolean isService(URI uri) {
+
+		return Objects.equals(uri.getScheme(), this.service.getScheme())
+				&& Objects.equals(uri.getHost(), this.service.getHost()) && uri.getPort() == this.service.getPort();
+	}
+
+	/**
+	 * Pick the better of two instances that aren't ejected, leaving out {@literal excluded}.
+	 */
+	private Instance choose(@Nullable Instance excluded) {
+
+		long now = System.nanoTime();
+		List<Instance> available = new ArrayList<>();
+		List<Instance> all = new ArrayList<>();
+
+		for (URI uri : this.instances.get()) {
+
+			Instance instance = this.statistics.computeIfAbsent(uri, Instance::new);
+
+			if (instance != excluded) {
+
+				all.add(instance);
+
+				if (!instance.isEjected(now)) {
+					available.add(instance);
+				}
+			}
+		}
+
+		List<Instance> candidates = available.isEmpty() ? all : available;
+
+		if (candidates.isEmpty()) {
+
+			if (excluded == null) {
+				throw new IllegalStateException("No instances of " + this.service);
+			}
+
+			return excluded;
+		}
+
+		if (candidates.size() == 1) {
+			return candidates.get(0);
+		}
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int first = random.nextInt(candidates.size());
+		int second = (first + 1 + random.nextInt(candidates.size() - 1)) % candidates.size();
+
+		Instance one = candidates.get(first);
+		Instance other = candidates.get(second);
+
+		return one.cost(now) <= other.cost(now) ? one : other;
+	}
+
+	private synchronized void recordLatency(long nanos) {
+
+		this.latencies[this.nextSample] = nanos;
+		this.nextSample = (this.nextSample + 1) % LATENCY_SAMPLES;
+		this.samples = Math.min(this.samples + 1, LATENCY_SAMPLES);
+
+		if (++this.samplesSinceRefresh == HEDGE_DELAY_REFRESH) {
+
+			this.samplesSinceRefresh = 0;
+
+			long[] window = Arrays.copyOf(this.latencies, this.samples);
+			Arrays.sort(window);
+
+			this.hedgeDelay = window[window.length * HEDGE_PERCENTILE / 100];
+		}
+	}
+
+	private ClientHttpResponse send(Instance instance, URI uri, HttpMethod method, HttpHeaders headers, byte[] body)
+			throws IOException {
+
+		ClientHttpRequest request = this.delegate.createRequest(target(instance, uri), method);
+		request.getHeaders().putAll(headers);
+		request.getHeaders().set(HttpHeaders.HOST, this.service.getRawAuthority());
+
+		if (body.length > 0) {
+			request.getBody().write(body);
+		}
+
+		Sending sending = new Sending(instance);
+
+		try {
+			ClientHttpResponse response = request.execute();
+
+			sending.answered(response.getRawStatusCode());
+
+			return response;
+		} catch (IOException | RuntimeException e) {
+
+			sending.failed();
+			throw e;
+		}
+	}
+
+	/**
+	 * {@literal uri}, which names the service, pointed at {@literal instance}.
+	 */
+	private static URI target(Instance instance, URI uri) {
+
+		return UriComponentsBuilder.fromUri(uri) //
+				.scheme(instance.uri.getScheme()) //
+				.host(instance.uri.getHost()) //
+				.port(instance.uri.getPort()) //
+				.build(true) //
+				.toUri();
+	}
+
+	/**
+	 * Choose an instance for a request sent some other way, e.g. by {@link LoadBalancedExchangeFilterFunction}, which
+	 * reports back how it went.
+	 *
+	 * @return {@literal null} if {@literal uri} doesn't name the service
+	 */
+	@Nullable
+	Sending balance(URI uri) {
+		return isService(uri) ? new Sending(choose(null)) : null;
+	}
+
+	/**
+	 * Send a {@literal GET} or {@literal HEAD}, which is safe to send twice: once more to another instance if the first
+	 * one fails, and, if hedging, to a second instance as well if the first one is slow.
+	 */
+	private ClientHttpResponse sendIdempotent(URI uri, HttpMethod method, HttpHeaders headers, byte[] body)
+			throws IOException {
+
+		Instance first = choose(null);
+		long delay = this.hedgeDelay;
+
+		if (this.racers == null || delay == Long.MAX_VALUE) {
+
+			try {
+				return send(first, uri, method, headers, body);
+			} catch (IOException e) {
+				return retry(first, e, uri, method, headers, body);
+			}
+		}
+
+		return new Race(uri, method, headers, body).run(first, delay);
+	}
+
+	private ClientHttpResponse retry(Instance failed, IOException failure, URI uri, HttpMethod method,
+			HttpHeaders headers, byte[] body) throws IOException {
+
+		Instance other = choose(failed);
+
+		if (other == failed) {
+			throw failure;
+		}
+
+		return send(other, uri, method, headers, body);
+	}
+
+	/**
+	 * The first request and its hedge, each sent from a thread of its own while the caller waits for the first usable
+	 * response. Any other response is closed as it comes in.
+	 * <ul>
+	 * <li>A response below {@literal 5xx} wins right away.</li>
+	 * <li>A {@literal 5xx} is kept, and returned if nothing better comes.</li>
+	 * <li>An {@link IOException} sends the hedge at once, unless it's been sent already.</li>
+	 * </ul>
+	 */
+	private class Race {
+
+		private final URI uri;
+		private final HttpMethod method;
+		private final HttpHeaders headers;
+		private final byte[] body;
+		private final CompletableFuture<ClientHttpResponse> winner = new CompletableFuture<>();
+
+		private Instance primary;
+		private int running;
+		private boolean hedged;
+		private @Nullable ClientHttpResponse serverError;
+		private @Nullable Exception failure;
+
+		Race(URI uri, HttpMethod method, HttpHeaders headers, byte[] body) {
+
+			this.uri = uri;
+			this.method = method;
+			this.headers = headers;
+			this.body = body;
+		}
+
+		ClientHttpResponse run(Instance first, long delay) throws IOException {
+
+			synchronized (this) {
+
+				this.primary = first;
+				this.running = 1;
+			}
+
+			ScheduledFuture<?> timer = hedgeTimer.schedule(() -> hedge(false), delay, TimeUnit.NANOSECONDS);
+
+			try {
+
+				start(first, true);
+
+				return this.winner.get();
+
+			} catch (InterruptedException e) {
+
+				Thread.currentThread().interrupt();
+				abandon();
+
+				throw new IOException("Interrupted while waiting for a response", e);
+
+			} catch (ExecutionException e) {
+
+				Throwable cause = e.getCause();
+
+				if (cause instanceof IOException) {
+					throw (IOException) cause;
+				}
+
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+
+				throw new IOException(cause);
+
+			} finally {
+				timer.cancel(false);
+			}
+		}
+
+		/**
+		 * Send to {@literal instance}, already counted as running, from one of the racing threads. With all of them
+		 * busy, send from this thread if {@literal orHere}, or not at all.
+		 */
+		private void start(Instance instance, boolean orHere) {
+
+			Runnable attempt = () -> attempt(instance);
+
+			try {
+				racers.execute(attempt);
+			} catch (RejectedExecutionException e) {
+
+				if (orHere) {
+					attempt.run();
+				} else {
+					finished();
+				}
+			}
+		}
+
+		private void attempt(Instance instance) {
+
+			ClientHttpResponse response;
+			int status;
+
+			try {
+				response = send(instance, this.uri, this.method, this.headers, this.body);
+				status = response.getRawStatusCode();
+			} catch (IOException | RuntimeException e) {
+
+				failed(e);
+				return;
+			}
+
+			if (status < 500) {
+				won(response);
+			} else {
+				serverError(response);
+			}
+		}
+
+		/**
+		 * Send to a second instance, unless there is none, it's been sent already, or the race is over.
+		 *
+		 * @param retry whether the first request failed, and the caller may have to send from its own thread
+		 */
+		private void hedge(boolean retry) {
+
+			synchronized (this) {
+
+				if (this.hedged || this.winner.isDone()) {
+					return;
+				}
+
+				this.hedged = true;
+				this.running++;
+			}
+
+			Instance second = choose(this.primary);
+
+			if (second == this.primary) {
+				finished();
+			} else {
+				start(second, retry);
+			}
+		}
+
+		private void won(ClientHttpResponse response) {
+
+			ClientHttpResponse kept;
+
+			synchronized (this) {
+
+				this.running--;
+				kept = this.serverError;
+				this.serverError = null;
+			}
+
+			if (!this.winner.complete(response)) {
+				response.close();
+			}
+
+			if (kept != null) {
+				kept.close();
+			}
+		}
+
+		private void serverError(ClientHttpResponse response) {
+
+			synchronized (this) {
+
+				this.running--;
+
+				if (this.serverError == null && !this.winner.isDone()) {
+
+					this.serverError = response;
+					response = null;
+				}
+			}
+
+			if (response != null) {
+				response.close();
+			}
+
+			settleIfLast();
+		}
+
+		private void failed(Exception e) {
+
+			boolean retry;
+
+			synchronized (this) {
+
+				this.running--;
+
+				if (this.failure == null) {
+					this.failure = e;
+				}
+
+				retry = e instanceof IOException && !this.hedged;
+			}
+
+			if (retry) {
+				hedge(true);
+			} else {
+				settleIfLast();
+			}
+		}
+
+		private void finished() {
+
+			synchronized (this) {
+				this.running--;
+			}
+
+			settleIfLast();
+		}
+
+		/**
+		 * With nothing left running and nothing better to come, give the caller the {@literal 5xx}, or else the first
+		 * failure.
+		 */
+		private void settleIfLast() {
+
+			ClientHttpResponse response;
+			Exception error;
+
+			synchronized (this) {
+
+				if (this.running > 0 || this.winner.isDone()) {
+					return;
+				}
+
+				response = this.serverError;
+				error = this.failure;
+				this.serverError = null;
+			}
+
+			if (response != null) {
+
+				if (!this.winner.complete(response)) {
+					response.close();
+				}
+
+			} else {
+				this.winner.completeExceptionally(error != null ? error : new IOException("No instance of " + service));
+			}
+		}
+
+		/**
+		 * The caller gave up waiting: close whatever response there is, or will be.
+		 */
+		private void abandon() {
+
+			if (!this.winner.completeExceptionally(new IOException("Abandoned"))) {
+				this.winner.thenAccept(ClientHttpResponse::close);
+			}
+
+			ClientHttpResponse kept;
+
+			synchronized (this) {
+
+				kept = this.serverError;
+				this.serverError = null;
+			}
+
+			if (kept != null) {
+				kept.close();
+			}
+		}
+	}
+
+	/**
+	 * What is known about one instance.
+	 */
+	private static class Instance {
+
+		private final URI uri;
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private double latency;
+		private long updatedAt = System.nanoTime();
+		private int failures;
+		private volatile long ejectedUntil;
+
+		Instance(URI uri) {
+			this.uri = uri;
+		}
+
+		synchronized double cost(long now) {
+			return this.latency * Math.exp(-(now - this.updatedAt) / (double) EWMA_DECAY) * (this.inFlight.get() + 1);
+		}
+
+		synchronized void record(long nanos, boolean success) {
+
+			long now = System.nanoTime();
+
+			this.latency = this.latency == 0 ? nanos : this.latency + EWMA_WEIGHT * (nanos - this.latency);
+			this.updatedAt = now;
+
+			if (success) {
+				this.failures = 0;
+			} else if (++this.failures >= EJECT_AFTER_FAILURES) {
+
+				this.failures = 0;
+				this.latency = 0;
+				this.ejectedUntil = now + EJECTION.toNanos();
+			}
+		}
+
+		boolean isEjected(long now) {
+			return now - this.ejectedUntil < 0;
+		}
+	}
+
+	/**
+	 * A request under way to one instance. It counts as in flight there until it is answered, fails or is abandoned,
+	 * whichever comes first.
+	 */
+	class Sending {
+
+		private final Instance instance;
+		private final long start = System.nanoTime();
+		private final AtomicBoolean done = new AtomicBoolean();
+
+		Sending(Instance instance) {
+
+			this.instance = instance;
+			this.instance.inFlight.incrementAndGet();
+		}
+
+		/**
+		 * @return {@literal uri} pointed at the chosen instance
+		 */
+		URI target(URI uri) {
+			return LoadBalancedRequestFactory.target(this.instance, uri);
+		}
+
+		/**
+		 * @return the {@literal Host} header to send, which keeps naming the service
+		 */
+		String host() {
+			return service.getRawAuthority();
+		}
+
+		void answered(int status) {
+
+			if (finish()) {
+
+				long latency = System.nanoTime() - this.start;
+
+				this.instance.record(latency, status < 500);
+				recordLatency(latency);
+			}
+		}
+
+		void failed() {
+
+			if (finish()) {
+				this.instance.record(System.nanoTime() - this.start, false);
+			}
+		}
+
+		void abandoned() {
+			finish();
+		}
+
+		private boolean finish() {
+
+			if (!this.done.compareAndSet(false, true)) {
+				return false;
+			}
+
+			this.instance.inFlight.decrementAndGet();
+
+			return true;
+		}
+	}
+
+	/**
+	 * Buffers headers and body, so they can be sent to more than one instance.
+	 */
+	private class BalancedRequest implements ClientHttpRequest {
+
+		private final URI uri;
+		private final HttpMethod method;
+		private final HttpHeaders headers = new HttpHeaders();
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+
+		BalancedRequest(URI uri, HttpMethod method) {
+
+			this.uri = uri;
+			this.method = method;
+		}
+
+		@Override
+		public ClientHttpResponse execute() throws IOException {
+
+			byte[] bytes = this.body.toByteArray();
+
+			return this.method == HttpMethod.GET || this.method == HttpMethod.HEAD //
+					? sendIdempotent(this.uri, this.method, this.headers, bytes) //
+					: send(choose(null), this.uri, this.method, this.headers, bytes);
+		}
+
+		@Override
+		public OutputStream getBody() {
+			return this.body;
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+
+		@Override
+		public HttpMethod getMethod() {
+			return this.method;
+		}
+
+		@Override
+		public String getMethodValue() {
+			return this.method.name();
+		}
+
+		@Override
+		public URI getURI() {
+			return this.uri;
+		}
+	}
+}
@@ -0,0 +1,440 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.Header;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.cache.CacheResponseStatus;
+import org.apache.http.client.cache.HttpCacheContext;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpExecutionAware;
+import org.apache.http.client.methods.HttpRequestWrapper;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.cache.CacheConfig;
+import org.apache.http.impl.client.cache.CachingHttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.execchain.ClientExecChain;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * One pool of keep-alive connections for every {@link org.springframework.web.client.RestTemplate} a client builds,
+ * instead of a new connection (and TCP handshake) per request. The pool
+ * <ul>
+ * <li>holds at most {@value #MAX_TOTAL} connections, {@value #MAX_PER_ROUTE} of them to the same host,</li>
+ * <li>keeps a connection for as long as the server's {@literal Keep-Alive} header allows, or {@link #KEEP_ALIVE}
+ * otherwise, and closes connections idle for longer than {@link #MAX_IDLE},</li>
+ * <li>gives up after {@link #CONNECT_TIMEOUT} connecting, {@link #READ_TIMEOUT} waiting for data and
+ * {@link #POOL_TIMEOUT} waiting for a free connection.</li>
+ * </ul>
+ * Besides the pool gauges {@literal httpcomponents.httpclient.pool.*} (max, leased, available, pending), it reports
+ * timers for how long requests waited for a connection ({@literal httpcomponents.httpclient.pool.wait}), how long they
+ * kept it ({@literal httpcomponents.httpclient.pool.lease}) and how long opening new ones took
+ * ({@literal httpcomponents.httpclient.connect}). The count of the last one is the number of handshakes.
+ * <p>
+ * Responses pass through an in-memory HTTP cache (RFC 7234) of at most {@value #MAX_CACHE_ENTRIES} entries. It honours
+ * {@literal Cache-Control}, revalidates with {@literal ETag} and {@literal Last-Modified}, serves
+ * {@literal stale-while-revalidate} responses while refreshing them in the background, and drops entries after an
+ * unsafe request to the same URI. {@literal httpcomponents.httpclient.cache.requests} counts the requests by how the
+ * cache answered: {@literal hit}, {@literal validated} (a {@literal 304} from the server), {@literal miss} or
+ * {@literal module} (answered by the cache itself, e.g. a {@literal 504} for {@literal only-if-cached}).
+ * {@literal httpcomponents.httpclient.cache.hit.ratio} is the share of requests answered without contacting the server.
+ * The cache can also sit in front of another {@link ClientHttpRequestFactory}, e.g. a load balancer that sends through
+ * {@link #uncachedRequestFactory()}. It then keys its entries on the URIs the client asked for, not on wherever the
+ * requests end up.
+ */
+public class PooledHttpTransport implements Closeable {
+
+	public static final int MAX_TOTAL = 50;
+	public static final int MAX_PER_ROUTE = 20;
+	public static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(2);
+	public static final Duration READ_TIMEOUT = Duration.ofSeconds(10);
+	public static final Duration POOL_TIMEOUT = Duration.ofSeconds(1);
+	public static final Duration KEEP_ALIVE = Duration.ofSeconds(15);
+	public static final Duration MAX_IDLE = Duration.ofSeconds(30);
+	public static final int MAX_CACHE_ENTRIES = 1_000;
+	public static final int MAX_CACHE_OBJECT_SIZE = 1024 * 1024;
+
+	private final InstrumentedConnectionManager connections;
+	private final CloseableHttpClient httpClient;
+	private final Map<CacheResponseStatus, Counter> cacheRequests = new EnumMap<>(CacheResponseStatus.class);
+	private final List<CloseableHttpClient> caches = new CopyOnWriteArrayList<>();
+	private final ClientHttpRequestFactory requestFactory;
+
+	/**
+	 * @param name tags the metrics, e.g. after the remote service
+	 * @param registry where to report them
+	 */
+	public PooledHttpTransport(String name, MeterRegistry registry) {
+
+		this.connections = new InstrumentedConnectionManager(name, registry);
+		this.connections.setMaxTotal(MAX_TOTAL);
+		this.connections.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+		this.connections.setValidateAfterInactivity(1_000);
+
+		new PoolingHttpClientConnectionManagerMetricsBinder(this.connections, name).bindTo(registry);
+
+		ConnectionKeepAliveStrategy keepAlive = (response, context) -> {
+
+			long announced = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+			return announced > 0 ? announced : KEEP_ALIVE.toMillis();
+		};
+
+		this.httpClient = HttpClientBuilder.create() //
+				.setConnectionManager(this.connections) //
+				.setKeepAliveStrategy(keepAlive) //
+				.evictExpiredConnections() //
+				.evictIdleConnections(MAX_IDLE.toMillis(), TimeUnit.MILLISECONDS) //
+				.setDefaultRequestConfig(RequestConfig.custom() //
+						.setConnectTimeout((int) CONNECT_TIMEOUT.toMillis()) //
+						.setSocketTimeout((int) READ_TIMEOUT.toMillis()) //
+						.setConnectionRequestTimeout((int) POOL_TIMEOUT.toMillis()) //
+						.build()) //
+				.build();
+
+		for (CacheResponseStatus status : CacheResponseStatus.values()) {
+			this.cacheRequests.put(status, Counter.builder("httpcomponents.httpclient.cache.requests") //
+					.description("Requests by how the HTTP cache answered them") //
+					.tag("httpclient", name) //
+					.tag("outcome", outcomeOf(status)) //
+					.register(registry));
+		}
+
+		Gauge.builder("httpcomponents.httpclient.cache.hit.ratio", this, PooledHttpTransport::hitRatio) //
+				.description("Share of requests answered by the HTTP cache without contacting the server") //
+				.tag("httpclient", name) //
+				.register(registry);
+
+		this.requestFactory = requestFactory(uncachedRequestFactory());
+	}
+
+	/**
+	 * @return a request factory sending through the cache and the pool, to share between any number of
+	 *         {@literal RestTemplate}s
+	 */
+	public ClientHttpRequestFactory requestFactory() {
+		return this.requestFactory;
+	}
+
+	/**
+	 * @param sender sends whatever the cache can't answer by itself
+	 * @return a request factory sending through a cache of its own, and then through {@literal sender}
+	 */
+	public ClientHttpRequestFactory requestFactory(ClientHttpRequestFactory sender) {
+
+		CloseableHttpClient cache = new InstrumentedCachingHttpClientBuilder(new SendingExec(sender),
+				this.cacheRequests) //
+						.setCacheConfig(CacheConfig.custom() //
+								.setMaxCacheEntries(MAX_CACHE_ENTRIES) //
+								.setMaxObjectSize(MAX_CACHE_OBJECT_SIZE) //
+								.setAsynchronousWorkersMax(2) //
+								.build()) //
+						.setConnectionManager(this.connections) //
+						.setConnectionManagerShared(true) //
+						.disableContentCompression() //
+						.disableCookieManagement() //
+						.disableRedirectHandling() //
+						.disableAutomaticRetries() //
+						.build();
+
+		this.caches.add(cache);
+
+		return new HttpComponentsClientHttpRequestFactory(cache);
+	}
+
+	/**
+	 * @return a request factory sending straight through the pool, bypassing the cache
+	 */
+	public ClientHttpRequestFactory uncachedRequestFactory() {
+		return new HttpComponentsClientHttpRequestFactory(this.httpClient);
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		for (CloseableHttpClient cache : this.caches) {
+			cache.close();
+		}
+
+		this.httpClient.close();
+	}
+
+	private static String outcomeOf(CacheResponseStatus status) {
+
+		switch (status) {
+			case CACHE_HIT:
+				return "hit";
+			case VALIDATED:
+				return "validated";
+			case CACHE_MISS:
+				return "miss";
+			default:
+				return "module";
+		}
+	}
+
+	private double hitRatio() {
+
+		double total = this.cacheRequests.values().stream().mapToDouble(Counter::count).sum();
+
+		return total == 0 ? 0 : this.cacheRequests.get(CacheResponseStatus.CACHE_HIT).count() / total;
+	}
+
+	/**
+	 * Counts how the HTTP cache answered each request, and sends the rest through a {@link SendingExec} instead of
+	 * the client's own connections.
+	 */
+	private static class InstrumentedCachingHttpClientBuilder extends CachingHttpClientBuilder {
+
+		private final ClientExecChain sender;
+		private final Map<CacheResponseStatus, Counter> requests;
+
+		InstrumentedCachingHttpClientBuilder(ClientExecChain sender, Map<CacheResponseStatus, Counter> requests) {
+
+			this.sender = sender;
+			this.requests = requests;
+		}
+
+		@Override
+		protected ClientExecChain decorateMainExec(ClientExecChain mainExec) {
+
+			ClientExecChain cachingExec = super.decorateMainExec(this.sender);
+
+			return (route, request, context, execAware) -> {
+
+				CloseableHttpResponse response = cachingExec.execute(route, request, context, execAware);
+				Object status = context.getAttribute(HttpCacheContext.CACHE_RESPONSE_STATUS);
+
+				if (status instanceof CacheResponseStatus) {
+					this.requests.get(status).increment();
+				}
+
+				return response;
+			};
+		}
+	}
+
+	/**
+	 * Hands the requests the cache can't answer to a {@link ClientHttpRequestFactory}, addressed to the host the client
+	 * asked for.
+	 */
+	private static class SendingExec implements ClientExecChain {
+
+		/**
+		 * Managed by whoever sends the request on, not copied from the cache's request.
+		 */
+		private static final List<String> SKIPPED_HEADERS = Arrays.asList(HTTP.TARGET_HOST, HTTP.CONN_DIRECTIVE,
+				HTTP.CONTENT_LEN, HTTP.TRANSFER_ENCODING);
+
+		private final ClientHttpRequestFactory sender;
+
+		SendingExec(ClientHttpRequestFactory sender) {
+			this.sender = sender;
+		}
+
+		@Override
+		public CloseableHttpResponse execute(HttpRoute route, HttpRequestWrapper request, HttpClientContext context,
+				HttpExecutionAware execAware) throws IOException {
+
+			HttpHost target = route.getTargetHost();
+			URI uri = UriComponentsBuilder.fromUri(request.getURI()) //
+					.scheme(target.getSchemeName()) //
+					.host(target.getHostName()) //
+					.port(target.getPort()) //
+					.build(true) //
+					.toUri();
+			HttpMethod method = HttpMethod.resolve(request.getRequestLine().getMethod());
+
+			ClientHttpRequest forwarded = this.sender.createRequest(uri, method);
+
+			for (Header header : request.getAllHeaders()) {
+				if (SKIPPED_HEADERS.stream().noneMatch(header.getName()::equalsIgnoreCase)) {
+					forwarded.getHeaders().add(header.getName(), header.getValue());
+				}
+			}
+
+			if (request instanceof HttpEntityEnclosingRequest) {
+
+				HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+
+				if (entity != null) {
+					entity.writeTo(forwarded.getBody());
+				}
+			}
+
+			return new SentResponse(forwarded.execute(), method == HttpMethod.HEAD);
+		}
+	}
+
+	/**
+	 * A {@link ClientHttpResponse} as the cache expects it.
+	 */
+	private static class SentResponse extends BasicHttpResponse implements CloseableHttpResponse {
+
+		private final ClientHttpResponse response;
+
+		SentResponse(ClientHttpResponse response, boolean head) throws IOException {
+
+			super(HttpVersion.HTTP_1_1, response.getRawStatusCode(), response.getStatusText());
+
+			this.response = response;
+
+			response.getHeaders().forEach((name, values) -> values.forEach(value -> addHeader(name, value)));
+
+			int status = response.getRawStatusCode();
+			long length = response.getHeaders().getContentLength();
+
+			if (!head && length != 0 && status >= HttpStatus.SC_OK && status != HttpStatus.SC_NO_CONTENT
+					&& status != HttpStatus.SC_NOT_MODIFIED) {
+
+				BasicHttpEntity entity = new BasicHttpEntity();
+				entity.setContent(response.getBody());
+				entity.setContentLength(length);
+				entity.setContentType(getFirstHeader(HTTP.CONTENT_TYPE));
+				entity.setContentEncoding(getFirstHeader(HTTP.CONTENT_ENCODING));
+
+				setEntity(entity);
+			}
+		}
+
+		@Override
+		public void close() {
+			this.response.close();
+		}
+	}
+
+	/**
+	 * Times the life cycle of pooled connections: waiting for one, holding it and opening new ones.
+	 */
+	private static class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+		private final Timer waits;
+		private final Timer leases;
+		private final Timer connects;
+		private final ConcurrentMap<HttpClientConnection, Long> leasedAt = new ConcurrentHashMap<>();
+
+		InstrumentedConnectionManager(String name, MeterRegistry registry) {
+
+			this.waits = Timer.builder("httpcomponents.httpclient.pool.wait") //
+					.description("Time spent waiting for a pooled connection") //
+					.tag("httpclient", name) //
+					.register(registry);
+			this.leases = Timer.builder("httpcomponents.httpclient.pool.lease") //
+					.description("Time a request held on to a pooled connection") //
+					.tag("httpclient", name) //
+					.register(registry);
+			this.connects = Timer.builder("httpcomponents.httpclient.connect") //
+					.description("Time spent opening new connections") //
+					.tag("httpclient", name) //
+					.register(registry);
+		}
+
+		@Override
+		public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+
+			ConnectionRequest request = super.requestConnection(route, state);
+
+			return new ConnectionRequest() {
+
+				@Override
+				public HttpClientConnection get(long timeout, TimeUnit unit)
+						throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+
+					long start = System.nanoTime();
+
+					try {
+						HttpClientConnection connection = request.get(timeout, unit);
+						leasedAt.put(connection, System.nanoTime());
+						return connection;
+					} finally {
+						waits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+					}
+				}
+
+				@Override
+				public boolean cancel() {
+					return request.cancel();
+				}
+			};
+		}
+
+		@Override
+		public void connect(HttpClientConnection connection, HttpRoute route, int connectTimeout, HttpContext context)
+				throws IOException {
+
+			long start = System.nanoTime();
+
+			try {
+				super.connect(connection, route, connectTimeout, context);
+			} finally {
+				this.connects.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		}
+
+		@Override
+		public void releaseConnection(HttpClientConnection connection, Object state, long keepAlive, TimeUnit unit) {
+
+			Long start = this.leasedAt.remove(connection);
+
+			if (start != null) {
+				this.leases.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+
+			super.releaseConnection(connection, state, keepAlive, unit);
+		}
+	}
+}
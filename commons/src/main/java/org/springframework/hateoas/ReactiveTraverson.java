@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.client.LinkDiscoverer;
+import org.springframework.hateoas.client.Traverson;
+import org.springframework.hateoas.mediatype.hal.HalLinkDiscoverer;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * A non-blocking take on {@link Traverson} for {@literal HAL} services. Hops are chained on a {@link WebClient} instead
+ * of blocking the calling thread, and independent resources, e.g. the pages of a collection once the first one tells
+ * how many there are, are fetched in parallel, at most {@literal concurrency} at a time. A page that needs several of
+ * them waits for the slowest, not for all of them in turn.
+ * <p>
+ * The {@link WebClient} needs the hypermedia types registered, e.g. through
+ * {@link org.springframework.hateoas.config.HypermediaWebClientConfigurer}.
+ */
+public class ReactiveTraverson {
+
+	private final WebClient webClient;
+	private final int concurrency;
+	private final LinkDiscoverer discoverer = new HalLinkDiscoverer();
+
+	/**
+	 * @param webClient used for every request
+	 * @param concurrency how many requests one fan-out may have in flight
+	 */
+	public ReactiveTraverson(WebClient webClient, int concurrency) {
+
+		this.webClient = webClient;
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Hop from {@literal root} along {@literal rels}.
+	 *
+	 * @param root the remote service's root
+	 * @param rels the relations to follow
+	 * @return the link found for the last relation, with relative hrefs resolved
+	 */
+	public Mono<Link> follow(URI root, String... rels) {
+
+		Mono<Link> link = Mono.just(Link.of(root.toString()));
+
+		for (String rel : rels) {
+			link = link.flatMap(document -> fetchDocument(document) //
+					.map(body -> discover(document, body, rel)));
+		}
+
+		return link;
+	}
+
+	/**
+	 * Fetch the resource {@literal link} points to.
+	 *
+	 * @param link
+	 * @param type e.g. {@link org.springframework.hateoas.server.core.TypeReferences.CollectionModelType}
+	 * @return the resource
+	 */
+	public <T> Mono<T> get(Link link, ParameterizedTypeReference<T> type) {
+
+		return this.webClient.get() //
+				.uri(URI.create(link.expand().getHref())) //
+				.retrieve() //
+				.bodyToMono(type);
+	}
+
+	/**
+	 * Fetch every link in parallel, e.g. the pages of a collection.
+	 *
+	 * @param links
+	 * @param type what each link points to
+	 * @return the resources, in the order of {@literal links}
+	 */
+	public <T> Flux<T> getAll(Iterable<Link> links, ParameterizedTypeReference<T> type) {
+		return Flux.fromIterable(links).flatMapSequential(link -> get(link, type), this.concurrency);
+	}
+
+	private Mono<String> fetchDocument(Link document) {
+
+		return this.webClient.get() //
+				.uri(URI.create(document.expand().getHref())) //
+				.accept(MediaTypes.HAL_JSON) //
+				.retrieve() //
+				.bodyToMono(String.class);
+	}
+
+	private Link discover(Link document, String body, String rel) {
+
+		Link link = this.discoverer.findRequiredLinkWithRel(LinkRelation.of(rel), body);
+
+		return link.isTemplated() //
+				? link //
+				: link.withHref(URI.create(document.expand().getHref()).resolve(link.getHref()).toString());
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RestOperations;
+
+/**
+ * Keeps what a client rendered from a remote resource, e.g. an HTML table of a collection, along with the resource's
+ * {@literal ETag}. The resource is fetched with {@literal If-None-Match} every time. As long as the remote service
+ * answers {@literal 304 Not Modified}, or an HTTP cache in between answers with the same {@literal ETag}, the kept
+ * rendering is used and the response body is neither read nor rendered again. Resources without an {@literal ETag}
+ * are rendered every time.
+ * <p>
+ * {@literal fragment.cache.requests} counts the renderings by {@literal outcome}, {@literal hit} or {@literal miss}.
+ */
+public class RenderedFragmentCache {
+
+	private final RestOperations rest;
+	private final Map<URI, Fragment> fragments;
+	private final Counter hits;
+	private final Counter misses;
+
+	/**
+	 * @param rest fetches the resources
+	 * @param maxEntries how many resources to keep renderings of, the least recently used is dropped first
+	 * @param name tags the metrics
+	 * @param registry where to report them
+	 */
+	public RenderedFragmentCache(RestOperations rest, int maxEntries, String name, MeterRegistry registry) {
+
+		this.rest = rest;
+		this.fragments = Collections.synchronizedMap(new LinkedHashMap<URI, Fragment>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<URI, Fragment> eldest) {
+				return size() > maxEntries;
+			}
+		});
+		this.hits = Counter.builder("fragment.cache.requests") //
+				.description("Renderings by whether they were reused") //
+				.tag("cache", name) //
+				.tag("outcome", "hit") //
+				.register(registry);
+		this.misses = Counter.builder("fragment.cache.requests") //
+				.description("Renderings by whether they were reused") //
+				.tag("cache", name) //
+				.tag("outcome", "miss") //
+				.register(registry);
+	}
+
+	/**
+	 * Render {@literal resource}, unless the rendering kept for it is still current.
+	 *
+	 * @param resource what to fetch
+	 * @param mediaType the representation to ask for
+	 * @param renderer turns a fresh response into the rendering
+	 * @return the rendering
+	 */
+	public String render(URI resource, MediaType mediaType, Renderer renderer) {
+
+		Fragment cached = this.fragments.get(resource);
+
+		return this.rest.execute(resource, HttpMethod.GET, request -> {
+
+			request.getHeaders().setAccept(Collections.singletonList(mediaType));
+
+			if (cached != null) {
+				request.getHeaders().setIfNoneMatch(cached.eTag);
+			}
+
+		}, response -> {
+
+			String eTag = response.getHeaders().getETag();
+
+			if (cached != null
+					&& (response.getRawStatusCode() == HttpStatus.NOT_MODIFIED.value() || cached.eTag.equals(eTag))) {
+
+				this.hits.increment();
+				return cached.rendering;
+			}
+
+			this.misses.increment();
+			String rendering = renderer.render(response);
+
+			if (eTag != null) {
+				this.fragments.put(resource, new Fragment(eTag, rendering));
+			}
+
+			return rendering;
+		});
+	}
+
+	/**
+	 * Renders a response that isn't in the cache yet.
+	 */
+	@FunctionalInterface
+	public interface Renderer {
+
+		String render(ClientHttpResponse response) throws IOException;
+	}
+
+	private static final class Fragment {
+
+		private final String eTag;
+		private final String rendering;
+
+		Fragment(String eTag, String rendering) {
+
+			this.eTag = eTag;
+			this.rendering = rendering;
+		}
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.*;
+
+import lombok.Getter;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
+import org.springframework.hateoas.server.reactive.SimpleReactiveRepresentationModelAssembler;
+import org.springframework.hateoas.server.reactive.WebFluxLinkBuilder;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reactive counterpart of {@link SimpleIdentifiableRepresentationModelAssembler}, for Spring WebFlux controllers. Links
+ * follow the same strategy, {@code /employees} and {@code /employees/1} for an {@literal EmployeeController} serving
+ * up {@literal Employee} objects, but are resolved against the current {@link ServerWebExchange}.
+ * <p>
+ * {@link WebFluxLinkBuilder} resolves the collection's link once per response, from a handler method mapped to the
+ * collection. Item links only add the id to it, so a large collection doesn't pay for a {@link Mono} per item.
+ */
+public class SimpleIdentifiableReactiveRepresentationModelAssembler<T>
+		implements SimpleReactiveRepresentationModelAssembler<T> {
+
+	/**
+	 * Invocation of a Spring WebFlux handler method mapped to the collection, recorded with
+	 * {@link WebFluxLinkBuilder#methodOn(Class, Object...)}.
+	 */
+	private final Object collectionInvocation;
+
+	/**
+	 * A {@link LinkRelationProvider} to look up names of links as options for resource paths.
+	 */
+	@Getter private final LinkRelationProvider relProvider;
+
+	/**
+	 * A {@link Class} depicting the object's type.
+	 */
+	@Getter private final Class<?> resourceType;
+
+	/**
+	 * Renders the items of {@link #toStreamingCollectionModel(Flux, ServerWebExchange)}.
+	 */
+	private final ObjectMapper halMapper;
+
+	/**
+	 * The {@literal id} property of {@link #resourceType}, looked up once rather than per item.
+	 */
+	private final Field idField;
+
+	/**
+	 * Default a assembler based on a Spring WebFlux handler method mapped to the collection, resource type, and
+	 * {@link LinkRelationProvider}.
+	 *
+	 * @param collectionInvocation - the handler method to base links off of, e.g.
+	 *          {@code methodOn(EmployeeController.class).newEmployee(null, null)}
+	 * @param relProvider
+	 * @param halMapper - the application's {@link ObjectMapper} for HAL, so streamed items are rendered just like the
+	 *          ones Spring HATEOAS writes, e.g. {@code halConfiguration.configureObjectMapper(objectMapper.copy())}
+	 */
+	public SimpleIdentifiableReactiveRepresentationModelAssembler(Object collectionInvocation,
+			LinkRelationProvider relProvider, ObjectMapper halMapper) {
+
+		this.collectionInvocation = collectionInvocation;
+		this.relProvider = relProvider;
+		this.resourceType = GenericTypeResolver.resolveTypeArgument(this.getClass(),
+				SimpleIdentifiableReactiveRepresentationModelAssembler.class);
+		this.halMapper = halMapper;
+
+		Field id = ReflectionUtils.findField(this.resourceType, "id");
+		Assert.notNull(id, () -> this.resourceType + " has no id field");
+		ReflectionUtils.makeAccessible(id);
+
+		this.idField = id;
+	}
+
+	/**
+	 * Alternate constructor that renders streamed items with a plain {@link ObjectMapper}, configured for HAL but
+	 * without any of the application's Jackson customizations.
+	 *
+	 * @param collectionInvocation
+	 * @param relProvider
+	 */
+	public SimpleIdentifiableReactiveRepresentationModelAssembler(Object collectionInvocation,
+			LinkRelationProvider relProvider) {
+		this(collectionInvocation, relProvider, defaultHalMapper(relProvider));
+	}
+
+	/**
+	 * Alternate constructor that falls back to {@link EvoInflectorLinkRelationProvider}.
+	 *
+	 * @param collectionInvocation
+	 */
+	public SimpleIdentifiableReactiveRepresentationModelAssembler(Object collectionInvocation) {
+		this(collectionInvocation, new EvoInflectorLinkRelationProvider());
+	}
+
+	/**
+	 * Add single item self link based on the object and link back to aggregate root of the {@literal T} domain type using
+	 * {@link LinkRelationProvider#getCollectionResourceRelFor(Class)}}.
+	 *
+	 * @param entity
+	 * @param exchange
+	 */
+	@Override
+	public Mono<EntityModel<T>> toModel(T entity, ServerWebExchange exchange) {
+		return getCollectionLink(exchange).map(collection -> addLinks(EntityModel.of(entity), collection));
+	}
+
+	/**
+	 * Link every item like {@link #toModel(Object, ServerWebExchange)} does, and add a self link to the aggregate root.
+	 *
+	 * @param entities
+	 * @param exchange
+	 */
+	@Override
+	public Mono<CollectionModel<EntityModel<T>>> toCollectionModel(Flux<? extends T> entities,
+			ServerWebExchange exchange) {
+
+		return getCollectionLink(exchange).flatMap(collection -> entities //
+				.map(entity -> addLinks(EntityModel.<T> of(entity), collection)) //
+				.collectList() //
+				.map(models -> CollectionModel.of(models, collection.withSelfRel())));
+	}
+
+	/**
+	 * Render a HAL collection while the entities are still arriving. Unlike
+	 * {@link #toCollectionModel(Flux, ServerWebExchange)}, which collects all entities before anything is written, the
+	 * response starts with the first entity and holds at most one rendered item at a time. Return the result from a
+	 * handler method that produces {@link MediaTypes#HAL_JSON}.
+	 * <p>
+	 * Nothing is emitted before the first entity, so an empty collection renders without {@literal _embedded}, and an
+	 * error before the first entity still turns into a regular error response. Once the first entity is written, the
+	 * status is committed: a later error ends the {@link Flux} without the closing brackets, and WebFlux aborts the
+	 * response, which clients see as an incomplete body rather than a complete document.
+	 *
+	 * @param entities
+	 * @param exchange
+	 * @return the HAL document, in chunks
+	 */
+	public Flux<DataBuffer> toStreamingCollectionModel(Flux<? extends T> entities, ServerWebExchange exchange) {
+
+		DataBufferFactory buffers = exchange.getResponse().bufferFactory();
+		String rel = this.relProvider.getCollectionResourceRelFor(this.resourceType).value();
+
+		return getCollectionLink(exchange).flatMapMany(collection -> {
+
+			AtomicBoolean embedded = new AtomicBoolean();
+
+			Flux<DataBuffer> items = entities.map(entity -> {
+
+				String json = render(addLinks(EntityModel.<T> of(entity), collection));
+
+				return wrap(buffers, embedded.compareAndSet(false, true) //
+						? "{\"_embedded\":{\"" + rel + "\":[" + json //
+						: "," + json);
+			});
+
+			Mono<DataBuffer> footer = Mono.fromCallable(() -> {
+
+				String links = render(CollectionModel.empty(collection.withSelfRel()));
+
+				// Reuse everything after the opening brace, just "_links".
+				return wrap(buffers, embedded.get() ? "]}," + links.substring(1) : links);
+			});
+
+			return items.concatWith(footer);
+		});
+	}
+
+	/**
+	 * Resolve the link to the collection against the current request, with the rel of the {@literal T} domain type's
+	 * collection. Override this to serve resources elsewhere.
+	 *
+	 * @param exchange
+	 * @return
+	 */
+	protected Mono<Link> getCollectionLink(ServerWebExchange exchange) {
+
+		return linkTo(this.collectionInvocation, exchange) //
+				.withRel(this.relProvider.getCollectionResourceRelFor(this.resourceType)) //
+				.toMono();
+	}
+
+	private EntityModel<T> addLinks(EntityModel<T> resource, Link collection) {
+
+		String self = UriComponentsBuilder.fromUriString(collection.getHref()) //
+				.pathSegment(String.valueOf(getId(resource))) //
+				.build() //
+				.toUriString();
+
+		resource.add(Link.of(self));
+		resource.add(collection);
+
+		return resource;
+	}
+
+	private Object getId(EntityModel<T> resource) {
+		return ReflectionUtils.getField(this.idField, resource.getContent());
+	}
+
+	private String render(RepresentationModel<?> model) {
+
+		try {
+			return this.halMapper.writeValueAsString(model);
+		} catch (JsonProcessingException e) {
+			throw Exceptions.propagate(e);
+		}
+	}
+
+	private static ObjectMapper defaultHalMapper(LinkRelationProvider relProvider) {
+
+		ObjectMapper mapper = new ObjectMapper().registerModule(new Jackson2HalModule());
+		mapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(relProvider, CurieProvider.NONE,
+				MessageResolver.DEFAULTS_ONLY));
+
+		return mapper;
+	}
+
+	private static DataBuffer wrap(DataBufferFactory buffers, String json) {
+		return buffers.wrap(json.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Fills tables with as many made up rows as {@link SyntheticDataProperties} asks for, e.g. a million employees, in
+ * seconds rather than the hours saving them one at a time through a repository would take:
+ * <ul>
+ * <li>Rows go over plain JDBC, in batches of {@literal synthetic-data.batch-size} that are committed together.</li>
+ * <li>{@literal synthetic-data.threads} threads insert ranges of rows side by side, each on a connection of its
+ * own.</li>
+ * <li>Each row gets a random generator of its own, seeded from {@literal synthetic-data.seed}, the statement and the
+ * row's index, so the same settings always generate the same rows, whichever thread inserts them.</li>
+ * </ul>
+ * Ids come from the sequence Hibernate would have taken them from, see {@link #reserveIds(String, long)}, so the
+ * application can keep adding rows of its own afterwards. Entity listeners and caches don't see these rows, anything
+ * built from them has to be rebuilt.
+ */
+public class SyntheticDataGenerator {
+
+	private static final String[] FIRST_NAMES = { "Frodo", "Bilbo", "Sam", "Merry", "Pippin", "Rosie", "Lobelia",
+			"Hamfast", "Belladonna", "Drogo", "Primula", "Fatty", "Folco", "Elanor", "Otho", "Lotho" };
+	private static final String[] LAST_NAMES = { "Baggins", "Gamgee", "Brandybuck", "Took", "Cotton", "Sackville",
+			"Bolger", "Proudfoot", "Boffin", "Burrows", "Goodbody", "Hornblower", "Maggot", "Underhill" };
+	private static final String[] ROLES = { "ring bearer", "burglar", "gardener", "cook", "miller", "farmer",
+			"innkeeper", "postmaster", "shirriff", "tailor", "brewer", "smith" };
+
+	private final DataSource dataSource;
+	private final SyntheticDataProperties properties;
+
+	public SyntheticDataGenerator(DataSource dataSource, SyntheticDataProperties properties) {
+
+		this.dataSource = dataSource;
+		this.properties = properties;
+	}
+
+	public SyntheticDataProperties getProperties() {
+		return this.properties;
+	}
+
+	/**
+	 * Take {@literal count} consecutive ids out of an H2 sequence, and move the sequence past them, far enough that
+	 * Hibernate's next block of ids (as many as the sequence's increment) doesn't run into them either.
+	 *
+	 * @param sequence e.g. {@literal hibernate_sequence}
+	 * @return the first of the ids
+	 */
+	public long reserveIds(String sequence, long count) {
+
+		try (Connection connection = this.dataSource.getConnection(); Statement statement = connection.createStatement()) {
+
+			long first = queryForLong(statement, "SELECT NEXT VALUE FOR " + sequence);
+			long increment = queryForLong(statement,
+					"SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = '" + sequence.toUpperCase() + "'");
+
+			statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (first + count + increment));
+
+			return first;
+		} catch (SQLException e) {
+			throw new IllegalStateException("Couldn't reserve " + count + " ids from " + sequence, e);
+		}
+	}
+
+	/**
+	 * Insert {@literal count} rows.
+	 *
+	 * @param sql an {@literal INSERT} with a parameter per column
+	 * @param row the parameters of the row with the given index, from {@literal 0} to {@literal count - 1}
+	 * @return how many rows were inserted
+	 */
+	public long insert(String sql, long count, Row row) {
+		return insert(sql, 0, count, row);
+	}
+
+	/**
+	 * Insert the rows with indexes from {@literal start} up to {@literal end}, e.g. one level of a hierarchy after the
+	 * other, so each can refer to rows of the ones before.
+	 *
+	 * @param sql an {@literal INSERT} with a parameter per column
+	 * @param row the parameters of the row with the given index
+	 * @return how many rows were inserted
+	 */
+	public long insert(String sql, long start, long end, Row row) {
+
+		long count = end - start;
+		int batchSize = this.properties.getBatchSize();
+		long batches = (count + batchSize - 1) / batchSize;
+		int threads = (int) Math.max(1, Math.min(this.properties.getThreads(), batches));
+		long perThread = (count + threads - 1) / threads;
+
+		ExecutorService pool = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("synthetic-data-"));
+		List<Future<?>> ranges = new ArrayList<>();
+
+		try {
+			for (long from = start; from < end; from += perThread) {
+
+				long rangeStart = from;
+				long rangeEnd = Math.min(end, from + perThread);
+
+				ranges.add(pool.submit(() -> {
+					insertRange(sql, rangeStart, rangeEnd, row);
+					return null;
+				}));
+			}
+
+			for (Future<?> range : ranges) {
+				range.get();
+			}
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Couldn't insert synthetic data with " + sql, e.getCause());
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted inserting synthetic data with " + sql, e);
+		} finally {
+			pool.shutdownNow();
+		}
+
+		return count;
+	}
+
+	/**
+	 * Insert the rows from {@literal start} up to {@literal end} on one connection, committing after every batch.
+	 */
+	private void insertRange(String sql, long start, long end, Row row) throws SQLException {
+
+		int batchSize = this.properties.getBatchSize();
+		long seed = this.properties.getSeed() ^ sql.hashCode();
+
+		try (Connection connection = this.dataSource.getConnection()) {
+
+			connection.setAutoCommit(false);
+
+			try (PreparedStatement statement = connection.prepareStatement(sql)) {
+
+				for (long index = start; index < end; index++) {
+
+					Object[] values = row.values(index, new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L)));
+
+					for (int i = 0; i < values.length; i++) {
+						statement.setObject(i + 1, values[i]);
+					}
+
+					statement.addBatch();
+
+					if ((index - start + 1) % batchSize == 0 || index == end - 1) {
+
+						statement.executeBatch();
+						connection.commit();
+					}
+				}
+			} catch (SQLException e) {
+
+				connection.rollback();
+				throw e;
+			} finally {
+				connection.setAutoCommit(true);
+			}
+		}
+	}
+
+	private static long queryForLong(Statement statement, String sql) throws SQLException {
+
+		try (ResultSet result = statement.executeQuery(sql)) {
+
+			result.next();
+			return result.getLong(1);
+		}
+	}
+
+	public static String firstName(SplittableRandom random) {
+		return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+	}
+
+	public static String lastName(SplittableRandom random) {
+		return LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+	}
+
+	public static String role(SplittableRandom random) {
+		return ROLES[random.nextInt(ROLES.length)];
+	}
+
+	/**
+	 * Pick one of the keys, each as often as its weight says, relative to the others.
+	 */
+	public static <T> T pick(Map<T, Double> weights, SplittableRandom random) {
+
+		double total = weights.values().stream().mapToDouble(Double::doubleValue).sum();
+		double target = random.nextDouble() * total;
+		T picked = null;
+
+		for (Map.Entry<T, Double> weight : weights.entrySet()) {
+
+			picked = weight.getKey();
+			target -= weight.getValue();
+
+			if (target < 0) {
+				break;
+			}
+		}
+
+		return picked;
+	}
+
+	/**
+	 * Makes up the values of one row.
+	 */
+	@FunctionalInterface
+	public interface Row {
+
+		/**
+		 * @param index which row, from {@literal 0}
+		 * @param random only for this row
+		 * @return the parameters of the {@literal INSERT}, in order
+		 */
+		Object[] values(long index, SplittableRandom random);
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.validation.constraints.Min;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * How much {@link SyntheticDataGenerator} adds to each example's database on startup, on top of the handful of rows it
+ * always loads, e.g. {@literal --synthetic-data.employees=1000000}. Nothing by default.
+ */
+@Data
+@Validated
+@ConfigurationProperties("synthetic-data")
+public class SyntheticDataProperties {
+
+	/**
+	 * Employees to generate.
+	 */
+	private long employees;
+
+	/**
+	 * Employees per manager, and managers per manager above them, where there are managers. At least two, or the
+	 * managers wouldn't get any fewer going up.
+	 */
+	@Min(2) private int employeesPerManager = 10;
+
+	/**
+	 * Orders to generate.
+	 */
+	private long orders;
+
+	/**
+	 * How often each order status comes up, relative to the others, e.g. {@literal FULFILLED: 6} and
+	 * {@literal CANCELLED: 1}. Every status is equally likely if empty.
+	 */
+	private Map<String, Double> orderStatuses = new LinkedHashMap<>();
+
+	/**
+	 * The same seed generates the same rows, however many threads insert them.
+	 */
+	private long seed = 42;
+
+	/**
+	 * Threads inserting side by side, each on a connection of its own.
+	 */
+	private int threads = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Rows sent in one JDBC batch, and committed together.
+	 */
+	private int batchSize = 1_000;
+}
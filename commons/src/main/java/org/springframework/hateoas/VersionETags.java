@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.OptionalLong;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+
+/**
+ * Entity tags derived from a JPA {@literal @Version}, for optimistic concurrency over HTTP. A client sends the
+ * {@literal ETag} it last saw back as {@literal If-Match}; the server only writes if the entity is still at that
+ * version, and answers {@literal 412 Precondition Failed} otherwise. No locks are held between read and write.
+ */
+public final class VersionETags {
+
+	private VersionETags() {}
+
+	/**
+	 * @param version
+	 * @return the strong entity tag for {@literal version}, quoted
+	 */
+	public static String of(long version) {
+		return "\"" + version + "\"";
+	}
+
+	/**
+	 * @param version may be {@literal null} for an entity that hasn't been stored yet
+	 * @return headers carrying the {@literal ETag} for {@literal version}, empty if there is none
+	 */
+	public static HttpHeaders headersFor(@Nullable Long version) {
+
+		HttpHeaders headers = new HttpHeaders();
+
+		if (version != null) {
+			headers.setETag(of(version));
+		}
+
+		return headers;
+	}
+
+	/**
+	 * @param ifMatch value of an {@literal If-Match} header
+	 * @return whether it matches any current representation
+	 */
+	public static boolean isWildcard(String ifMatch) {
+		return "*".equals(ifMatch.trim());
+	}
+
+	/**
+	 * @param ifMatch value of an {@literal If-Match} header, {@literal null} if there is none
+	 * @param version the entity's current version
+	 * @return whether a write may go ahead on the entity at {@literal version}
+	 */
+	public static boolean matches(@Nullable String ifMatch, long version) {
+
+		if (ifMatch == null || isWildcard(ifMatch)) {
+			return true;
+		}
+
+		OptionalLong expected = versionOf(ifMatch);
+
+		return expected.isPresent() && expected.getAsLong() == version;
+	}
+
+	/**
+	 * Extract the version an {@literal If-Match} header asks for. {@literal If-Match} uses the strong comparison, so weak
+	 * tags never match. Neither does a list of tags, as a version can only ever be at one of them.
+	 *
+	 * @param ifMatch value of an {@literal If-Match} header
+	 * @return the version, or empty if the header can't match any version
+	 */
+	public static OptionalLong versionOf(String ifMatch) {
+
+		String tag = ifMatch.trim();
+
+		if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+			return OptionalLong.empty();
+		}
+
+		try {
+			return OptionalLong.of(Long.parseLong(tag.substring(1, tag.length() - 1)));
+		} catch (NumberFormatException e) {
+			return OptionalLong.empty();
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.TypeReferences.CollectionModelType;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares {@link HalCollectionReader} with deserializing a whole {@link CollectionModel}, for all items and for just
+ * the first one. Run it with
+ *
+ * <pre>
+ * mvn -pl commons test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main HalCollectionReaderBenchmark -prof gc"
+ * </pre>
+ *
+ * {@literal gc.alloc.rate.norm} is what one read allocates. It doesn't show that the tree keeps all of it until the
+ * last item is used, while the reader lets each item go before reading the next.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HalCollectionReaderBenchmark {
+
+	private static final ParameterizedTypeReference<EntityModel<Employee>> EMPLOYEE = //
+			new ParameterizedTypeReference<EntityModel<Employee>>() {};
+
+	@Param({ "100", "10000" }) //
+	int employees;
+
+	private byte[] document;
+	private ObjectMapper mapper;
+	private JavaType collectionType;
+	private HalCollectionReader reader;
+
+	@Setup
+	public void setUp() {
+
+		StringBuilder json = new StringBuilder("{\"_embedded\":{\"employees\":[");
+
+		for (int id = 1; id <= this.employees; id++) {
+
+			json.append(id == 1 ? "" : ",") //
+					.append("{\"id\":").append(id) //
+					.append(",\"name\":\"Employee ").append(id) //
+					.append("\",\"role\":\"Role ").append(id % 7) //
+					.append("\",\"_links\":{\"self\":{\"href\":\"http://localhost:9000/employees/").append(id) //
+					.append("\"},\"employees\":{\"href\":\"http://localhost:9000/employees\"}}}");
+		}
+
+		json.append("]},\"_links\":{\"self\":{\"href\":\"http://localhost:9000/employees\"}}}");
+
+		this.document = json.toString().getBytes(StandardCharsets.UTF_8);
+		this.mapper = new ObjectMapper() //
+				.registerModule(new Jackson2HalModule()) //
+				.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+		this.collectionType = this.mapper.constructType(new CollectionModelType<EntityModel<Employee>>() {}.getType());
+		this.reader = new HalCollectionReader(this.mapper);
+	}
+
+	@Benchmark
+	public void treeAllItems(Blackhole blackhole) throws IOException {
+
+		CollectionModel<EntityModel<Employee>> collection = this.mapper.readValue(this.document, this.collectionType);
+
+		collection.getContent().forEach(blackhole::consume);
+		blackhole.consume(collection.getLinks());
+	}
+
+	@Benchmark
+	public void streamingAllItems(Blackhole blackhole) throws IOException {
+
+		try (HalCollectionReader.Items<EntityModel<Employee>> items = this.reader
+				.read(new ByteArrayInputStream(this.document), EMPLOYEE)) {
+
+			items.forEachRemaining(blackhole::consume);
+			blackhole.consume(items.getLinks());
+		}
+	}
+
+	@Benchmark
+	public EntityModel<Employee> treeFirstItem() throws IOException {
+
+		CollectionModel<EntityModel<Employee>> collection = this.mapper.readValue(this.document, this.collectionType);
+
+		return collection.getContent().iterator().next();
+	}
+
+	@Benchmark
+	public EntityModel<Employee> streamingFirstItem() throws IOException {
+
+		try (HalCollectionReader.Items<EntityModel<Employee>> items = this.reader
+				.read(new ByteArrayInputStream(this.document), EMPLOYEE)) {
+
+			return items.next();
+		}
+	}
+
+	public static class Employee {
+
+		public Long id;
+		public String name;
+		public String role;
+	}
+}
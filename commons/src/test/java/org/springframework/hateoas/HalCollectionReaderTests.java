@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+
+/**
+ * {@link HalCollectionReader} on the shapes a {@literal HAL} collection can take.
+ */
+public class HalCollectionReaderTests {
+
+	private static final ParameterizedTypeReference<EntityModel<Employee>> EMPLOYEE = //
+			new ParameterizedTypeReference<EntityModel<Employee>>() {};
+
+	private final HalCollectionReader reader = new HalCollectionReader();
+
+	@Test
+	void anArrayShouldBeReadItemByItem() throws IOException {
+
+		try (HalCollectionReader.Items<EntityModel<Employee>> items = read("{ \"_embedded\" : { \"employees\" : [ " //
+				+ "{ \"name\" : \"Frodo\", \"_links\" : { \"self\" : { \"href\" : \"/employees/1\" } } }, " //
+				+ "{ \"name\" : \"Bilbo\", \"_links\" : { \"self\" : { \"href\" : \"/employees/2\" } } } ] } }")) {
+
+			EntityModel<Employee> frodo = items.next();
+
+			assertThat(frodo.getContent().name, is("Frodo"));
+			assertThat(frodo.getRequiredLink(IanaLinkRelations.SELF).getHref(), is("/employees/1"));
+			assertThat(items.next().getContent().name, is("Bilbo"));
+			assertThat(items.hasNext(), is(false));
+			assertThrows(NoSuchElementException.class, items::next);
+		}
+	}
+
+	@Test
+	void aSingleEmbeddedResourceShouldBeAnItem() throws IOException {
+		assertThat(names("{ \"_embedded\" : { \"employee\" : { \"name\" : \"Frodo\" } } }"), contains("Frodo"));
+	}
+
+	@Test
+	void itemsOfEveryRelationShouldBeReadInDocumentOrder() throws IOException {
+
+		assertThat(names("{ \"_embedded\" : { " //
+				+ "\"managers\" : [ { \"name\" : \"Gandalf\" } ], " //
+				+ "\"employee\" : { \"name\" : \"Frodo\" }, " //
+				+ "\"employees\" : [ { \"name\" : \"Sam\" }, { \"name\" : \"Merry\" } ], " //
+				+ "\"volunteers\" : [] } }"), contains("Gandalf", "Frodo", "Sam", "Merry"));
+	}
+
+	@Test
+	void linksBeforeTheItemsShouldBeThereWithTheFirstItem() throws IOException {
+
+		try (HalCollectionReader.Items<EntityModel<Employee>> items = read("{ " //
+				+ "\"_links\" : { \"self\" : { \"href\" : \"/employees\" } }, " //
+				+ "\"_embedded\" : { \"employees\" : [ { \"name\" : \"Frodo\" } ] } }")) {
+
+			assertThat(items.getLinks().isEmpty(), is(true));
+			assertThat(items.hasNext(), is(true));
+			assertThat(items.getLinks().getRequiredLink(IanaLinkRelations.SELF).getHref(), is("/employees"));
+		}
+	}
+
+	@Test
+	void linksAfterTheItemsShouldBeThereOnceTheLastOneWasRead() throws IOException {
+
+		try (HalCollectionReader.Items<EntityModel<Employee>> items = read("{ " //
+				+ "\"_embedded\" : { \"employees\" : [ { \"name\" : \"Frodo\" } ] }, " //
+				+ "\"_links\" : { \"self\" : { \"href\" : \"/employees\" }, \"next\" : { \"href\" : \"/employees?page=1\" } } }")) {
+
+			items.next();
+
+			assertThat(items.getLinks().isEmpty(), is(true));
+			assertThat(items.hasNext(), is(false));
+			assertThat(items.getLinks().getRequiredLink(IanaLinkRelations.SELF).getHref(), is("/employees"));
+			assertThat(items.getLinks().getRequiredLink(IanaLinkRelations.NEXT).getHref(), is("/employees?page=1"));
+		}
+	}
+
+	@Test
+	void anEmptyEmbeddedShouldHaveNoItems() throws IOException {
+
+		try (HalCollectionReader.Items<EntityModel<Employee>> items = read("{ \"_embedded\" : { }, " //
+				+ "\"_links\" : { \"self\" : { \"href\" : \"/employees\" } } }")) {
+
+			assertThat(items.hasNext(), is(false));
+			assertThat(items.getLinks().hasLink(IanaLinkRelations.SELF), is(true));
+		}
+	}
+
+	@Test
+	void aMissingEmbeddedShouldHaveNoItems() throws IOException {
+
+		try (HalCollectionReader.Items<EntityModel<Employee>> items = read("{ " //
+				+ "\"page\" : { \"size\" : 20, \"totalElements\" : 0 }, " //
+				+ "\"_links\" : { \"self\" : { \"href\" : \"/employees\" } } }")) {
+
+			assertThat(items.hasNext(), is(false));
+			assertThat(items.getLinks().hasLink(IanaLinkRelations.SELF), is(true));
+		}
+
+		assertThat(names("{ }"), is(empty()));
+	}
+
+	@Test
+	void otherPropertiesShouldBeSkipped() throws IOException {
+
+		assertThat(names("{ \"page\" : { \"number\" : 0 }, \"tags\" : [ [ 1 ], { \"_embedded\" : 2 } ], " //
+				+ "\"_embedded\" : { \"employees\" : [ { \"name\" : \"Frodo\", \"age\" : 50 } ] }, \"total\" : 1 }"),
+				contains("Frodo"));
+	}
+
+	@Test
+	void aBodyThatIsNoObjectShouldBeRejectedAndClosed() {
+
+		for (String body : new String[] { "[ { \"name\" : \"Frodo\" } ]", "\"employees\"", "42" }) {
+
+			TrackedBody stream = new TrackedBody(body);
+
+			assertThrows(IOException.class, () -> this.reader.read(stream, EMPLOYEE), body);
+			assertThat(body, stream.closed, is(true));
+		}
+	}
+
+	@Test
+	void closingTheStreamShouldCloseTheBody() throws IOException {
+
+		TrackedBody body = new TrackedBody("{ \"_embedded\" : { \"employees\" : [ { \"name\" : \"Frodo\" } ] } }");
+
+		try (Stream<EntityModel<Employee>> items = this.reader.read(body, EMPLOYEE).stream()) {
+			assertThat(items.findFirst().get().getContent().name, is("Frodo"));
+		}
+
+		assertThat(body.closed, is(true));
+	}
+
+	private HalCollectionReader.Items<EntityModel<Employee>> read(String body) throws IOException {
+		return this.reader.read(new TrackedBody(body), EMPLOYEE);
+	}
+
+	private List<String> names(String body) throws IOException {
+
+		try (Stream<EntityModel<Employee>> items = read(body).stream()) {
+			return items.map(item -> item.getContent().name).collect(Collectors.toList());
+		}
+	}
+
+	public static class Employee {
+		public String name;
+	}
+
+	private static class TrackedBody extends ByteArrayInputStream {
+
+		boolean closed;
+
+		TrackedBody(String body) {
+			super(body.getBytes(StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public void close() throws IOException {
+
+			this.closed = true;
+			super.close();
+		}
+	}
+}
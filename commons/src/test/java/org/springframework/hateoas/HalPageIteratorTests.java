@@ -0,0 +1,293 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * {@link HalPageIterator} over a stubbed {@link RestTemplate} that serves pages of names, {@literal /pages/0} through
+ * {@literal /pages/n}, and records which it was asked for.
+ */
+public class HalPageIteratorTests {
+
+	private static final ParameterizedTypeReference<String> NAME = new ParameterizedTypeReference<String>() {};
+
+	private final Map<URI, String> pages = new ConcurrentHashMap<>();
+	private final Map<URI, CountDownLatch> gates = new ConcurrentHashMap<>();
+	private final List<URI> fetched = new CopyOnWriteArrayList<>();
+	private final List<URI> completed = new CopyOnWriteArrayList<>();
+	private final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+	private final RestTemplate rest = new RestTemplate() {
+
+		@Override
+		public <T> T execute(URI uri, HttpMethod method, @Nullable RequestCallback requestCallback,
+				@Nullable ResponseExtractor<T> responseExtractor) {
+
+			fetched.add(uri);
+
+			try {
+
+				CountDownLatch gate = gates.get(uri);
+
+				if (gate != null) {
+					gate.await();
+				}
+
+				String page = pages.get(uri);
+
+				if (page == null) {
+					throw new ResourceAccessException("No " + uri);
+				}
+
+				MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+				requestCallback.doWithRequest(request);
+
+				assertThat(request.getHeaders().getAccept(), contains(MediaTypes.HAL_JSON));
+
+				return responseExtractor
+						.extractData(new MockClientHttpResponse(page.getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+
+			} catch (IOException | InterruptedException e) {
+				throw new IllegalStateException(e);
+			} finally {
+				completed.add(uri);
+			}
+		}
+	};
+
+	@AfterEach
+	void tearDown() {
+		this.pool.shutdownNow();
+	}
+
+	@Test
+	void pagesShouldBeFetchedAheadAndInOrder() {
+
+		pages(2, 2, 2, 2, 2);
+
+		HalPageIterator<String> names = iterator(2, Runnable::run);
+
+		assertThat(this.fetched, contains(page(0)));
+
+		// Working on page 0, pages 1 and 2 are fetched ahead.
+		assertThat(names.next(), is("0.0"));
+		assertThat(this.fetched, contains(page(0), page(1), page(2)));
+		assertThat(names.next(), is("0.1"));
+		assertThat(this.fetched, hasSize(3));
+
+		// Moving on to page 1 fetches page 3.
+		assertThat(names.next(), is("1.0"));
+		assertThat(this.fetched, contains(page(0), page(1), page(2), page(3)));
+
+		List<String> rest = new ArrayList<>();
+		names.forEachRemaining(rest::add);
+
+		assertThat(rest, contains("1.1", "2.0", "2.1", "3.0", "3.1", "4.0", "4.1"));
+		assertThat(this.fetched, contains(page(0), page(1), page(2), page(3), page(4)));
+	}
+
+	@Test
+	void itemsShouldComeInPageOrderWhateverOrderThePagesArriveIn() {
+
+		int[] sizes = IntStream.range(0, 30).map(i -> 1 + i % 3).toArray();
+
+		pages(sizes);
+
+		List<String> names = new ArrayList<>();
+
+		try (HalPageIterator<String> iterator = iterator(4, command -> this.pool.execute(() -> {
+
+			// Some random lag, so that the fetches a page ahead may finish first if they weren't chained.
+			try {
+				Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			command.run();
+
+		}))) {
+			iterator.forEachRemaining(names::add);
+		}
+
+		assertThat(names, contains(IntStream.range(0, sizes.length) //
+				.boxed() //
+				.flatMap(page -> IntStream.range(0, sizes[page]).mapToObj(item -> page + "." + item)) //
+				.toArray()));
+		assertThat(this.fetched, contains(IntStream.range(0, sizes.length).mapToObj(this::page).toArray()));
+	}
+
+	@Test
+	void aPageWithoutNextShouldBeTheLast() {
+
+		pages(1, 1);
+
+		HalPageIterator<String> names = iterator(4, Runnable::run);
+
+		assertThat(names.next(), is("0.0"));
+		assertThat(names.next(), is("1.0"));
+		assertThat(names.hasNext(), is(false));
+		assertThat(names.hasNext(), is(false));
+		assertThrows(NoSuchElementException.class, names::next);
+		assertThat(this.fetched, contains(page(0), page(1)));
+	}
+
+	@Test
+	void emptyPagesShouldBeSkipped() {
+
+		pages(0, 2, 0, 0, 1, 0);
+
+		List<String> names = new ArrayList<>();
+		iterator(1, Runnable::run).forEachRemaining(names::add);
+
+		assertThat(names, contains("1.0", "1.1", "4.0"));
+		assertThat(this.fetched, hasSize(6));
+	}
+
+	@Test
+	void aSingleEmptyPageShouldHaveNoItems() {
+
+		pages(0);
+
+		assertThat(iterator(4, Runnable::run).hasNext(), is(false));
+	}
+
+	@Test
+	void closingShouldStopFetchingPagesAhead() throws Exception {
+
+		pages(1, 1, 1, 1, 1);
+		this.gates.put(page(1), new CountDownLatch(1));
+
+		HalPageIterator<String> names = iterator(3, this.pool);
+
+		// Page 1 is being fetched, and pages 2 and 3 wait for its next link.
+		assertThat(names.next(), is("0.0"));
+
+		names.close();
+		this.gates.get(page(1)).countDown();
+
+		awaitCompleted(page(1));
+		this.pool.shutdown();
+		assertThat(this.pool.awaitTermination(5, TimeUnit.SECONDS), is(true));
+
+		assertThat(this.fetched, contains(page(0), page(1)));
+		assertThat(names.hasNext(), is(false));
+	}
+
+	@Test
+	void underMemoryPressurePagesShouldOnlyBeFetchedWhenNeeded() {
+
+		pages(2, 2, 2);
+
+		HalPageIterator<String> names = new HalPageIterator<>(this.rest, new HalCollectionReader(), NAME, page(0), 4,
+				Runnable::run, () -> true);
+
+		assertThat(names.next(), is("0.0"));
+		assertThat(names.next(), is("0.1"));
+		assertThat(this.fetched, contains(page(0)));
+
+		assertThat(names.next(), is("1.0"));
+		assertThat(this.fetched, contains(page(0), page(1)));
+
+		names.next();
+		names.next();
+
+		assertThat(this.fetched, contains(page(0), page(1), page(2)));
+		assertThat(names.hasNext(), is(true));
+	}
+
+	@Test
+	void aFailingPageShouldFailOnceItsTurnComes() {
+
+		pages(1, 1, 1);
+		this.pages.remove(page(1));
+
+		HalPageIterator<String> names = iterator(2, Runnable::run);
+
+		assertThat(names.next(), is("0.0"));
+		assertThrows(ResourceAccessException.class, names::hasNext);
+	}
+
+	private HalPageIterator<String> iterator(int prefetch, Executor executor) {
+		return new HalPageIterator<>(this.rest, new HalCollectionReader(), NAME, page(0), prefetch, executor,
+				() -> false);
+	}
+
+	/**
+	 * Serve pages with the given number of items, named {@literal page.item}, each linking to the next but the last.
+	 */
+	private void pages(int... sizes) {
+
+		for (int page = 0; page < sizes.length; page++) {
+
+			int number = page;
+			String items = IntStream.range(0, sizes[page]) //
+					.mapToObj(item -> "\"" + number + "." + item + "\"") //
+					.collect(Collectors.joining(", "));
+			String next = page + 1 < sizes.length //
+					? ", \"next\" : { \"href\" : \"/pages/" + (page + 1) + "\" }" //
+					: "";
+
+			this.pages.put(page(page), "{ \"_embedded\" : { \"names\" : [ " + items + " ] }, " //
+					+ "\"_links\" : { \"self\" : { \"href\" : \"/pages/" + page + "\" }" + next + " } }");
+		}
+	}
+
+	private URI page(int number) {
+		return URI.create("http://localhost/pages/" + number);
+	}
+
+	private void awaitCompleted(URI page) throws InterruptedException {
+
+		for (int i = 0; i < 500 && !this.completed.contains(page); i++) {
+			Thread.sleep(10);
+		}
+	}
+}
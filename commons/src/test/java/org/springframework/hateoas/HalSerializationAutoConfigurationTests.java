@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.hateoas.mediatype.hal.HalMediaTypeConfiguration;
+import org.springframework.hateoas.server.LinkRelationProvider;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+
+/**
+ * {@link HalSerializationAutoConfiguration} in a context with Spring Boot's Jackson setup and {@literal HAL}.
+ */
+public class HalSerializationAutoConfigurationTests {
+
+	private final ApplicationContextRunner runner = new ApplicationContextRunner() //
+			.withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class)) //
+			.withUserConfiguration(HalConfiguration.class);
+
+	private final ApplicationContextRunner withCommons = this.runner
+			.withConfiguration(AutoConfigurations.of(HalSerializationAutoConfiguration.class));
+
+	@Test
+	void theRelationProviderShouldBeCached() {
+
+		this.withCommons.run(context -> {
+
+			assertThat(context.getBeansOfType(LinkRelationProvider.class).values(),
+					hasItem(instanceOf(CachingLinkRelationProvider.class)));
+			assertThat(context.getBean(LinkRelationModule.class), is(notNullValue()));
+			assertThat(context.getBean(ObjectMapper.class).getRegisteredModuleIds(),
+					hasItem(LinkRelationModule.class.getName()));
+		});
+	}
+
+	@Test
+	void cachingShouldBeSwitchedOffByProperty() {
+
+		this.withCommons.withPropertyValues("examples.hal.cache-relations=false").run(context -> {
+			assertThat(context.getBeansOfType(LinkRelationProvider.class).values(),
+					not(hasItem(instanceOf(CachingLinkRelationProvider.class))));
+		});
+	}
+
+	@Test
+	void halShouldBeRenderedExactlyAsWithoutCommons() {
+
+		AtomicReference<String> expected = new AtomicReference<>();
+		AtomicReference<String> actual = new AtomicReference<>();
+
+		this.runner.run(context -> expected.set(render(context)));
+		this.withCommons.run(context -> actual.set(render(context)));
+
+		assertThat(actual.get(), is(expected.get()));
+		assertThat(actual.get(), containsString("\"_embedded\":{\"employees\":[{\"name\":\"Frodo\","));
+		assertThat(actual.get(), containsString("\"alternate\":[{\"href\":\"/a\"},{\"href\":\"/b\"}]"));
+	}
+
+	@Test
+	void afterburnerShouldOnlyBeAddedWhenAskedFor() {
+
+		this.withCommons.run(context -> assertThat(context.getBeansOfType(AfterburnerModule.class).isEmpty(), is(true)));
+
+		this.withCommons.withPropertyValues("examples.jackson.afterburner=true")
+				.run(context -> assertThat(context.getBeansOfType(AfterburnerModule.class).size(), is(1)));
+	}
+
+	@Test
+	void afterburnerShouldBeLeftOutWhenTheApplicationDoesNotHaveIt() {
+
+		this.withCommons.withPropertyValues("examples.jackson.afterburner=true") //
+				.withClassLoader(new FilteredClassLoader(AfterburnerModule.class)) //
+				.run(context -> {
+
+					assertThat(context.getStartupFailure(), is(nullValue()));
+					assertThat(context.getBeanNamesForType(LinkRelationModule.class).length, is(1));
+				});
+	}
+
+	/**
+	 * Two employees and a collection, with links grouped by relation, one of them holding two links.
+	 */
+	private static String render(ApplicationContext context) throws JsonProcessingException {
+
+		ObjectMapper mapper = context.getBean(HalMediaTypeConfiguration.class)
+				.configureObjectMapper(context.getBean(ObjectMapper.class).copy());
+
+		CollectionModel<EntityModel<Employee>> employees = CollectionModel.of(Arrays.asList( //
+				EntityModel.of(new Employee("Frodo"), Link.of("/employees/1"), Link.of("/employees", "employees")), //
+				EntityModel.of(new Employee("Bilbo"), Link.of("/employees/2"), Link.of("/employees", "employees"))), //
+				Link.of("/employees"), Link.of("/a", "alternate"), Link.of("/b", "alternate"));
+
+		return mapper.writeValueAsString(employees);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableHypermediaSupport(type = HypermediaType.HAL)
+	static class HalConfiguration {}
+
+	static class Employee {
+
+		private final String name;
+
+		Employee(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalHandlerInstantiator;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+
+/**
+ * Compares writing a {@literal HAL} collection of employees as Spring HATEOAS does out of the box, with
+ * {@link AfterburnerModule}, with the {@link CachingLinkRelationProvider} and {@link LinkRelationModule}
+ * {@link HalSerializationAutoConfiguration} sets up, and with all three. The employee mirrors the hypermedia example's
+ * {@literal EmployeeWithManager}: getters in a fixed {@link JsonPropertyOrder}. Run it with
+ *
+ * <pre>
+ * mvn -pl commons test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main HalSerializationBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HalSerializationBenchmark {
+
+	@Param({ "100", "1000" }) //
+	int employees;
+
+	private CollectionModel<EntityModel<Employee>> collection;
+	private ObjectMapper baseline;
+	private ObjectMapper afterburner;
+	private ObjectMapper specialized;
+	private ObjectMapper specializedWithAfterburner;
+
+	@Setup
+	public void setUp() {
+
+		List<EntityModel<Employee>> models = new ArrayList<>();
+
+		for (long id = 1; id <= this.employees; id++) {
+
+			Employee employee = new Employee(id, "Employee " + id, "Role " + id % 7, "Manager " + id % 10);
+
+			models.add(EntityModel.of(employee, //
+					Link.of("http://localhost:8080/employees/" + id), //
+					Link.of("http://localhost:8080/employees", "employees"), //
+					Link.of("http://localhost:8080/managers/" + id % 10, "manager")));
+		}
+
+		this.collection = CollectionModel.of(models, Link.of("http://localhost:8080/employees"));
+
+		LinkRelationProvider relations = new EvoInflectorLinkRelationProvider();
+		LinkRelationProvider cached = new CachingLinkRelationProvider(relations);
+
+		this.baseline = halMapper(relations);
+		this.afterburner = halMapper(relations, new AfterburnerModule());
+		this.specialized = halMapper(cached, new LinkRelationModule());
+		this.specializedWithAfterburner = halMapper(cached, new LinkRelationModule(), new AfterburnerModule());
+	}
+
+	@Benchmark
+	public byte[] baseline() throws JsonProcessingException {
+		return this.baseline.writeValueAsBytes(this.collection);
+	}
+
+	@Benchmark
+	public byte[] afterburner() throws JsonProcessingException {
+		return this.afterburner.writeValueAsBytes(this.collection);
+	}
+
+	@Benchmark
+	public byte[] specialized() throws JsonProcessingException {
+		return this.specialized.writeValueAsBytes(this.collection);
+	}
+
+	@Benchmark
+	public byte[] specializedWithAfterburner() throws JsonProcessingException {
+		return this.specializedWithAfterburner.writeValueAsBytes(this.collection);
+	}
+
+	private static ObjectMapper halMapper(LinkRelationProvider relations, Module... modules) {
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.setHandlerInstantiator(
+				new HalHandlerInstantiator(relations, CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+		mapper.registerModules(modules);
+
+		return mapper;
+	}
+
+	@JsonPropertyOrder({ "id", "name", "role", "manager" })
+	public static class Employee {
+
+		private final long id;
+		private final String name;
+		private final String role;
+		private final String manager;
+
+		Employee(long id, String name, String role, String manager) {
+
+			this.id = id;
+			this.name = name;
+			this.role = role;
+			this.manager = manager;
+		}
+
+		public long getId() {
+			return this.id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public String getRole() {
+			return this.role;
+		}
+
+		public String getManager() {
+			return this.manager;
+		}
+	}
+}
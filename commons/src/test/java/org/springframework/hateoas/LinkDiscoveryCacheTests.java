@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import java.net.URI;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseActions;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * {@link LinkDiscoveryCache} against a {@link MockRestServiceServer}, which fails the test on any request it didn't
+ * expect.
+ */
+public class LinkDiscoveryCacheTests {
+
+	private static final URI ROOT = URI.create("http://localhost/");
+
+	private RestTemplate rest;
+	private MockRestServiceServer server;
+
+	@BeforeEach
+	void setUp() {
+
+		this.rest = new RestTemplate();
+		this.server = MockRestServiceServer.createServer(this.rest);
+	}
+
+	@Test
+	void freshLinksShouldBeUsedWithoutAskingAgain() {
+
+		LinkDiscoveryCache cache = new LinkDiscoveryCache(this.rest, Duration.ofHours(1));
+
+		expectRoot(null).andRespond(withHal("/employees", "\"1\""));
+
+		assertThat(cache.discover(ROOT, "employees").getHref(), is("/employees"));
+		assertThat(cache.discover(ROOT, "employees").getHref(), is("/employees"));
+
+		this.server.verify();
+	}
+
+	@Test
+	void expiredLinksShouldBeRevalidatedWithTheirETag() {
+
+		LinkDiscoveryCache cache = new LinkDiscoveryCache(this.rest, Duration.ZERO);
+
+		expectRoot(null).andRespond(withHal("/employees", "\"1\""));
+		expectRoot("\"1\"").andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+		expectRoot("\"1\"").andRespond(withHal("/staff", "\"2\""));
+		expectRoot("\"2\"").andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+		assertThat(cache.discover(ROOT, "employees").getHref(), is("/employees"));
+		assertThat(cache.discover(ROOT, "employees").getHref(), is("/employees")); // 304 keeps the link
+		assertThat(cache.discover(ROOT, "employees").getHref(), is("/staff")); // 200 replaces it
+		assertThat(cache.discover(ROOT, "employees").getHref(), is("/staff"));
+
+		this.server.verify();
+	}
+
+	@Test
+	void linksWithoutAnETagShouldBeFetchedUnconditionally() {
+
+		LinkDiscoveryCache cache = new LinkDiscoveryCache(this.rest, Duration.ZERO);
+
+		expectRoot(null).andRespond(withHal("/employees", null));
+		expectRoot(null).andRespond(withHal("/employees", null));
+
+		cache.discover(ROOT, "employees");
+		cache.discover(ROOT, "employees");
+
+		this.server.verify();
+	}
+
+	@Test
+	void everyHopShouldBeCachedOnItsOwn() {
+
+		LinkDiscoveryCache cache = new LinkDiscoveryCache(this.rest, Duration.ofHours(1));
+
+		expectRoot(null).andRespond(withHal("/employees", null));
+		this.server.expect(requestTo("http://localhost/employees")) //
+				.andRespond(withSuccess("{ \"_links\" : { \"search\" : { \"href\" : \"/employees/search\" } } }",
+						MediaTypes.HAL_JSON));
+
+		assertThat(cache.discover(ROOT, "employees", "search").getHref(), is("/employees/search"));
+		assertThat(cache.discover(ROOT, "employees").getHref(), is("/employees"));
+		assertThat(cache.discover(ROOT, "employees", "search").getHref(), is("/employees/search"));
+
+		this.server.verify();
+	}
+
+	@Test
+	void notFoundShouldRediscoverThePathAndRetryOnce() {
+
+		LinkDiscoveryCache cache = new LinkDiscoveryCache(this.rest, Duration.ofHours(1));
+
+		expectRoot(null).andRespond(withHal("/employees", null));
+		this.server.expect(requestTo("http://localhost/employees")).andRespond(withStatus(HttpStatus.NOT_FOUND));
+		expectRoot(null).andRespond(withHal("/v2/employees", null));
+		this.server.expect(requestTo("http://localhost/v2/employees")).andRespond(withSuccess());
+
+		String href = cache.follow(link -> {
+
+			this.rest.getForObject(ROOT.resolve(link.getHref()), String.class);
+			return link.getHref();
+
+		}, ROOT, "employees");
+
+		assertThat(href, is("/v2/employees"));
+
+		// The rediscovered link is cached in turn.
+		assertThat(cache.discover(ROOT, "employees").getHref(), is("/v2/employees"));
+
+		this.server.verify();
+	}
+
+	@Test
+	void goneShouldRediscoverThePathAndRetryOnce() {
+
+		LinkDiscoveryCache cache = new LinkDiscoveryCache(this.rest, Duration.ofHours(1));
+
+		expectRoot(null).andRespond(withHal("/employees", null));
+		this.server.expect(requestTo("http://localhost/employees")).andRespond(withStatus(HttpStatus.GONE));
+		expectRoot(null).andRespond(withHal("/v2/employees", null));
+		this.server.expect(requestTo("http://localhost/v2/employees")).andRespond(withSuccess());
+
+		cache.follow(link -> this.rest.getForObject(ROOT.resolve(link.getHref()), String.class), ROOT, "employees");
+
+		this.server.verify();
+	}
+
+	@Test
+	void aSecondNotFoundShouldBeHandedToTheCaller() {
+
+		LinkDiscoveryCache cache = new LinkDiscoveryCache(this.rest, Duration.ofHours(1));
+
+		expectRoot(null).andRespond(withHal("/employees", null));
+		this.server.expect(requestTo("http://localhost/employees")).andRespond(withStatus(HttpStatus.NOT_FOUND));
+		expectRoot(null).andRespond(withHal("/employees", null));
+		this.server.expect(requestTo("http://localhost/employees")).andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+		assertThrows(HttpClientErrorException.NotFound.class, () -> cache
+				.follow(link -> this.rest.getForObject(ROOT.resolve(link.getHref()), String.class), ROOT, "employees"));
+
+		this.server.verify();
+	}
+
+	@Test
+	void otherErrorsShouldNotBeRetried() {
+
+		LinkDiscoveryCache cache = new LinkDiscoveryCache(this.rest, Duration.ofHours(1));
+
+		expectRoot(null).andRespond(withHal("/employees", null));
+		this.server.expect(requestTo("http://localhost/employees")).andRespond(withBadRequest());
+
+		assertThrows(HttpClientErrorException.BadRequest.class, () -> cache
+				.follow(link -> this.rest.getForObject(ROOT.resolve(link.getHref()), String.class), ROOT, "employees"));
+
+		// The link itself is still good.
+		assertThat(cache.discover(ROOT, "employees").getHref(), is("/employees"));
+
+		this.server.verify();
+	}
+
+	private ResponseActions expectRoot(String ifNoneMatch) {
+
+		ResponseActions request = this.server.expect(requestTo(ROOT)) //
+				.andExpect(method(HttpMethod.GET)) //
+				.andExpect(header(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE));
+
+		return ifNoneMatch == null //
+				? request.andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH)) //
+				: request.andExpect(header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch));
+	}
+
+	private static ResponseCreator withHal(String employees, String eTag) {
+
+		HttpHeaders headers = new HttpHeaders();
+
+		if (eTag != null) {
+			headers.setETag(eTag);
+		}
+
+		return withSuccess("{ \"_links\" : { \"employees\" : { \"href\" : \"" + employees + "\" } } }",
+				MediaTypes.HAL_JSON).headers(headers);
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * {@link LoadBalancedExchangeFilterFunction} on a {@link WebClient} whose exchanges are stubbed, over two instances,
+ * {@literal one} and {@literal two}, of the service at {@literal service:8080}.
+ */
+public class LoadBalancedExchangeFilterFunctionTests {
+
+	private static final URI SERVICE = URI.create("http://service:8080");
+	private static final List<URI> INSTANCES = Arrays.asList(URI.create("http://one:9000"),
+			URI.create("http://two:9001"));
+
+	private final List<String> requested = new CopyOnWriteArrayList<>();
+	private final List<String> hosts = new CopyOnWriteArrayList<>();
+
+	private final LoadBalancedRequestFactory balancer = new LoadBalancedRequestFactory(SERVICE, () -> INSTANCES,
+			(uri, method) -> {
+				throw new UnsupportedOperationException();
+			}, false);
+
+	private final WebClient webClient = WebClient.builder() //
+			.exchangeFunction(request -> {
+
+				String host = request.url().getHost();
+
+				this.requested.add(host);
+				this.hosts.add(request.headers().getFirst(HttpHeaders.HOST));
+
+				return "one".equals(host) //
+						? Mono.error(new IOException("Connection refused: " + host)) //
+						: Mono.just(ClientResponse.create(HttpStatus.OK).body(host).build());
+			}) //
+			.filter(new LoadBalancedExchangeFilterFunction(this.balancer)) //
+			.build();
+
+	@AfterEach
+	void tearDown() {
+		this.balancer.close();
+	}
+
+	@Test
+	void requestsShouldGoToTheInstancesAndKeepNamingTheService() {
+
+		for (int i = 0; i < 20; i++) {
+			try {
+				assertThat(get("http://service:8080/employees"), is("two"));
+			} catch (RuntimeException e) {
+				assertThat(e.getCause(), is(instanceOf(IOException.class)));
+			}
+		}
+
+		assertThat(this.hosts, everyItem(is("service:8080")));
+
+		// The failing instance got ejected, so the other one got most of the requests.
+		assertThat(count("one"), is(lessThanOrEqualTo(LoadBalancedRequestFactory.EJECT_AFTER_FAILURES)));
+		assertThat(count("two"), is(20 - count("one")));
+	}
+
+	@Test
+	void otherOriginsShouldPassStraightThrough() {
+
+		assertThat(get("http://elsewhere/employees"), is("elsewhere"));
+		assertThat(this.requested, contains("elsewhere"));
+		assertThat(this.hosts, contains(nullValue()));
+	}
+
+	@Test
+	void otherOriginsShouldFailAsTheyWould() {
+
+		assertThrows(RuntimeException.class, () -> get("http://one:9000/employees"));
+		assertThat(this.requested, contains("one"));
+	}
+
+	private String get(String uri) {
+
+		return this.webClient.get().uri(uri) //
+				.retrieve() //
+				.bodyToMono(String.class) //
+				.block();
+	}
+
+	private int count(String instance) {
+		return (int) this.requested.stream().filter(instance::equals).count();
+	}
+}
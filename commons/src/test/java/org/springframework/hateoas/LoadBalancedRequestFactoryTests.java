@@ -0,0 +1,357 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+/**
+ * {@link LoadBalancedRequestFactory} over a stubbed {@link ClientHttpRequestFactory} that answers for two instances,
+ * {@literal one} and {@literal two}, of the service at {@literal service:8080}.
+ */
+public class LoadBalancedRequestFactoryTests {
+
+	private static final URI SERVICE = URI.create("http://service:8080");
+	private static final List<URI> INSTANCES = Arrays.asList(URI.create("http://one:9000"),
+			URI.create("http://two:9001"));
+
+	/**
+	 * Marks the requests sent to learn the latencies. Hedges of those may still be under way when a test starts, and
+	 * mustn't be taken for the test's own.
+	 */
+	private static final String WARM_UP = "X-Warm-Up";
+
+	private final Map<String, Answer> answers = new ConcurrentHashMap<>();
+	private final List<String> requested = new CopyOnWriteArrayList<>();
+	private final List<String> hosts = new CopyOnWriteArrayList<>();
+
+	private final ClientHttpRequestFactory stub = (uri, method) -> new MockClientHttpRequest(method, uri) {
+
+		@Override
+		protected ClientHttpResponse executeInternal() throws IOException {
+
+			if (getHeaders().containsKey(WARM_UP)) {
+				return new Response("warm-up", HttpStatus.OK);
+			}
+
+			requested.add(uri.getHost());
+			hosts.add(getHeaders().getFirst(HttpHeaders.HOST));
+
+			return answers.get(uri.getHost()).answer(uri.getHost());
+		}
+	};
+
+	private LoadBalancedRequestFactory factory;
+
+	@AfterEach
+	void tearDown() {
+
+		if (this.factory != null) {
+			this.factory.close();
+		}
+	}
+
+	@Test
+	void otherOriginsShouldPassStraightThrough() throws IOException {
+
+		this.factory = new LoadBalancedRequestFactory(SERVICE, () -> INSTANCES, this.stub, false);
+		this.answers.put("elsewhere", ok());
+
+		assertThat(read(execute("http://elsewhere/employees", HttpMethod.GET)), is("elsewhere"));
+		assertThat(this.requested, contains("elsewhere"));
+	}
+
+	@Test
+	void requestsShouldKeepNamingTheService() throws IOException {
+
+		this.factory = new LoadBalancedRequestFactory(SERVICE, () -> INSTANCES, this.stub, false);
+		this.answers.put("one", ok());
+		this.answers.put("two", ok());
+
+		for (int i = 0; i < 10; i++) {
+			execute("http://service:8080/employees", HttpMethod.GET).close();
+		}
+
+		assertThat(this.requested, hasSize(10));
+		assertThat(this.hosts, everyItem(is("service:8080")));
+	}
+
+	@Test
+	void anInstanceThatKeepsFailingShouldBeEjected() throws IOException {
+
+		List<URI> instances = new CopyOnWriteArrayList<>(INSTANCES.subList(0, 1));
+
+		this.factory = new LoadBalancedRequestFactory(SERVICE, () -> instances, this.stub, false);
+		this.answers.put("one", failing());
+		this.answers.put("two", ok());
+
+		// POSTs aren't retried, so every one of them is a failure of the only instance.
+		for (int i = 0; i < LoadBalancedRequestFactory.EJECT_AFTER_FAILURES; i++) {
+			assertThrows(IOException.class, () -> execute("http://service:8080/employees", HttpMethod.POST));
+		}
+
+		// With every instance ejected, all of them are used.
+		assertThrows(IOException.class, () -> execute("http://service:8080/employees", HttpMethod.POST));
+		assertThat(count("one"), is(LoadBalancedRequestFactory.EJECT_AFTER_FAILURES + 1));
+
+		instances.add(INSTANCES.get(1));
+
+		for (int i = 0; i < 20; i++) {
+			assertThat(read(execute("http://service:8080/employees", HttpMethod.POST)), is("two"));
+		}
+
+		assertThat(count("one"), is(LoadBalancedRequestFactory.EJECT_AFTER_FAILURES + 1));
+	}
+
+	@Test
+	void aFailedGetShouldBeRetriedOnTheOtherInstance() throws IOException {
+
+		this.factory = new LoadBalancedRequestFactory(SERVICE, () -> INSTANCES, this.stub, false);
+		this.answers.put("one", failing());
+		this.answers.put("two", ok());
+
+		for (int i = 0; i < 20; i++) {
+			assertThat(read(execute("http://service:8080/employees", HttpMethod.GET)), is("two"));
+		}
+
+		// Every GET was answered, though some hit the failing instance first, until it got ejected.
+		assertThat(count("two"), is(20));
+		assertThat(count("one"), is(lessThanOrEqualTo(LoadBalancedRequestFactory.EJECT_AFTER_FAILURES)));
+	}
+
+	@Test
+	void aGetShouldBeTriedTwiceAtMost() {
+
+		this.factory = new LoadBalancedRequestFactory(SERVICE, () -> INSTANCES, this.stub, false);
+		this.answers.put("one", failing());
+		this.answers.put("two", failing());
+
+		assertThrows(IOException.class, () -> execute("http://service:8080/employees", HttpMethod.GET));
+		assertThat(this.requested, hasSize(2));
+		assertThat(this.requested, containsInAnyOrder("one", "two"));
+	}
+
+	@Test
+	void aPostShouldNotBeRetried() {
+
+		this.factory = new LoadBalancedRequestFactory(SERVICE, () -> INSTANCES, this.stub, false);
+		this.answers.put("one", failing());
+		this.answers.put("two", failing());
+
+		assertThrows(IOException.class, () -> execute("http://service:8080/employees", HttpMethod.POST));
+		assertThat(this.requested, hasSize(1));
+	}
+
+	@Test
+	void theFirstResponseShouldWinWhenHedging() throws IOException {
+
+		this.factory = new LoadBalancedRequestFactory(SERVICE, () -> INSTANCES, this.stub, true);
+		SlowFirst slow = warmUp(new SlowFirst(HttpStatus.OK));
+
+		assertThat(read(execute("http://service:8080/employees", HttpMethod.GET)), is("hedge"));
+		assertThat(this.requested, hasSize(2));
+		assertThat(this.requested.get(0), is(not(this.requested.get(1))));
+		assertThat(slow.closed(), is(true));
+	}
+
+	@Test
+	void aQuickHedgeShouldCutASlowAnswerShort() throws IOException {
+
+		this.factory = new LoadBalancedRequestFactory(SERVICE, () -> INSTANCES, this.stub, true);
+		warmUp(new SlowFirst(HttpStatus.OK));
+
+		long start = System.nanoTime();
+
+		assertThat(read(execute("http://service:8080/employees", HttpMethod.GET)), is("hedge"));
+
+		// The hedge delay learned from the warm-up is well under a millisecond, so this is the hedge's latency.
+		assertThat(Duration.ofNanos(System.nanoTime() - start), is(lessThan(SlowFirst.DELAY.dividedBy(3))));
+	}
+
+	@Test
+	void aHedgeShouldStandInForAFailingRequest() throws IOException {
+
+		this.factory = new LoadBalancedRequestFactory(SERVICE, () -> INSTANCES, this.stub, true);
+		warmUp(new SlowFirst(null));
+
+		assertThat(read(execute("http://service:8080/employees", HttpMethod.GET)), is("hedge"));
+		assertThat(this.requested, hasSize(2));
+	}
+
+	@Test
+	void aHedgeShouldStandInForAServerError() throws IOException {
+
+		this.factory = new LoadBalancedRequestFactory(SERVICE, () -> INSTANCES, this.stub, true);
+		SlowFirst slow = warmUp(new SlowFirst(HttpStatus.SERVICE_UNAVAILABLE));
+
+		ClientHttpResponse response = execute("http://service:8080/employees", HttpMethod.GET);
+
+		assertThat(response.getStatusCode(), is(HttpStatus.OK));
+		assertThat(read(response), is("hedge"));
+		assertThat(slow.closed(), is(true));
+	}
+
+	/**
+	 * Send more quick requests than the latencies kept for the hedge delay, then make the next one slow.
+	 */
+	private SlowFirst warmUp(SlowFirst slow) throws IOException {
+
+		this.answers.put("one", slow);
+		this.answers.put("two", slow);
+
+		for (int i = 0; i < 300; i++) {
+
+			ClientHttpRequest request = this.factory.createRequest(URI.create("http://service:8080/employees"),
+					HttpMethod.GET);
+			request.getHeaders().set(WARM_UP, "true");
+			request.execute().close();
+		}
+
+		slow.armed.set(true);
+
+		return slow;
+	}
+
+	private ClientHttpResponse execute(String uri, HttpMethod method) throws IOException {
+		return this.factory.createRequest(URI.create(uri), method).execute();
+	}
+
+	private int count(String instance) {
+		return (int) this.requested.stream().filter(instance::equals).count();
+	}
+
+	private static String read(ClientHttpResponse response) throws IOException {
+
+		try {
+			return StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+		} finally {
+			response.close();
+		}
+	}
+
+	private static Answer ok() {
+		return instance -> new Response(instance, HttpStatus.OK);
+	}
+
+	private static Answer failing() {
+
+		return instance -> {
+			throw new IOException("Connection refused: " + instance);
+		};
+	}
+
+	interface Answer {
+		ClientHttpResponse answer(String instance) throws IOException;
+	}
+
+	/**
+	 * Once armed, the first request takes {@link #DELAY} to answer with {@literal status}, or to fail if there is none.
+	 * All others are answered right away. The hedge delay learned from quick requests is so short that the hedge may
+	 * well get here before the request it hedges, and be the slow one.
+	 */
+	private static class SlowFirst implements Answer {
+
+		static final Duration DELAY = Duration.ofMillis(300);
+
+		final AtomicBoolean armed = new AtomicBoolean();
+		final HttpStatus status;
+		final CompletableFuture<Response> response = new CompletableFuture<>();
+
+		SlowFirst(HttpStatus status) {
+			this.status = status;
+		}
+
+		@Override
+		public ClientHttpResponse answer(String instance) throws IOException {
+
+			if (!this.armed.compareAndSet(true, false)) {
+				return new Response("hedge", HttpStatus.OK);
+			}
+
+			try {
+				Thread.sleep(DELAY.toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			if (this.status == null) {
+				throw new IOException("Connection reset: " + instance);
+			}
+
+			Response response = new Response(instance, this.status);
+			this.response.complete(response);
+
+			return response;
+		}
+
+		/**
+		 * Whether the slow response got closed. The caller may have had its answer long before it came in.
+		 */
+		boolean closed() {
+
+			try {
+				return this.response.get(1, TimeUnit.SECONDS).closed.await(1, TimeUnit.SECONDS);
+			} catch (InterruptedException | ExecutionException | TimeoutException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private static class Response extends MockClientHttpResponse {
+
+		final CountDownLatch closed = new CountDownLatch(1);
+
+		Response(String body, HttpStatus status) {
+			super(body.getBytes(StandardCharsets.UTF_8), status);
+		}
+
+		@Override
+		public void close() {
+
+			this.closed.countDown();
+			super.close();
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+/**
+ * The cache of {@link PooledHttpTransport} in front of a {@link LoadBalancedRequestFactory}, which sends to a stub
+ * answering for two instances, {@literal one} and {@literal two}, of the service at {@literal service:8080}.
+ */
+public class PooledHttpTransportTests {
+
+	private static final URI SERVICE = URI.create("http://service:8080");
+	private static final List<URI> INSTANCES = Arrays.asList(URI.create("http://one:9000"),
+			URI.create("http://two:9001"));
+
+	private final List<String> requested = new CopyOnWriteArrayList<>();
+
+	private final ClientHttpRequestFactory stub = (uri, method) -> new MockClientHttpRequest(method, uri) {
+
+		@Override
+		protected ClientHttpResponse executeInternal() {
+
+			requested.add(method + " " + uri.getHost() + uri.getPath());
+
+			MockClientHttpResponse response = new MockClientHttpResponse(
+					uri.getHost().getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+			response.getHeaders().setDate(System.currentTimeMillis());
+			response.getHeaders().setCacheControl("max-age=60");
+			response.getHeaders().setContentLength(uri.getHost().length());
+
+			return response;
+		}
+	};
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+	private final PooledHttpTransport transport = new PooledHttpTransport("remote-service", this.registry);
+	private final LoadBalancedRequestFactory balancer = new LoadBalancedRequestFactory(SERVICE, () -> INSTANCES,
+			this.stub, false);
+	private final ClientHttpRequestFactory factory = this.transport.requestFactory(this.balancer);
+
+	@AfterEach
+	void tearDown() throws IOException {
+
+		this.balancer.close();
+		this.transport.close();
+	}
+
+	@Test
+	void cacheShouldAnswerForTheServiceWhicheverInstanceServedTheResponse() throws IOException {
+
+		String first = read(execute(HttpMethod.GET));
+
+		for (int i = 0; i < 9; i++) {
+			assertThat(read(execute(HttpMethod.GET)), is(first));
+		}
+
+		assertThat(this.requested, contains("GET " + first + "/employees"));
+		assertThat(count("hit"), is(9.0));
+		assertThat(count("miss"), is(1.0));
+	}
+
+	@Test
+	void unsafeRequestShouldDropTheCachedResponse() throws IOException {
+
+		read(execute(HttpMethod.GET));
+		read(execute(HttpMethod.POST));
+		read(execute(HttpMethod.GET));
+
+		assertThat(this.requested, hasSize(3));
+		assertThat(this.requested.get(2), startsWith("GET "));
+	}
+
+	private ClientHttpResponse execute(HttpMethod method) throws IOException {
+		return this.factory.createRequest(URI.create("http://service:8080/employees"), method).execute();
+	}
+
+	private double count(String outcome) {
+		return this.registry.get("httpcomponents.httpclient.cache.requests").tag("outcome", outcome).counter().count();
+	}
+
+	private static String read(ClientHttpResponse response) throws IOException {
+
+		try {
+			return StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+		} finally {
+			response.close();
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * {@link ReactiveTraverson} against a stubbed {@link ExchangeFunction} whose responses take longer the earlier they were
+ * asked for, so that they complete in reverse order.
+ */
+public class ReactiveTraversonTests {
+
+	private static final ParameterizedTypeReference<String> STRING = new ParameterizedTypeReference<String>() {};
+
+	private final Map<URI, Response> responses = new ConcurrentHashMap<>();
+	private final List<URI> requested = new CopyOnWriteArrayList<>();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger mostInFlight = new AtomicInteger();
+
+	private final ExchangeFunction exchange = request -> Mono.defer(() -> {
+
+		this.requested.add(request.url());
+		this.mostInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+
+		Response response = this.responses.get(request.url());
+
+		// Count the request as done before the response goes downstream, where it may start the next one.
+		return Mono.delay(response.delay) //
+				.doOnNext(ignored -> this.inFlight.decrementAndGet()) //
+				.map(ignored -> ClientResponse.create(HttpStatus.OK) //
+						.header(HttpHeaders.CONTENT_TYPE, MediaTypes.HAL_JSON_VALUE) //
+						.body(response.body) //
+						.build());
+	});
+
+	private final WebClient webClient = WebClient.builder().exchangeFunction(this.exchange).build();
+
+	@Test
+	void getAllLinksShouldKeepTheirOrderAndHonourTheConcurrencyLimit() {
+
+		List<Link> links = IntStream.range(0, 10) //
+				.mapToObj(i -> {
+
+					respond("http://localhost/items/" + i, "item " + i, 200 - 20 * i);
+					return Link.of("http://localhost/items/" + i);
+
+				}).collect(Collectors.toList());
+
+		List<String> items = new ReactiveTraverson(this.webClient, 3).getAll(links, STRING).collectList().block();
+
+		assertThat(items, contains(IntStream.range(0, 10).mapToObj(i -> "item " + i).toArray()));
+		assertThat(this.requested, hasSize(10));
+		assertThat(this.mostInFlight.get(), is(3));
+	}
+
+	@Test
+	void followShouldResolveEachHopAgainstTheDocumentItWasFoundIn() {
+
+		respond("http://localhost/api/", "{ \"_links\" : { \"employees\" : { \"href\" : \"employees/\" } } }", 0);
+		respond("http://localhost/api/employees/",
+				"{ \"_links\" : { \"search\" : { \"href\" : \"search?name={name}\", \"templated\" : true }, " //
+						+ "\"first\" : { \"href\" : \"1\" } } }",
+				0);
+
+		ReactiveTraverson traverson = new ReactiveTraverson(this.webClient, 1);
+
+		Link first = traverson.follow(URI.create("http://localhost/api/"), "employees", "first").block();
+
+		assertThat(first.getHref(), is("http://localhost/api/employees/1"));
+
+		// Templates are handed back as they are, to be expanded by the caller.
+		Link search = traverson.follow(URI.create("http://localhost/api/"), "employees", "search").block();
+
+		assertThat(search.isTemplated(), is(true));
+		assertThat(search.getHref(), is("search?name={name}"));
+	}
+
+	private void respond(String uri, String body, long delayMillis) {
+		this.responses.put(URI.create(uri), new Response(body, Duration.ofMillis(delayMillis)));
+	}
+
+	private static class Response {
+
+		final String body;
+		final Duration delay;
+
+		Response(String body, Duration delay) {
+
+			this.body = body;
+			this.delay = delay;
+		}
+	}
+}
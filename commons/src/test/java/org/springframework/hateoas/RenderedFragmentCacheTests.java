@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseActions;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * {@link RenderedFragmentCache} against a {@link MockRestServiceServer}, with a renderer that counts its calls.
+ */
+public class RenderedFragmentCacheTests {
+
+	private static final URI EMPLOYEES = URI.create("http://localhost/employees");
+	private static final URI MANAGERS = URI.create("http://localhost/managers");
+	private static final URI ORDERS = URI.create("http://localhost/orders");
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final AtomicInteger renderings = new AtomicInteger();
+
+	private MockRestServiceServer server;
+	private RenderedFragmentCache cache;
+
+	@BeforeEach
+	void setUp() {
+
+		RestTemplate rest = new RestTemplate();
+
+		this.server = MockRestServiceServer.createServer(rest);
+		this.cache = new RenderedFragmentCache(rest, 2, "test", this.registry);
+	}
+
+	@Test
+	void aNewResourceShouldBeRendered() {
+
+		expect(EMPLOYEES, null).andRespond(withBody("Frodo", "\"1\""));
+
+		assertThat(render(EMPLOYEES), is("<Frodo>"));
+		assertThat(this.renderings.get(), is(1));
+		assertThat(count("miss"), is(1.0));
+		assertThat(count("hit"), is(0.0));
+
+		this.server.verify();
+	}
+
+	@Test
+	void notModifiedShouldReuseTheRendering() {
+
+		expect(EMPLOYEES, null).andRespond(withBody("Frodo", "\"1\""));
+		expect(EMPLOYEES, "\"1\"").andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+		render(EMPLOYEES);
+
+		assertThat(render(EMPLOYEES), is("<Frodo>"));
+		assertThat(this.renderings.get(), is(1));
+		assertThat(count("hit"), is(1.0));
+
+		this.server.verify();
+	}
+
+	@Test
+	void theSameETagShouldReuseTheRendering() {
+
+		// E.g. an HTTP cache in between that answers with what it stored, rather than with a 304.
+		expect(EMPLOYEES, null).andRespond(withBody("Frodo", "\"1\""));
+		expect(EMPLOYEES, "\"1\"").andRespond(withBody("Frodo", "\"1\""));
+
+		render(EMPLOYEES);
+
+		assertThat(render(EMPLOYEES), is("<Frodo>"));
+		assertThat(this.renderings.get(), is(1));
+		assertThat(count("hit"), is(1.0));
+
+		this.server.verify();
+	}
+
+	@Test
+	void aNewETagShouldRenderAgain() {
+
+		expect(EMPLOYEES, null).andRespond(withBody("Frodo", "\"1\""));
+		expect(EMPLOYEES, "\"1\"").andRespond(withBody("Frodo, Bilbo", "\"2\""));
+		expect(EMPLOYEES, "\"2\"").andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+		render(EMPLOYEES);
+
+		assertThat(render(EMPLOYEES), is("<Frodo, Bilbo>"));
+		assertThat(render(EMPLOYEES), is("<Frodo, Bilbo>"));
+		assertThat(this.renderings.get(), is(2));
+		assertThat(count("miss"), is(2.0));
+		assertThat(count("hit"), is(1.0));
+
+		this.server.verify();
+	}
+
+	@Test
+	void resourcesWithoutAnETagShouldBeRenderedEveryTime() {
+
+		expect(EMPLOYEES, null).andRespond(withBody("Frodo", null));
+		expect(EMPLOYEES, null).andRespond(withBody("Bilbo", null));
+
+		assertThat(render(EMPLOYEES), is("<Frodo>"));
+		assertThat(render(EMPLOYEES), is("<Bilbo>"));
+		assertThat(this.renderings.get(), is(2));
+		assertThat(count("miss"), is(2.0));
+
+		this.server.verify();
+	}
+
+	@Test
+	void theLeastRecentlyUsedRenderingShouldBeDroppedFirst() {
+
+		expect(EMPLOYEES, null).andRespond(withBody("Frodo", "\"e1\""));
+		expect(MANAGERS, null).andRespond(withBody("Gandalf", "\"m1\""));
+		expect(EMPLOYEES, "\"e1\"").andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+		expect(ORDERS, null).andRespond(withBody("Ring", "\"o1\""));
+
+		// Used before orders came in, employees are kept, managers are dropped.
+		expect(EMPLOYEES, "\"e1\"").andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+		expect(MANAGERS, null).andRespond(withBody("Gandalf", "\"m1\""));
+
+		render(EMPLOYEES);
+		render(MANAGERS);
+		render(EMPLOYEES);
+		render(ORDERS);
+
+		assertThat(render(EMPLOYEES), is("<Frodo>"));
+		assertThat(render(MANAGERS), is("<Gandalf>"));
+		assertThat(this.renderings.get(), is(4));
+
+		this.server.verify();
+	}
+
+	private String render(URI resource) {
+
+		return this.cache.render(resource, MediaTypes.HAL_JSON, response -> {
+
+			this.renderings.incrementAndGet();
+			return "<" + StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8) + ">";
+		});
+	}
+
+	private ResponseActions expect(URI resource, String ifNoneMatch) {
+
+		ResponseActions request = this.server.expect(requestTo(resource)) //
+				.andExpect(header(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE));
+
+		return ifNoneMatch == null //
+				? request.andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH)) //
+				: request.andExpect(header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch));
+	}
+
+	private static ResponseCreator withBody(String body, String eTag) {
+
+		HttpHeaders headers = new HttpHeaders();
+
+		if (eTag != null) {
+			headers.setETag(eTag);
+		}
+
+		return withSuccess(body, MediaTypes.HAL_JSON).headers(headers);
+	}
+
+	private double count(String outcome) {
+		return this.registry.get("fragment.cache.requests").tag("outcome", outcome).counter().count();
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * {@link SyntheticDataGenerator} on an embedded H2 database.
+ */
+public class SyntheticDataGeneratorTests {
+
+	private static final String INSERT = "INSERT INTO employee (id, name, role) VALUES (?, ?, ?)";
+
+	private final EmbeddedDatabase database = new EmbeddedDatabaseBuilder() //
+			.setType(EmbeddedDatabaseType.H2) //
+			.generateUniqueName(true) //
+			.build();
+	private final JdbcTemplate jdbc = new JdbcTemplate(this.database);
+
+	@AfterEach
+	void tearDown() {
+		this.database.shutdown();
+	}
+
+	@Test
+	void theSameSeedShouldGenerateTheSameRowsWithAnyNumberOfThreads() {
+
+		this.jdbc.execute("CREATE TABLE employee (id BIGINT PRIMARY KEY, name VARCHAR(255), role VARCHAR(255))");
+
+		List<Map<String, Object>> generated = generate(1);
+
+		assertThat(generated, hasSize(1_000));
+		assertThat(generate(7), is(generated));
+		assertThat(generate(16), is(generated));
+	}
+
+	@Test
+	void fewerThanTwoEmployeesPerManagerShouldBeRejected() {
+
+		ApplicationContextRunner context = new ApplicationContextRunner() //
+				.withConfiguration(AutoConfigurations.of(SyntheticDataAutoConfiguration.class)) //
+				.withBean(DataSource.class, () -> this.database);
+
+		context.withPropertyValues("synthetic-data.employees-per-manager=2").run(started -> {
+			assertThat(started.getBean(SyntheticDataGenerator.class).getProperties().getEmployeesPerManager(), is(2));
+		});
+
+		for (String employeesPerManager : new String[] { "1", "0", "-1" }) {
+
+			context.withPropertyValues("synthetic-data.employees-per-manager=" + employeesPerManager).run(failed -> {
+
+				Throwable cause = NestedExceptionUtils.getMostSpecificCause(failed.getStartupFailure());
+
+				assertThat(cause.getMessage(), containsString("employeesPerManager"));
+			});
+		}
+	}
+
+	/**
+	 * Generate a thousand employees, in batches that don't add up to it, on {@literal threads} threads.
+	 */
+	private List<Map<String, Object>> generate(int threads) {
+
+		SyntheticDataProperties properties = new SyntheticDataProperties();
+		properties.setBatchSize(64);
+		properties.setThreads(threads);
+
+		this.jdbc.execute("DELETE FROM employee");
+
+		new SyntheticDataGenerator(this.database, properties).insert(INSERT, 1_000,
+				(index, random) -> new Object[] { index, //
+						SyntheticDataGenerator.firstName(random) + " " + SyntheticDataGenerator.lastName(random), //
+						SyntheticDataGenerator.role(random) });
+
+		return this.jdbc.queryForList("SELECT id, name, role FROM employee ORDER BY id");
+	}
+}
@@ -19,6 +19,7 @@ import java.util.Arrays;
 
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
+import org.springframework.hateoas.SyntheticDataGenerator;
 import org.springframework.stereotype.Component;
 
 /**
@@ -28,7 +29,8 @@ import org.springframework.stereotype.Component;
 class DatabaseLoader {
 
 	@Bean
-	CommandLineRunner initDatabase(EmployeeRepository employeeRepository, ManagerRepository managerRepository) {
+	CommandLineRunner initDatabase(EmployeeRepository employeeRepository, ManagerRepository managerRepository,
+			ManagerEmployeeIndex index, SyntheticDataGenerator data) {
 		return args -> {
 
 			/*
@@ -45,13 +47,54 @@ class DatabaseLoader {
 			/*
 			 * Put together Saruman's team
 			 */
-			Manager saruman = managerRepository.save(new Manager("Saruman"));
+			Manager saruman = new Manager("Saruman");
+			saruman.setReportsTo(gandalf);
+			saruman = managerRepository.save(saruman);
 
 			Employee sam = employeeRepository.save(new Employee("Sam", "gardener", saruman));
 
 			saruman.setEmployees(Arrays.asList(sam));
 
 			managerRepository.save(saruman);
+
+			generateOrganization(data);
+
+			// The index only hears about rows saved through JPA
+			index.rebuild(employeeRepository::findAllReportingLines);
 		};
 	}
+
+	/**
+	 * Add as many employees as {@literal synthetic-data.employees} asks for, and managers for them, as many employees
+	 * per manager as {@literal synthetic-data.employees-per-manager} says. The managers report to each other in a tree
+	 * with the same fan-out, which is inserted a level at a time, so every manager's boss is already there.
+	 */
+	private static void generateOrganization(SyntheticDataGenerator data) {
+
+		long employees = data.getProperties().getEmployees();
+		int fanOut = data.getProperties().getEmployeesPerManager();
+
+		if (employees == 0) {
+			return;
+		}
+
+		long managers = (employees + fanOut - 1) / fanOut;
+		long firstManagerId = data.reserveIds("hibernate_sequence", managers);
+		long firstEmployeeId = data.reserveIds("hibernate_sequence", employees);
+
+		for (long levelStart = 0, levelSize = 1; levelStart < managers; levelStart += levelSize, levelSize *= fanOut) {
+
+			data.insert("INSERT INTO manager (id, name, reports_to_id) VALUES (?, ?, ?)", levelStart,
+					Math.min(managers, levelStart + levelSize),
+					(index, random) -> new Object[] { firstManagerId + index, //
+							SyntheticDataGenerator.firstName(random) + " " + SyntheticDataGenerator.lastName(random), //
+							index == 0 ? null : firstManagerId + (index - 1) / fanOut });
+		}
+
+		data.insert("INSERT INTO employee (id, name, role, manager_id) VALUES (?, ?, ?, ?)", employees,
+				(index, random) -> new Object[] { firstEmployeeId + index, //
+						SyntheticDataGenerator.firstName(random) + " " + SyntheticDataGenerator.lastName(random), //
+						SyntheticDataGenerator.role(random), //
+						firstManagerId + index / fanOut });
+	}
 }
@@ -21,6 +21,7 @@ import lombok.NoArgsConstructor;
 import java.util.Optional;
 
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.OneToOne;
@@ -33,6 +34,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 @Data
 @Entity
 @NoArgsConstructor
+@EntityListeners(ManagerEmployeeIndexListener.class)
 class Employee {
 
 	@Id @GeneratedValue private Long id;
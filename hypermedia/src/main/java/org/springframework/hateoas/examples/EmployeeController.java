@@ -17,7 +17,11 @@ package org.springframework.hateoas.examples;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.hateoas.CollectionModel;
@@ -37,13 +41,15 @@ class EmployeeController {
 	private final EmployeeRepository repository;
 	private final EmployeeRepresentationModelAssembler assembler;
 	private final EmployeeWithManagerResourceAssembler employeeWithManagerResourceAssembler;
+	private final ManagerEmployeeIndex index;
 
 	EmployeeController(EmployeeRepository repository, EmployeeRepresentationModelAssembler assembler,
-			EmployeeWithManagerResourceAssembler employeeWithManagerResourceAssembler) {
+			EmployeeWithManagerResourceAssembler employeeWithManagerResourceAssembler, ManagerEmployeeIndex index) {
 
 		this.repository = repository;
 		this.assembler = assembler;
 		this.employeeWithManagerResourceAssembler = employeeWithManagerResourceAssembler;
+		this.index = index;
 	}
 
 	/**
@@ -75,7 +81,9 @@ class EmployeeController {
 	}
 
 	/**
-	 * Find an {@link Employee}'s {@link Manager} based upon employee id. Turn it into a context-based link.
+	 * Find a {@link Manager}'s {@link Employee}s based upon manager id. The ids come from {@link ManagerEmployeeIndex},
+	 * so the employees themselves are fetched with a single {@link EmployeeRepository#findAllById(Iterable)}. Turn it
+	 * into a context-based link.
 	 *
 	 * @param id
 	 * @return
@@ -83,8 +91,16 @@ class EmployeeController {
 	@GetMapping("/managers/{id}/employees")
 	public ResponseEntity<CollectionModel<EntityModel<Employee>>> findEmployees(@PathVariable long id) {
 
-		CollectionModel<EntityModel<Employee>> collectionModel = assembler
-				.toCollectionModel(repository.findByManagerId(id));
+		long[] employeeIds = index.findEmployeeIds(id);
+
+		List<Employee> employees = employeeIds.length == 0 //
+				? Collections.emptyList() //
+				: StreamSupport.stream(repository.findAllById(LongStream.of(employeeIds).boxed() //
+						.collect(Collectors.toList())).spliterator(), false) //
+						.sorted(Comparator.comparing(employee -> employee.getId().get())) //
+						.collect(Collectors.toList());
+
+		CollectionModel<EntityModel<Employee>> collectionModel = assembler.toCollectionModel(employees);
 
 		Links newLinks = collectionModel.getLinks().merge(Links.MergeMode.REPLACE_BY_REL,
 				linkTo(methodOn(EmployeeController.class).findEmployees(id)).withSelfRel());
@@ -17,6 +17,7 @@ package org.springframework.hateoas.examples;
 
 import java.util.List;
 
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
 /**
@@ -26,4 +27,14 @@ interface EmployeeRepository extends CrudRepository<Employee, Long> {
 
 	List<Employee> findByManagerId(Long id);
 
+	/**
+	 * Load every {@link Employee} to {@link Manager} relationship, ordered by manager and then employee, to seed
+	 * {@link ManagerEmployeeIndex}.
+	 *
+	 * @return
+	 */
+	@Query("select new org.springframework.hateoas.examples.ReportingLine(e.id, e.manager.id) from Employee e "
+			+ "where e.manager is not null order by e.manager.id, e.id")
+	List<ReportingLine> findAllReportingLines();
+
 }
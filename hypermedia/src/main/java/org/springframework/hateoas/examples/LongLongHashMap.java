@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+/**
+ * Open-addressing hash map from {@code long} keys to {@code long} values, keeping both in flat primitive arrays instead
+ * of boxing every entry. Collisions are resolved by linear probing and removals use backward shifting, so no tombstones
+ * are left behind.
+ * <p>
+ * {@literal 0} marks a free slot and therefore can't be used as a key, which is fine for generated JPA ids. Not
+ * thread-safe.
+ */
+class LongLongHashMap {
+
+	private static final float LOAD_FACTOR = 0.75f;
+
+	private long[] keys;
+	private long[] values;
+	private int size;
+
+	LongLongHashMap(int expectedSize) {
+		allocate(capacityFor(expectedSize));
+	}
+
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Look up the value stored for {@literal key}, or {@literal missing} if there is none.
+	 */
+	long get(long key, long missing) {
+
+		int slot = slotOf(key);
+		return this.keys[slot] == key && key != 0 ? this.values[slot] : missing;
+	}
+
+	/**
+	 * Store {@literal value} under {@literal key}, returning the previous value or {@literal missing}.
+	 */
+	long put(long key, long value, long missing) {
+
+		checkKey(key);
+
+		int slot = slotOf(key);
+
+		if (this.keys[slot] == key) {
+
+			long previous = this.values[slot];
+			this.values[slot] = value;
+			return previous;
+		}
+
+		this.keys[slot] = key;
+		this.values[slot] = value;
+
+		if (++this.size > this.keys.length * LOAD_FACTOR) {
+			rehash(this.keys.length * 2);
+		}
+
+		return missing;
+	}
+
+	/**
+	 * Drop {@literal key}, returning the value it had or {@literal missing}.
+	 */
+	long remove(long key, long missing) {
+
+		int slot = slotOf(key);
+
+		if (this.keys[slot] != key || key == 0) {
+			return missing;
+		}
+
+		long previous = this.values[slot];
+		shiftBack(slot);
+		this.size--;
+
+		return previous;
+	}
+
+	/**
+	 * Find the slot holding {@literal key}, or the free slot where it would go.
+	 */
+	private int slotOf(long key) {
+
+		int mask = this.keys.length - 1;
+		int slot = LongObjectHashMap.mix(key) & mask;
+
+		while (this.keys[slot] != 0 && this.keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+
+		return slot;
+	}
+
+	/**
+	 * Close the gap left at {@literal gap} by pulling back later entries of the same probe run.
+	 */
+	private void shiftBack(int gap) {
+
+		int mask = this.keys.length - 1;
+		int slot = gap;
+
+		while (true) {
+
+			slot = (slot + 1) & mask;
+
+			if (this.keys[slot] == 0) {
+				break;
+			}
+
+			int home = LongObjectHashMap.mix(this.keys[slot]) & mask;
+
+			if (LongObjectHashMap.isBetween(gap, home, slot)) {
+				continue;
+			}
+
+			this.keys[gap] = this.keys[slot];
+			this.values[gap] = this.values[slot];
+			gap = slot;
+		}
+
+		this.keys[gap] = 0;
+		this.values[gap] = 0;
+	}
+
+	private void rehash(int capacity) {
+
+		long[] oldKeys = this.keys;
+		long[] oldValues = this.values;
+
+		allocate(capacity);
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != 0) {
+
+				int slot = slotOf(oldKeys[i]);
+				this.keys[slot] = oldKeys[i];
+				this.values[slot] = oldValues[i];
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+
+		this.keys = new long[capacity];
+		this.values = new long[capacity];
+	}
+
+	static int capacityFor(int expectedSize) {
+
+		int capacity = 16;
+
+		while (capacity * LOAD_FACTOR < expectedSize + 1) {
+			capacity <<= 1;
+		}
+
+		return capacity;
+	}
+
+	static void checkKey(long key) {
+
+		if (key == 0) {
+			throw new IllegalArgumentException("0 is reserved and can't be used as a key");
+		}
+	}
+}
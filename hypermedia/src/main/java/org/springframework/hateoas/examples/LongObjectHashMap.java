@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+/**
+ * Open-addressing hash map from {@code long} keys to object values. It uses the same layout as {@link LongLongHashMap},
+ * so keys are never boxed, and {@literal 0} can't be used as a key. Not thread-safe.
+ *
+ * @param <V> value type
+ */
+class LongObjectHashMap<V> {
+
+	private long[] keys;
+	private Object[] values;
+	private int size;
+
+	LongObjectHashMap(int expectedSize) {
+		allocate(LongLongHashMap.capacityFor(expectedSize));
+	}
+
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Look up the value stored for {@literal key}, or {@literal null} if there is none.
+	 */
+	@SuppressWarnings("unchecked")
+	V get(long key) {
+
+		int slot = slotOf(key);
+		return this.keys[slot] == key ? (V) this.values[slot] : null;
+	}
+
+	/**
+	 * Store {@literal value} under {@literal key}, returning the previous value if any.
+	 */
+	@SuppressWarnings("unchecked")
+	V put(long key, V value) {
+
+		LongLongHashMap.checkKey(key);
+
+		int slot = slotOf(key);
+
+		if (this.keys[slot] == key) {
+
+			V previous = (V) this.values[slot];
+			this.values[slot] = value;
+			return previous;
+		}
+
+		this.keys[slot] = key;
+		this.values[slot] = value;
+
+		if (++this.size > this.keys.length * 0.75f) {
+			rehash(this.keys.length * 2);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Drop {@literal key}, returning the value it had if any.
+	 */
+	@SuppressWarnings("unchecked")
+	V remove(long key) {
+
+		int slot = slotOf(key);
+
+		if (this.keys[slot] != key || key == 0) {
+			return null;
+		}
+
+		V previous = (V) this.values[slot];
+		shiftBack(slot);
+		this.size--;
+
+		return previous;
+	}
+
+	private int slotOf(long key) {
+
+		int mask = this.keys.length - 1;
+		int slot = mix(key) & mask;
+
+		while (this.keys[slot] != 0 && this.keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+
+		return slot;
+	}
+
+	private void shiftBack(int gap) {
+
+		int mask = this.keys.length - 1;
+		int slot = gap;
+
+		while (true) {
+
+			slot = (slot + 1) & mask;
+
+			if (this.keys[slot] == 0) {
+				break;
+			}
+
+			if (isBetween(gap, mix(this.keys[slot]) & mask, slot)) {
+				continue;
+			}
+
+			this.keys[gap] = this.keys[slot];
+			this.values[gap] = this.values[slot];
+			gap = slot;
+		}
+
+		this.keys[gap] = 0;
+		this.values[gap] = null;
+	}
+
+	private void rehash(int capacity) {
+
+		long[] oldKeys = this.keys;
+		Object[] oldValues = this.values;
+
+		allocate(capacity);
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != 0) {
+
+				int slot = slotOf(oldKeys[i]);
+				this.keys[slot] = oldKeys[i];
+				this.values[slot] = oldValues[i];
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+
+		this.keys = new long[capacity];
+		this.values = new Object[capacity];
+	}
+
+	/**
+	 * Spread sequential ids across the table (Fibonacci hashing).
+	 */
+	static int mix(long key) {
+
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+	/**
+	 * Whether an entry whose probe run starts at {@literal home} and that sits at {@literal slot} can stay put after
+	 * {@literal gap} was freed, i.e. {@literal home} lies cyclically within {@code (gap, slot]}.
+	 */
+	static boolean isBetween(int gap, int home, int slot) {
+		return gap <= slot ? gap < home && home <= slot : gap < home || home <= slot;
+	}
+}
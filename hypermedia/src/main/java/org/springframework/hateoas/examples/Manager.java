@@ -23,11 +23,16 @@ import java.util.List;
 import java.util.Optional;
 
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Transient;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 /**
  * @author Greg Turnquist
@@ -35,6 +40,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 @Data
 @Entity
 @NoArgsConstructor
+@EntityListeners(ManagerEmployeeIndexListener.class)
 class Manager {
 
 	@Id @GeneratedValue private Long id;
@@ -47,6 +53,18 @@ class Manager {
 	@OneToMany(mappedBy = "manager") //
 	private List<Employee> employees = new ArrayList<>();
 
+	/**
+	 * The {@link Manager} this manager reports to, forming the org chart. {@literal null} at the top of the chart.
+	 */
+	@JsonIgnore @ManyToOne(fetch = FetchType.LAZY) private Manager reportsTo;
+
+	/**
+	 * Size of this manager's team, filled in from an aggregate query instead of initializing {@literal employees}.
+	 */
+	@Transient //
+	@JsonInclude(JsonInclude.Include.NON_NULL) //
+	private Long employeeCount;
+
 	Manager(String name) {
 		this.name = name;
 	}
@@ -15,11 +15,17 @@
  */
 package org.springframework.hateoas.examples;
 
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.RepresentationModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -28,25 +34,47 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 class ManagerController {
 
+	/**
+	 * Levels rendered by {@literal /managers/{id}/tree} when the client doesn't ask for a {@literal depth}.
+	 */
+	static final int DEFAULT_TREE_DEPTH = 3;
+
+	/**
+	 * Upper bound on the {@literal depth} a client may request, no matter what it asks for.
+	 */
+	static final int MAX_TREE_DEPTH = 10;
+
 	private final ManagerRepository repository;
 	private final ManagerRepresentationModelAssembler assembler;
+	private final OrgChartAssembler orgChartAssembler;
+	private final ManagerEmployeeIndex index;
 
-	ManagerController(ManagerRepository repository, ManagerRepresentationModelAssembler assembler) {
+	ManagerController(ManagerRepository repository, ManagerRepresentationModelAssembler assembler,
+			OrgChartAssembler orgChartAssembler, ManagerEmployeeIndex index) {
 
 		this.repository = repository;
 		this.assembler = assembler;
+		this.orgChartAssembler = orgChartAssembler;
+		this.index = index;
 	}
 
 	/**
-	 * Look up all managers, and transform them into a REST collection resource using
-	 * {@link ManagerRepresentationModelAssembler#toCollectionModel(Iterable)}. Then return them through Spring Web's
-	 * {@link ResponseEntity} fluent API.
+	 * Look up all managers, along with their {@literal employeeCount}, and transform them into a REST collection resource
+	 * using {@link ManagerRepresentationModelAssembler#toCollectionModel(Iterable)}. Then return them through Spring
+	 * Web's {@link ResponseEntity} fluent API.
 	 */
 	@GetMapping("/managers")
 	ResponseEntity<CollectionModel<EntityModel<Manager>>> findAll() {
 
+		List<Manager> managers = repository.findAllWithEmployeeCount().stream() //
+				.map(result -> {
+					result.getManager().setEmployeeCount(result.getEmployeeCount());
+					return result.getManager();
+				}) //
+				.collect(Collectors.toList());
+
 		return ResponseEntity.ok( //
-				assembler.toCollectionModel(repository.findAll()));
+				assembler.toCollectionModel(managers));
 
 	}
 
@@ -61,13 +89,15 @@ class ManagerController {
 	ResponseEntity<EntityModel<Manager>> findOne(@PathVariable long id) {
 
 		return repository.findById(id) //
+				.map(this::withEmployeeCount) //
 				.map(assembler::toModel) //
 				.map(ResponseEntity::ok) //
 				.orElse(ResponseEntity.notFound().build());
 	}
 
 	/**
-	 * Find an {@link Employee}'s {@link Manager} based upon employee id. Turn it into a context-based link.
+	 * Find an {@link Employee}'s {@link Manager} based upon employee id, resolved through {@link ManagerEmployeeIndex}.
+	 * Turn it into a context-based link.
 	 *
 	 * @param id
 	 * @return
@@ -75,7 +105,50 @@ class ManagerController {
 	@GetMapping("/employees/{id}/manager")
 	ResponseEntity<EntityModel<Manager>> findManager(@PathVariable long id) {
 
-		return ResponseEntity.ok( //
-				assembler.toModel(repository.findByEmployeesId(id)));
+		OptionalLong managerId = index.findManagerId(id);
+
+		if (!managerId.isPresent()) {
+			return ResponseEntity.notFound().build();
+		}
+
+		return findOne(managerId.getAsLong());
+	}
+
+	/**
+	 * Render the org chart below a {@link Manager} as nested HAL, loaded with one recursive query. The {@literal depth}
+	 * is capped at {@link #MAX_TREE_DEPTH}.
+	 *
+	 * @param id
+	 * @param depth
+	 * @return
+	 */
+	@GetMapping("/managers/{id}/tree")
+	ResponseEntity<RepresentationModel<?>> findOrgChart(@PathVariable long id,
+			@RequestParam(required = false) Integer depth) {
+
+		int levels = depth == null ? DEFAULT_TREE_DEPTH : Math.max(0, Math.min(depth, MAX_TREE_DEPTH));
+
+		List<OrgChartRow> rows = repository.findOrgChart(id, levels);
+
+		if (rows.isEmpty()) {
+			return ResponseEntity.notFound().build();
+		}
+
+		return ResponseEntity.ok(orgChartAssembler.toModel(rows, levels));
+	}
+
+	/**
+	 * Populate a single {@link Manager}'s {@literal employeeCount} from {@link ManagerEmployeeIndex}, without
+	 * initializing its {@literal employees}.
+	 *
+	 * @param manager
+	 * @return
+	 */
+	private Manager withEmployeeCount(Manager manager) {
+
+		manager.getId() //
+				.ifPresent(id -> manager.setEmployeeCount((long) index.findEmployeeIds(id).length));
+
+		return manager;
 	}
 }
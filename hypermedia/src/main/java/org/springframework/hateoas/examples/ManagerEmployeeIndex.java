@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory adjacency index of the {@link Manager} to {@link Employee} relationship, answering
+ * {@literal /managers/{id}/employees} and {@literal /employees/{id}/manager} without a join.
+ * <p>
+ * Each employee id maps to its manager id, and each manager id maps to a sorted {@code long[]} of employee ids. Both
+ * live in primitive, open-addressing maps, so no {@link Long} is boxed per entry. The index is built once on startup
+ * and then kept current by {@link ManagerEmployeeIndexListener}. Reads share a lock, writes are exclusive, and the
+ * employee arrays are copied on write, so a returned array never changes underneath its caller.
+ */
+@Component
+class ManagerEmployeeIndex implements SmartInitializingSingleton {
+
+	private static final long NONE = 0L;
+	private static final long[] NO_EMPLOYEES = new long[0];
+
+	private final ObjectProvider<EmployeeRepository> repository;
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private LongLongHashMap managerByEmployee = new LongLongHashMap(0);
+	private LongObjectHashMap<long[]> employeesByManager = new LongObjectHashMap<>(0);
+
+	/**
+	 * Changes applied while {@link #rebuild(Supplier)} is reading, to be applied again on top of what it read.
+	 * {@literal null} when no rebuild is running.
+	 */
+	private List<Runnable> missedByRebuild;
+
+	/**
+	 * The repository is looked up lazily, since JPA needs this index (through its entity listener) before any
+	 * repository can exist.
+	 *
+	 * @param repository
+	 */
+	ManagerEmployeeIndex(ObjectProvider<EmployeeRepository> repository) {
+		this.repository = repository;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		rebuild(() -> this.repository.getObject().findAllReportingLines());
+	}
+
+	/**
+	 * Replace the whole index with the relationships read from {@literal reportingLines}, which must be ordered by
+	 * manager id and then employee id.
+	 * <p>
+	 * Lookups keep being answered from the old index while reading. Changes committed meanwhile may be missing from
+	 * what was read, so the index records every change it is told about during the read, and applies them again to the
+	 * new index before swapping it in.
+	 *
+	 * @param reportingLines
+	 */
+	synchronized void rebuild(Supplier<List<ReportingLine>> reportingLines) {
+
+		this.lock.writeLock().lock();
+
+		try {
+			this.missedByRebuild = new ArrayList<>();
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+
+		List<ReportingLine> lines;
+
+		try {
+			lines = reportingLines.get();
+		} catch (RuntimeException e) {
+
+			this.lock.writeLock().lock();
+
+			try {
+				this.missedByRebuild = null;
+			} finally {
+				this.lock.writeLock().unlock();
+			}
+
+			throw e;
+		}
+
+		LongLongHashMap managers = new LongLongHashMap(lines.size());
+		LongObjectHashMap<long[]> employees = new LongObjectHashMap<>(lines.size());
+
+		int start = 0;
+
+		for (int i = 1; i <= lines.size(); i++) {
+
+			if (i == lines.size() || !lines.get(i).getManagerId().equals(lines.get(start).getManagerId())) {
+
+				long managerId = lines.get(start).getManagerId();
+				long[] team = new long[i - start];
+
+				for (int j = start; j < i; j++) {
+
+					team[j - start] = lines.get(j).getEmployeeId();
+					managers.put(team[j - start], managerId, NONE);
+				}
+
+				employees.put(managerId, team);
+				start = i;
+			}
+		}
+
+		this.lock.writeLock().lock();
+
+		try {
+			this.managerByEmployee = managers;
+			this.employeesByManager = employees;
+
+			this.missedByRebuild.forEach(Runnable::run);
+			this.missedByRebuild = null;
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Find the id of an {@link Employee}'s {@link Manager}.
+	 *
+	 * @param employeeId
+	 * @return
+	 */
+	OptionalLong findManagerId(long employeeId) {
+
+		this.lock.readLock().lock();
+
+		try {
+			long managerId = this.managerByEmployee.get(employeeId, NONE);
+			return managerId == NONE ? OptionalLong.empty() : OptionalLong.of(managerId);
+		} finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Find the ids of every {@link Employee} reporting to a {@link Manager}, in ascending order. The returned array is
+	 * shared and must not be modified.
+	 *
+	 * @param managerId
+	 * @return
+	 */
+	long[] findEmployeeIds(long managerId) {
+
+		this.lock.readLock().lock();
+
+		try {
+			long[] employeeIds = this.employeesByManager.get(managerId);
+			return employeeIds == null ? NO_EMPLOYEES : employeeIds;
+		} finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Record that an {@link Employee} now reports to the given {@link Manager}, or to nobody if {@literal managerId} is
+	 * {@literal null}.
+	 *
+	 * @param employeeId
+	 * @param managerId
+	 */
+	void assign(long employeeId, Long managerId) {
+
+		long newManagerId = managerId == null ? NONE : managerId;
+
+		write(() -> {
+
+			long oldManagerId = this.managerByEmployee.get(employeeId, NONE);
+
+			if (oldManagerId == newManagerId) {
+				return;
+			}
+
+			if (oldManagerId != NONE) {
+				this.managerByEmployee.remove(employeeId, NONE);
+				detach(oldManagerId, employeeId);
+			}
+
+			if (newManagerId != NONE) {
+				this.managerByEmployee.put(employeeId, newManagerId, NONE);
+				attach(newManagerId, employeeId);
+			}
+		});
+	}
+
+	/**
+	 * Forget a deleted {@link Employee}.
+	 *
+	 * @param employeeId
+	 */
+	void removeEmployee(long employeeId) {
+		assign(employeeId, null);
+	}
+
+	/**
+	 * Forget a deleted {@link Manager}, along with every relationship pointing at it.
+	 *
+	 * @param managerId
+	 */
+	void removeManager(long managerId) {
+
+		write(() -> {
+
+			long[] employeeIds = this.employeesByManager.remove(managerId);
+
+			if (employeeIds != null) {
+				for (long employeeId : employeeIds) {
+					this.managerByEmployee.remove(employeeId, NONE);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Apply a change under the write lock, and remember it if a rebuild is reading.
+	 */
+	private void write(Runnable change) {
+
+		this.lock.writeLock().lock();
+
+		try {
+			change.run();
+
+			if (this.missedByRebuild != null) {
+				this.missedByRebuild.add(change);
+			}
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	private void attach(long managerId, long employeeId) {
+
+		long[] employeeIds = this.employeesByManager.get(managerId);
+
+		if (employeeIds == null) {
+			this.employeesByManager.put(managerId, new long[] { employeeId });
+			return;
+		}
+
+		int insertAt = -(Arrays.binarySearch(employeeIds, employeeId) + 1);
+
+		long[] updated = new long[employeeIds.length + 1];
+		System.arraycopy(employeeIds, 0, updated, 0, insertAt);
+		updated[insertAt] = employeeId;
+		System.arraycopy(employeeIds, insertAt, updated, insertAt + 1, employeeIds.length - insertAt);
+
+		this.employeesByManager.put(managerId, updated);
+	}
+
+	private void detach(long managerId, long employeeId) {
+
+		long[] employeeIds = this.employeesByManager.get(managerId);
+		int index = employeeIds == null ? -1 : Arrays.binarySearch(employeeIds, employeeId);
+
+		if (index < 0) {
+			return;
+		}
+
+		if (employeeIds.length == 1) {
+			this.employeesByManager.remove(managerId);
+			return;
+		}
+
+		long[] updated = new long[employeeIds.length - 1];
+		System.arraycopy(employeeIds, 0, updated, 0, index);
+		System.arraycopy(employeeIds, index + 1, updated, index, updated.length - index);
+
+		this.employeesByManager.put(managerId, updated);
+	}
+}
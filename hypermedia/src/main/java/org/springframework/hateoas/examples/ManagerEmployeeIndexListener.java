@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that keeps {@link ManagerEmployeeIndex} in step with {@link Employee} and {@link Manager} writes.
+ * Hibernate obtains it through Spring, so the index is injected. Changes are applied once the surrounding transaction
+ * commits, so a rollback never leaks into the index.
+ */
+class ManagerEmployeeIndexListener {
+
+	private final ManagerEmployeeIndex index;
+
+	ManagerEmployeeIndexListener(ManagerEmployeeIndex index) {
+		this.index = index;
+	}
+
+	@PostPersist
+	@PostUpdate
+	void onSave(Object entity) {
+
+		if (entity instanceof Employee) {
+
+			Employee employee = (Employee) entity;
+			long employeeId = employee.getId().get();
+			Long managerId = employee.getManager() == null ? null : employee.getManager().getId().orElse(null);
+
+			afterCommit(() -> this.index.assign(employeeId, managerId));
+		}
+	}
+
+	@PostRemove
+	void onRemove(Object entity) {
+
+		if (entity instanceof Employee) {
+
+			long employeeId = ((Employee) entity).getId().get();
+			afterCommit(() -> this.index.removeEmployee(employeeId));
+
+		} else if (entity instanceof Manager) {
+
+			long managerId = ((Manager) entity).getId().get();
+			afterCommit(() -> this.index.removeManager(managerId));
+		}
+	}
+
+	private static void afterCommit(Runnable action) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
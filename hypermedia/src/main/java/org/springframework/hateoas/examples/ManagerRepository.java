@@ -15,7 +15,11 @@
  */
 package org.springframework.hateoas.examples;
 
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 /**
  * @author Greg Turnquist
@@ -23,10 +27,35 @@ import org.springframework.data.repository.CrudRepository;
 interface ManagerRepository extends CrudRepository<Manager, Long> {
 
 	/**
-	 * Navigate through the JPA relationship to find a {@link Manager} based on an {@link Employee}'s {@literal id}.
-	 * 
+	 * Fetch every {@link Manager} along with the size of its team using a single {@literal GROUP BY} query. The lazy
+	 * {@literal employees} collection is never initialized.
+	 * <p>
+	 * NOTE: Every selected {@link Manager} column must be listed in the {@literal GROUP BY} clause.
+	 *
+	 * @return
+	 */
+	@Query("select m as manager, count(e) as employeeCount from Manager m left join m.employees e group by m.id, m.name, m.reportsTo.id")
+	List<ManagerWithEmployeeCount> findAllWithEmployeeCount();
+
+	/**
+	 * Walk the org chart below a {@link Manager} with a single recursive query. Every reporting {@link Manager} and every
+	 * {@link Employee} down to {@literal depth} levels below the root is returned as one flattened row, ordered so that
+	 * parents always precede their children.
+	 *
 	 * @param id
+	 * @param depth
 	 * @return
 	 */
-	Manager findByEmployeesId(Long id);
+	@Query(nativeQuery = true, value = "with recursive tree(id, name, parent_id, depth) as (" //
+			+ "    select id, name, cast(null as bigint), 0 from manager where id = :id" //
+			+ "  union all" //
+			+ "    select m.id, m.name, m.reports_to_id, t.depth + 1 from manager m" //
+			+ "    join tree t on m.reports_to_id = t.id where t.depth < :depth" //
+			+ ") " //
+			+ "select 'MANAGER' as kind, id, name, null as role, parent_id as parentId, depth from tree " //
+			+ "union all " //
+			+ "select 'EMPLOYEE', e.id, e.name, e.role, e.manager_id, t.depth + 1 from employee e " //
+			+ "join tree t on e.manager_id = t.id where t.depth < :depth " //
+			+ "order by depth, kind desc, id")
+	List<OrgChartRow> findOrgChart(@Param("id") Long id, @Param("depth") int depth);
 }
@@ -49,6 +49,9 @@ class ManagerRepresentationModelAssembler extends SimpleIdentifiableRepresentati
 				.ifPresent(id -> { //
 					// Add custom link to find all managed employees
 					resource.add(linkTo(methodOn(EmployeeController.class).findEmployees(id)).withRel("employees"));
+
+					// Add custom link to the org chart below this manager
+					resource.add(linkTo(methodOn(ManagerController.class).findOrgChart(id, null)).withRel("tree"));
 				});
 	}
 
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.mediatype.hal.HalModelBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turn the flattened rows of {@link ManagerRepository#findOrgChart(Long, int)} back into a tree of nested HAL
+ * documents. Each {@link Manager} node embeds the {@literal managers} and {@literal employees} reporting to it, and
+ * carries the same links as a regular {@link Manager} resource. The root is the exception: its {@literal self} is the
+ * tree itself, and it links to the {@link Manager} resource as {@literal manager}.
+ */
+@Component
+class OrgChartAssembler {
+
+	private static final LinkRelation MANAGERS = LinkRelation.of("managers");
+	private static final LinkRelation EMPLOYEES = LinkRelation.of("employees");
+	private static final LinkRelation MANAGER = LinkRelation.of("manager");
+
+	private final ManagerRepresentationModelAssembler managerAssembler;
+	private final EmployeeRepresentationModelAssembler employeeAssembler;
+
+	OrgChartAssembler(ManagerRepresentationModelAssembler managerAssembler,
+			EmployeeRepresentationModelAssembler employeeAssembler) {
+
+		this.managerAssembler = managerAssembler;
+		this.employeeAssembler = employeeAssembler;
+	}
+
+	/**
+	 * Assemble the whole tree. The first row is expected to be the root {@link Manager}.
+	 * <p>
+	 * When managers report to each other in a cycle, the recursive query keeps walking it until {@literal depth} runs
+	 * out, so the same {@link Manager} can come back further down. Only a row's reports one level below it are
+	 * rendered, and a {@link Manager} already in the tree isn't rendered again.
+	 *
+	 * @param rows
+	 * @param depth the levels the rows were loaded for
+	 * @return
+	 */
+	RepresentationModel<?> toModel(List<OrgChartRow> rows, int depth) {
+
+		Map<Long, List<OrgChartRow>> directReports = rows.stream() //
+				.filter(row -> row.getParentId() != null) //
+				.collect(Collectors.groupingBy(OrgChartRow::getParentId, LinkedHashMap::new, Collectors.toList()));
+
+		OrgChartRow root = rows.get(0);
+
+		Set<Long> rendered = new HashSet<>();
+		rendered.add(root.getId());
+
+		return toModel(root, manager -> treeLinks(manager, depth), directReports, rendered);
+	}
+
+	private RepresentationModel<?> toModel(OrgChartRow row, Function<Manager, Links> links,
+			Map<Long, List<OrgChartRow>> directReports, Set<Long> rendered) {
+
+		Manager manager = new Manager(row.getName());
+		manager.setId(row.getId());
+
+		List<OrgChartRow> reports = directReports.getOrDefault(row.getId(), Collections.emptyList()).stream() //
+				.filter(report -> report.getDepth() == row.getDepth() + 1) //
+				.collect(Collectors.toList());
+
+		List<RepresentationModel<?>> managers = reports.stream() //
+				.filter(OrgChartRow::isManager) //
+				.filter(report -> rendered.add(report.getId())) //
+				.map(report -> toModel(report, this::managerLinks, directReports, rendered)) //
+				.collect(Collectors.toList());
+
+		List<EntityModel<Employee>> employees = reports.stream() //
+				.filter(report -> !report.isManager()) //
+				.map(report -> toEmployee(report, manager)) //
+				.map(employeeAssembler::toModel) //
+				.collect(Collectors.toList());
+
+		return HalModelBuilder.halModelOf(manager) //
+				.links(links.apply(manager)) //
+				.embed(managers, MANAGERS) //
+				.embed(employees, EMPLOYEES) //
+				.build();
+	}
+
+	private Links managerLinks(Manager manager) {
+		return managerAssembler.toModel(manager).getLinks();
+	}
+
+	private Links treeLinks(Manager manager, int depth) {
+
+		Links links = managerLinks(manager);
+		Long id = manager.getId().get();
+
+		return Links.of(linkTo(methodOn(ManagerController.class).findOrgChart(id, depth)).withSelfRel()) //
+				.and(links.getRequiredLink(IanaLinkRelations.SELF).withRel(MANAGER)) //
+				.and(links.without(IanaLinkRelations.SELF));
+	}
+
+	private static Employee toEmployee(OrgChartRow row, Manager manager) {
+
+		Employee employee = new Employee(row.getName(), row.getRole(), manager);
+		employee.setId(row.getId());
+
+		return employee;
+	}
+}
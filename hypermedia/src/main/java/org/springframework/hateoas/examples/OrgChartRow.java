@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+/**
+ * Spring Data projection of a single, flattened org chart node returned by
+ * {@link ManagerRepository#findOrgChart(Long, int)}.
+ */
+interface OrgChartRow {
+
+	/**
+	 * Either {@literal MANAGER} or {@literal EMPLOYEE}.
+	 */
+	String getKind();
+
+	Long getId();
+
+	String getName();
+
+	String getRole();
+
+	/**
+	 * The id of the {@link Manager} this node reports to, {@literal null} for the root of the requested tree.
+	 */
+	Long getParentId();
+
+	int getDepth();
+
+	default boolean isManager() {
+		return "MANAGER".equals(getKind());
+	}
+}
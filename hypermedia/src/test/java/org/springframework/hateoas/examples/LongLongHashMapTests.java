@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link LongLongHashMap} checked against a {@link HashMap}.
+ */
+public class LongLongHashMapTests {
+
+	private static final long MISSING = -1L;
+
+	@Test
+	void collidingKeysShouldAllBeFound() {
+
+		LongLongHashMap map = new LongLongHashMap(0);
+		List<Long> keys = collidingKeys(16, 5);
+
+		keys.forEach(key -> map.put(key, key * 10, MISSING));
+
+		assertThat(map.size(), is(5));
+		keys.forEach(key -> assertThat(map.get(key, MISSING), is(key * 10)));
+	}
+
+	@Test
+	void removingFromTheMiddleOfAProbeRunShouldKeepTheRestReachable() {
+
+		LongLongHashMap map = new LongLongHashMap(0);
+		List<Long> keys = collidingKeys(16, 5);
+
+		keys.forEach(key -> map.put(key, key * 10, MISSING));
+
+		assertThat(map.remove(keys.get(1), MISSING), is(keys.get(1) * 10));
+		assertThat(map.remove(keys.get(1), MISSING), is(MISSING));
+
+		assertThat(map.size(), is(4));
+		assertThat(map.get(keys.get(1), MISSING), is(MISSING));
+
+		for (Long key : keys.subList(2, 5)) {
+			assertThat(map.get(key, MISSING), is(key * 10));
+		}
+
+		map.put(keys.get(1), 1L, MISSING);
+
+		assertThat(map.get(keys.get(1), MISSING), is(1L));
+		assertThat(map.size(), is(5));
+	}
+
+	@Test
+	void puttingAnExistingKeyShouldReplaceItsValue() {
+
+		LongLongHashMap map = new LongLongHashMap(0);
+
+		assertThat(map.put(42, 1, MISSING), is(MISSING));
+		assertThat(map.put(42, 2, MISSING), is(1L));
+		assertThat(map.get(42, MISSING), is(2L));
+		assertThat(map.size(), is(1));
+	}
+
+	@Test
+	void growingShouldKeepEveryEntry() {
+
+		LongLongHashMap map = new LongLongHashMap(0);
+
+		for (long key = 1; key <= 10_000; key++) {
+			map.put(key, -key, MISSING);
+		}
+
+		assertThat(map.size(), is(10_000));
+
+		for (long key = 1; key <= 10_000; key++) {
+			assertThat(map.get(key, MISSING), is(-key));
+		}
+
+		assertThat(map.get(10_001, MISSING), is(MISSING));
+	}
+
+	@Test
+	void zeroShouldBeRejectedAsAKey() {
+
+		LongLongHashMap map = new LongLongHashMap(0);
+
+		assertThrows(IllegalArgumentException.class, () -> map.put(0, 1, MISSING));
+		assertThat(map.get(0, MISSING), is(MISSING));
+		assertThat(map.remove(0, MISSING), is(MISSING));
+	}
+
+	@Test
+	void randomOperationsShouldMatchAHashMap() {
+
+		Random random = new Random(28);
+		LongLongHashMap map = new LongLongHashMap(0);
+		Map<Long, Long> expected = new HashMap<>();
+
+		for (int i = 0; i < 200_000; i++) {
+
+			// A small key range, so there are plenty of hits, collisions and removals
+			long key = 1 + random.nextInt(2_000);
+
+			if (random.nextInt(3) == 0) {
+				assertThat(map.remove(key, MISSING), is(expected.getOrDefault(key, MISSING)));
+				expected.remove(key);
+			} else {
+				long value = random.nextLong();
+				assertThat(map.put(key, value, MISSING), is(expected.getOrDefault(key, MISSING)));
+				expected.put(key, value);
+			}
+		}
+
+		assertThat(map.size(), is(expected.size()));
+
+		for (long key = 1; key <= 2_000; key++) {
+			assertThat(map.get(key, MISSING), is(expected.getOrDefault(key, MISSING)));
+		}
+	}
+
+	/**
+	 * Find keys that all start probing at the same slot of a table with the given capacity.
+	 */
+	static List<Long> collidingKeys(int capacity, int count) {
+
+		List<Long> keys = new ArrayList<>();
+		int home = LongObjectHashMap.mix(1) & (capacity - 1);
+
+		for (long key = 1; keys.size() < count; key++) {
+			if ((LongObjectHashMap.mix(key) & (capacity - 1)) == home) {
+				keys.add(key);
+			}
+		}
+
+		return keys;
+	}
+}
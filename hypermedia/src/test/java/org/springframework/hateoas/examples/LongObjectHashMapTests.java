@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link LongObjectHashMap} checked against a {@link HashMap}.
+ */
+public class LongObjectHashMapTests {
+
+	@Test
+	void collidingKeysShouldSurviveRemovalsAndGrowth() {
+
+		LongObjectHashMap<String> map = new LongObjectHashMap<>(0);
+		List<Long> keys = LongLongHashMapTests.collidingKeys(16, 6);
+
+		keys.forEach(key -> map.put(key, "value " + key));
+
+		assertThat(map.remove(keys.get(0)), is("value " + keys.get(0)));
+		assertThat(map.remove(keys.get(3)), is("value " + keys.get(3)));
+		assertThat(map.remove(keys.get(3)), is(nullValue()));
+
+		// Grow the table past its initial 16 slots, moving the colliding keys apart
+		for (long key = 1_000_000; key < 1_000_100; key++) {
+			map.put(key, "filler");
+		}
+
+		assertThat(map.size(), is(104));
+		assertThat(map.get(keys.get(0)), is(nullValue()));
+		assertThat(map.get(keys.get(3)), is(nullValue()));
+
+		for (Long key : new Long[] { keys.get(1), keys.get(2), keys.get(4), keys.get(5) }) {
+			assertThat(map.get(key), is("value " + key));
+		}
+	}
+
+	@Test
+	void zeroShouldBeRejectedAsAKey() {
+
+		LongObjectHashMap<String> map = new LongObjectHashMap<>(0);
+
+		assertThrows(IllegalArgumentException.class, () -> map.put(0, "zero"));
+		assertThat(map.get(0), is(nullValue()));
+		assertThat(map.remove(0), is(nullValue()));
+	}
+
+	@Test
+	void randomOperationsShouldMatchAHashMap() {
+
+		Random random = new Random(28);
+		LongObjectHashMap<Integer> map = new LongObjectHashMap<>(0);
+		Map<Long, Integer> expected = new HashMap<>();
+
+		for (int i = 0; i < 200_000; i++) {
+
+			long key = 1 + random.nextInt(2_000);
+
+			if (random.nextInt(3) == 0) {
+				assertThat(map.remove(key), is(expected.remove(key)));
+			} else {
+				int value = random.nextInt();
+				assertThat(map.put(key, value), is(expected.put(key, value)));
+			}
+		}
+
+		assertThat(map.size(), is(expected.size()));
+
+		for (long key = 1; key <= 2_000; key++) {
+			assertThat(map.get(key), is(expected.get(key)));
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * The {@literal employeeCount} {@link ManagerController} renders, from
+ * {@link ManagerRepository#findAllWithEmployeeCount()} for the collection and from {@link ManagerEmployeeIndex} for
+ * a single manager.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ManagerControllerTests {
+
+	@Autowired MockMvc mvc;
+	@Autowired ManagerRepository managers;
+	@Autowired EmployeeRepository employees;
+
+	@Test
+	void everyManagerShouldBeListedWithTheSizeOfTheirTeam() throws Exception {
+
+		Manager loner = this.managers.save(new Manager("Radagast"));
+		Manager team = this.managers.save(new Manager("Elrond"));
+
+		this.employees.save(new Employee("Arwen", "healer", team));
+		this.employees.save(new Employee("Elladan", "ranger", team));
+		this.employees.save(new Employee("Elrohir", "ranger", team));
+
+		this.mvc.perform(get("/managers")) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.managers[?(@.name == 'Gandalf')].employeeCount", contains(2))) //
+				.andExpect(jsonPath("$._embedded.managers[?(@.name == 'Saruman')].employeeCount", contains(1))) //
+				.andExpect(jsonPath("$._embedded.managers[?(@.name == 'Elrond')].employeeCount", contains(3))) //
+				.andExpect(jsonPath("$._embedded.managers[?(@.name == 'Radagast')].employeeCount", contains(0)));
+
+		this.mvc.perform(get("/managers/{id}", loner.getId().get())) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$.employeeCount", is(0)));
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ManagerEmployeeIndex} on its own, without JPA.
+ */
+public class ManagerEmployeeIndexTests {
+
+	private final ManagerEmployeeIndex index = new ManagerEmployeeIndex(null);
+
+	@Test
+	void rebuildShouldGroupEmployeesByManager() {
+
+		index.rebuild(() -> Arrays.asList(new ReportingLine(3L, 1L), new ReportingLine(4L, 1L), //
+				new ReportingLine(5L, 2L)));
+
+		assertThat(index.findEmployeeIds(1), is(new long[] { 3, 4 }));
+		assertThat(index.findEmployeeIds(2), is(new long[] { 5 }));
+		assertThat(index.findEmployeeIds(9), is(new long[0]));
+		assertThat(index.findManagerId(5), is(OptionalLong.of(2)));
+		assertThat(index.findManagerId(9), is(OptionalLong.empty()));
+	}
+
+	@Test
+	void changesCommittedWhileRebuildingShouldNotBeLost() {
+
+		index.rebuild(() -> Arrays.asList(new ReportingLine(3L, 1L), new ReportingLine(4L, 1L)));
+
+		index.rebuild(() -> {
+
+			// Committed after the rows below were read, so they don't show them
+			index.assign(4L, 2L);
+			index.assign(6L, 2L);
+			index.removeManager(1L);
+
+			return Arrays.asList(new ReportingLine(3L, 1L), new ReportingLine(4L, 1L));
+		});
+
+		assertThat(index.findEmployeeIds(1), is(new long[0]));
+		assertThat(index.findEmployeeIds(2), is(new long[] { 4, 6 }));
+		assertThat(index.findManagerId(3), is(OptionalLong.empty()));
+		assertThat(index.findManagerId(4), is(OptionalLong.of(2)));
+	}
+
+	@Test
+	void changesAfterARebuildShouldNotBeRecordedAnyMore() {
+
+		index.rebuild(() -> Arrays.asList(new ReportingLine(3L, 1L)));
+		index.assign(3L, 2L);
+
+		index.rebuild(() -> Arrays.asList(new ReportingLine(3L, 1L)));
+
+		assertThat(index.findManagerId(3), is(OptionalLong.of(1)));
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * {@link ManagerController#findOrgChart(long, Integer)} against the recursive query running on H2.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class OrgChartIntegrationTest {
+
+	@Autowired MockMvc mvc;
+	@Autowired ManagerRepository managers;
+	@Autowired EmployeeRepository employees;
+
+	@Test
+	void depthShouldBeCappedAtTheMaximum() throws Exception {
+
+		Manager top = manager("level 0", null);
+		Manager boss = top;
+
+		for (int level = 1; level <= ManagerController.MAX_TREE_DEPTH + 2; level++) {
+			boss = manager("level " + level, boss);
+		}
+
+		String deepest = "$" + String.join("", //
+				Collections.nCopies(ManagerController.MAX_TREE_DEPTH, "._embedded.managers[0]"));
+
+		this.mvc.perform(get("/managers/{id}/tree?depth=100", top.getId().get())) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._links.self.href", endsWith("/tree?depth=" + ManagerController.MAX_TREE_DEPTH)))
+				.andExpect(jsonPath(deepest + ".name", is("level " + ManagerController.MAX_TREE_DEPTH))) //
+				.andExpect(jsonPath(deepest + "._embedded.managers", is(empty())));
+
+		this.mvc.perform(get("/managers/{id}/tree?depth=-1", top.getId().get())) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._links.self.href", endsWith("/tree?depth=0"))) //
+				.andExpect(jsonPath("$.name", is("level 0"))) //
+				.andExpect(jsonPath("$._embedded.managers", is(empty())));
+	}
+
+	@Test
+	void managersReportingToEachOtherShouldEachAppearOnce() throws Exception {
+
+		Manager first = manager("first in the cycle", null);
+		Manager second = manager("second in the cycle", first);
+
+		first.setReportsTo(second);
+		this.managers.save(first);
+
+		this.employees.save(new Employee("Pippin", "guard", first));
+
+		this.mvc.perform(get("/managers/{id}/tree?depth={depth}", first.getId().get(), ManagerController.MAX_TREE_DEPTH))
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$.name", is("first in the cycle"))) //
+				.andExpect(jsonPath("$._embedded.managers[*].name", contains("second in the cycle"))) //
+				.andExpect(jsonPath("$._embedded.managers[0]._embedded.managers", is(empty()))) //
+				.andExpect(jsonPath("$._embedded.employees[*].name", contains("Pippin"))) //
+				.andExpect(jsonPath("$..name", hasSize(3)));
+	}
+
+	@Test
+	void treeShouldLinkToItselfAndToItsManager() throws Exception {
+
+		Manager manager = manager("linked", null);
+		Long id = manager.getId().get();
+
+		this.mvc.perform(get("/managers/{id}/tree", id)) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._links.self.href",
+						is("http://localhost/managers/" + id + "/tree?depth=" + ManagerController.DEFAULT_TREE_DEPTH)))
+				.andExpect(jsonPath("$._links.manager.href", is("http://localhost/managers/" + id))) //
+				.andExpect(jsonPath("$._links.employees.href", is("http://localhost/managers/" + id + "/employees")));
+	}
+
+	@Test
+	void unknownManagerShouldBeNotFound() throws Exception {
+
+		this.mvc.perform(get("/managers/{id}/tree", Long.MAX_VALUE)) //
+				.andExpect(status().isNotFound());
+	}
+
+	private Manager manager(String name, Manager reportsTo) {
+
+		Manager manager = new Manager(name);
+		manager.setReportsTo(reportsTo);
+
+		return this.managers.save(manager);
+	}
+}
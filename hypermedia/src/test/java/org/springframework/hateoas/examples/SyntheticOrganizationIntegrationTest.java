@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * The organization {@link DatabaseLoader} generates next to Gandalf's and Saruman's teams, and the
+ * {@link ManagerEmployeeIndex} rebuilt to find it.
+ */
+@SpringBootTest(properties = { "synthetic-data.employees=100", "synthetic-data.employees-per-manager=3",
+		"synthetic-data.batch-size=7", "spring.datasource.generate-unique-name=true" })
+public class SyntheticOrganizationIntegrationTest {
+
+	private static final String GENERATED_MANAGERS = "name NOT IN ('Gandalf', 'Saruman')";
+
+	@Autowired JdbcTemplate jdbc;
+	@Autowired ManagerEmployeeIndex index;
+
+	@Test
+	void generatedManagersShouldFormATreeWithTheConfiguredFanOut() {
+
+		List<Map<String, Object>> managers = this.jdbc.queryForList(
+				"SELECT id, reports_to_id FROM manager WHERE " + GENERATED_MANAGERS + " ORDER BY id");
+
+		// A hundred employees, three to a manager
+		assertThat(managers, hasSize(34));
+		assertThat(managers.get(0).get("REPORTS_TO_ID"), is(nullValue()));
+
+		// Inserted a level at a time, so every boss comes before the managers reporting to it
+		for (Map<String, Object> manager : managers.subList(1, managers.size())) {
+			assertThat((Long) manager.get("REPORTS_TO_ID"), is(lessThan((Long) manager.get("ID"))));
+		}
+
+		assertThat(this.jdbc.queryForList("SELECT COUNT(*) FROM manager WHERE " + GENERATED_MANAGERS
+				+ " AND reports_to_id IS NOT NULL GROUP BY reports_to_id", Long.class), everyItem(is(3L)));
+		assertThat(this.jdbc.queryForList("SELECT COUNT(*) FROM employee e JOIN manager m ON e.manager_id = m.id WHERE "
+				+ "m." + GENERATED_MANAGERS + " GROUP BY m.id", Long.class), everyItem(is(lessThanOrEqualTo(3L))));
+		assertThat(this.jdbc.queryForObject("SELECT COUNT(*) FROM employee WHERE manager_id IS NULL", Long.class),
+				is(0L));
+	}
+
+	@Test
+	void theIndexShouldFindTheGeneratedEmployees() {
+
+		List<Long> managerIds = this.jdbc.queryForList("SELECT id FROM manager", Long.class);
+
+		for (long managerId : managerIds) {
+
+			long[] employees = this.jdbc
+					.queryForList("SELECT id FROM employee WHERE manager_id = ? ORDER BY id", Long.class, managerId) //
+					.stream().mapToLong(Long::longValue).toArray();
+
+			assertThat(this.index.findEmployeeIds(managerId), is(employees));
+		}
+
+		assertThat(managerIds, hasSize(36));
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.r2dbc.connectionfactory.init.ConnectionFactoryInitializer;
+import org.springframework.data.r2dbc.connectionfactory.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * Create the schema and pre-load some data. R2DBC has no schema generation, so the table comes from
+ * {@literal schema.sql}.
+ */
+@Component
+class DatabaseLoader {
+
+	@Bean
+	ConnectionFactoryInitializer initializer(ConnectionFactory connectionFactory) {
+
+		ConnectionFactoryInitializer initializer = new ConnectionFactoryInitializer();
+		initializer.setConnectionFactory(connectionFactory);
+		initializer.setDatabasePopulator(new ResourceDatabasePopulator(new ClassPathResource("schema.sql")));
+
+		return initializer;
+	}
+
+	/**
+	 * Since this will run only after the app is operational, the schema will be there.
+	 *
+	 * @param repository
+	 */
+	@Bean
+	CommandLineRunner init(EmployeeRepository repository) {
+
+		return args -> repository.saveAll(Flux.just( //
+				new Employee("Frodo", "Baggins", "ring bearer"), //
+				new Employee("Bilbo", "Baggins", "burglar"))) //
+				.blockLast();
+	}
+}
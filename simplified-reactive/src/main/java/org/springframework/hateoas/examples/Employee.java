@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Domain object representing a company employee, stored through R2DBC. Unlike JPA, there's no persistence context, so
+ * this is a plain object mapped onto the {@literal employee} table (see {@literal schema.sql}). {@code @Table} also tells
+ * Spring Data that {@link EmployeeRepository} is an R2DBC repository, as JPA is on the classpath, too.
+ */
+@Data
+@Table
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class Employee {
+
+	@Id private Long id;
+	private String firstName;
+	private String lastName;
+	private String role;
+
+	/**
+	 * Useful constructor for an employee that's already stored, e.g. in tests.
+	 */
+	Employee(Long id, String firstName, String lastName, String role) {
+
+		this(firstName, lastName, role);
+		this.id = id;
+	}
+
+	/**
+	 * Useful constructor when id is not yet known.
+	 *
+	 * @param firstName
+	 * @param lastName
+	 * @param role
+	 */
+	Employee(String firstName, String lastName, String role) {
+
+		this.firstName = firstName;
+		this.lastName = lastName;
+		this.role = role;
+	}
+}
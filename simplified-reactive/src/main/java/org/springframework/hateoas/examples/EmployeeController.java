@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Spring WebFlux {@link RestController} serving the same API as the {@literal simplified} example. No handler blocks
+ * a thread while waiting on the database.
+ */
+@RestController
+class EmployeeController {
+
+	private final EmployeeRepository repository;
+	private final EmployeeRepresentationModelAssembler assembler;
+
+	EmployeeController(EmployeeRepository repository, EmployeeRepresentationModelAssembler assembler) {
+
+		this.repository = repository;
+		this.assembler = assembler;
+	}
+
+	/**
+	 * Look up all employees, and stream them out as a HAL collection while the rows are still being read.
+	 */
+	@GetMapping(value = "/employees", produces = MediaTypes.HAL_JSON_VALUE)
+	Flux<DataBuffer> findAll(ServerWebExchange exchange) {
+		return assembler.toStreamingCollectionModel(repository.findAll(), exchange);
+	}
+
+	@PostMapping("/employees")
+	Mono<ResponseEntity<EntityModel<Employee>>> newEmployee(@RequestBody Mono<Employee> employee,
+			ServerWebExchange exchange) {
+
+		return employee //
+				.flatMap(repository::save) //
+				.flatMap(savedEmployee -> assembler.toModel(savedEmployee, exchange)) //
+				.map(model -> ResponseEntity //
+						.created(URI.create(model.getRequiredLink(IanaLinkRelations.SELF).getHref())) //
+						.body(model));
+	}
+
+	/**
+	 * Look up a single {@link Employee} and transform it into a REST resource.
+	 *
+	 * @param id
+	 */
+	@GetMapping("/employees/{id}")
+	Mono<ResponseEntity<EntityModel<Employee>>> findOne(@PathVariable long id, ServerWebExchange exchange) {
+
+		return repository.findById(id) //
+				.flatMap(employee -> assembler.toModel(employee, exchange)) //
+				.map(ResponseEntity::ok) //
+				.defaultIfEmpty(ResponseEntity.notFound().build());
+	}
+
+	/**
+	 * Update existing employee then return a Location header.
+	 *
+	 * @param employee
+	 * @param id
+	 * @return
+	 */
+	@PutMapping("/employees/{id}")
+	Mono<ResponseEntity<Object>> updateEmployee(@RequestBody Mono<Employee> employee, @PathVariable long id,
+			ServerWebExchange exchange) {
+
+		return repository.findById(id) //
+				.zipWith(employee, (employeeToUpdate, changes) -> {
+
+					employeeToUpdate.setFirstName(changes.getFirstName());
+					employeeToUpdate.setLastName(changes.getLastName());
+					employeeToUpdate.setRole(changes.getRole());
+
+					return employeeToUpdate;
+				}) //
+				.flatMap(repository::save) //
+				.flatMap(updatedEmployee -> assembler.toModel(updatedEmployee, exchange)) //
+				.map(model -> ResponseEntity.noContent() //
+						.location(URI.create(model.getRequiredLink(IanaLinkRelations.SELF).getHref())) //
+						.build()) //
+				.defaultIfEmpty(ResponseEntity.notFound().build());
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.*;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.hateoas.SimpleIdentifiableReactiveRepresentationModelAssembler;
+import org.springframework.hateoas.mediatype.hal.HalMediaTypeConfiguration;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Links every {@link Employee} to {@code /employees/{id}} and back to {@code /employees}. The streamed collection is
+ * rendered with the application's {@link ObjectMapper}, set up for HAL the same way Spring HATEOAS sets up its own.
+ * <p>
+ * Links go through {@link EmployeeController#newEmployee(Mono, ServerWebExchange)}, mapped to the same URI as
+ * {@link EmployeeController#findAll(ServerWebExchange)}. Spring HATEOAS can't derive affordances from the latter's
+ * {@link DataBuffer}s.
+ */
+@Component
+class EmployeeRepresentationModelAssembler extends SimpleIdentifiableReactiveRepresentationModelAssembler<Employee> {
+
+	EmployeeRepresentationModelAssembler(LinkRelationProvider relProvider, ObjectMapper mapper,
+			HalMediaTypeConfiguration hal) {
+		super(methodOn(EmployeeController.class).newEmployee(null, null), relProvider,
+				hal.configureObjectMapper(mapper.copy()));
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
+
+/**
+ * The {@literal simplified} example on Spring WebFlux and R2DBC. Requests are served by a small, fixed number of event
+ * loop threads instead of a thread per request, so the number of concurrent connections isn't bound by a thread pool.
+ */
+@SpringBootApplication
+@EnableHypermediaSupport(type = HypermediaType.HAL)
+public class SpringHateoasSimplifiedReactiveApplication {
+
+	public static void main(String... args) {
+		SpringApplication.run(SpringHateoasSimplifiedReactiveApplication.class, args);
+	}
+
+	/**
+	 * Format embedded collections by pluralizing the resource's type.
+	 *
+	 * @return
+	 */
+	@Bean
+	EvoInflectorLinkRelationProvider relProvider() {
+		return new EvoInflectorLinkRelationProvider();
+	}
+}
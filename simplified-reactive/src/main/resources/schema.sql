@@ -0,0 +1,6 @@
+create table if not exists employee (
+	id bigint auto_increment primary key,
+	first_name varchar(255),
+	last_name varchar(255),
+	role varchar(255)
+);
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.mockito.BDDMockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.FluxExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * How to test the reactive {@link EmployeeController} with everything else mocked out.
+ */
+@RunWith(SpringRunner.class)
+@WebFluxTest(EmployeeController.class)
+@Import(EmployeeRepresentationModelAssembler.class)
+public class EmployeeControllerTests {
+
+	@Autowired private WebTestClient client;
+
+	@MockBean private EmployeeRepository repository;
+
+	@Test
+	public void getShouldStreamAHalDocument() {
+
+		given(repository.findAll()).willReturn( //
+				Flux.just( //
+						new Employee(1L, "Frodo", "Baggins", "ring bearer"), //
+						new Employee(2L, "Bilbo", "Baggins", "burglar")));
+
+		client.get().uri("/employees").accept(MediaTypes.HAL_JSON).exchange() //
+				.expectStatus().isOk() //
+				.expectHeader().contentType(MediaTypes.HAL_JSON) //
+				.expectBody() //
+				.jsonPath("$._embedded.employees[0].id").isEqualTo(1) //
+				.jsonPath("$._embedded.employees[0].firstName").isEqualTo("Frodo") //
+				.jsonPath("$._embedded.employees[0].lastName").isEqualTo("Baggins") //
+				.jsonPath("$._embedded.employees[0].role").isEqualTo("ring bearer") //
+				.jsonPath("$._embedded.employees[0]._links.self.href").isEqualTo("/employees/1") //
+				.jsonPath("$._embedded.employees[0]._links.employees.href").isEqualTo("/employees") //
+				.jsonPath("$._embedded.employees[1].id").isEqualTo(2) //
+				.jsonPath("$._embedded.employees[1].firstName").isEqualTo("Bilbo") //
+				.jsonPath("$._embedded.employees[1]._links.self.href").isEqualTo("/employees/2") //
+				.jsonPath("$._links.self.href").isEqualTo("/employees");
+
+		given(repository.findAll()).willReturn(Flux.empty());
+
+		client.get().uri("/employees").accept(MediaTypes.HAL_JSON).exchange() //
+				.expectStatus().isOk() //
+				.expectBody() //
+				.jsonPath("$._embedded").doesNotExist() //
+				.jsonPath("$._links.self.href").isEqualTo("/employees");
+	}
+
+	@Test
+	public void errorBeforeTheFirstEmployeeShouldStillBeAnErrorResponse() {
+
+		given(repository.findAll()).willReturn(Flux.error(new IllegalStateException("Database is down")));
+
+		client.get().uri("/employees").accept(MediaTypes.HAL_JSON).exchange() //
+				.expectStatus().is5xxServerError();
+	}
+
+	@Test
+	public void errorAfterTheFirstEmployeeShouldAbortTheResponse() {
+
+		given(repository.findAll()).willReturn(Flux.concat( //
+				Flux.just(new Employee(1L, "Frodo", "Baggins", "ring bearer")), //
+				Flux.error(new IllegalStateException("Database went down"))));
+
+		FluxExchangeResult<String> result = client.get().uri("/employees").accept(MediaTypes.HAL_JSON).exchange() //
+				.expectStatus().isOk() //
+				.returnResult(String.class);
+
+		Throwable error = result.getResponseBody() //
+				.then(Mono.<Throwable> empty()) //
+				.onErrorResume(Mono::just) //
+				.block();
+
+		assertThat(error, is(notNullValue()));
+	}
+
+	@Test
+	public void getOneShouldFetchASingleHalDocument() {
+
+		given(repository.findById(1L)).willReturn(Mono.just(new Employee(1L, "Frodo", "Baggins", "ring bearer")));
+		given(repository.findById(2L)).willReturn(Mono.empty());
+
+		client.get().uri("/employees/1").accept(MediaTypes.HAL_JSON).exchange() //
+				.expectStatus().isOk() //
+				.expectHeader().contentType(MediaTypes.HAL_JSON) //
+				.expectBody() //
+				.jsonPath("$.firstName").isEqualTo("Frodo") //
+				.jsonPath("$._links.self.href").value(is("/employees/1")) //
+				.jsonPath("$._links.employees.href").value(is("/employees"));
+
+		client.get().uri("/employees/2").accept(MediaTypes.HAL_JSON).exchange() //
+				.expectStatus().isNotFound();
+	}
+}
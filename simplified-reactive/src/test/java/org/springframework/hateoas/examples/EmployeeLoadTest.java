@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.Assume.*;
+
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Fires the same load at the Spring MVC {@literal simplified} example and at this one, with many more concurrent
+ * connections than Tomcat has threads, and logs throughput and latencies for both. Only runs when pointed at two
+ * running servers, e.g.
+ *
+ * <pre>
+ * mvn test -Dtest=EmployeeLoadTest -Dload.mvc=http://localhost:8080 -Dload.reactive=http://localhost:8081
+ * </pre>
+ *
+ * {@literal load.concurrency} (default 1000) and {@literal load.requests} (default 20000) tune the load.
+ */
+public class EmployeeLoadTest {
+
+	private static final Logger LOG = LoggerFactory.getLogger(EmployeeLoadTest.class);
+
+	private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 1000);
+	private static final int REQUESTS = Integer.getInteger("load.requests", 20_000);
+
+	@Test
+	public void bothStacksShouldServeEveryRequest() {
+
+		String mvc = System.getProperty("load.mvc");
+		String reactive = System.getProperty("load.reactive");
+
+		assumeTrue("Set load.mvc and load.reactive to run the load test", mvc != null && reactive != null);
+
+		Result mvcResult = run(mvc);
+		Result reactiveResult = run(reactive);
+
+		LOG.info("Spring MVC:     {}", mvcResult);
+		LOG.info("Spring WebFlux: {}", reactiveResult);
+
+		assertThat(mvcResult.errors).isZero();
+		assertThat(reactiveResult.errors).isZero();
+	}
+
+	private static Result run(String baseUrl) {
+
+		ConnectionProvider connections = ConnectionProvider.builder("load") //
+				.maxConnections(CONCURRENCY) //
+				.pendingAcquireMaxCount(-1) //
+				.build();
+
+		WebClient client = WebClient.builder() //
+				.baseUrl(baseUrl) //
+				.clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections))) //
+				.build();
+
+		try {
+			// Warm up both the server and the client's connection pool.
+			fire(client, Math.min(REQUESTS, CONCURRENCY * 2), new long[REQUESTS]);
+
+			long[] latencies = new long[REQUESTS];
+			long start = System.nanoTime();
+			int errors = fire(client, REQUESTS, latencies);
+
+			return new Result(REQUESTS, errors, System.nanoTime() - start, latencies);
+		} finally {
+			connections.dispose();
+		}
+	}
+
+	private static int fire(WebClient client, int requests, long[] latencies) {
+
+		AtomicInteger index = new AtomicInteger();
+
+		return Flux.range(0, requests) //
+				.flatMap(i -> {
+
+					long start = System.nanoTime();
+
+					return client.get().uri("/employees").accept(MediaTypes.HAL_JSON) //
+							.retrieve() //
+							.toBodilessEntity() //
+							.doOnSuccess(response -> latencies[index.getAndIncrement()] = System.nanoTime() - start) //
+							.map(response -> 0) //
+							.onErrorReturn(1);
+				}, CONCURRENCY) //
+				.reduce(0, Integer::sum) //
+				.block(Duration.ofMinutes(5));
+	}
+
+	private static class Result {
+
+		private final int requests;
+		private final int errors;
+		private final long elapsedNanos;
+		private final long[] latencies;
+
+		Result(int requests, int errors, long elapsedNanos, long[] latencies) {
+
+			this.requests = requests;
+			this.errors = errors;
+			this.elapsedNanos = elapsedNanos;
+			this.latencies = Arrays.copyOf(latencies, requests - errors);
+
+			Arrays.sort(this.latencies);
+		}
+
+		private long percentileMillis(double percentile) {
+			return latencies.length == 0 ? 0
+					: Duration.ofNanos(latencies[(int) Math.min(latencies.length - 1, latencies.length * percentile)])
+							.toMillis();
+		}
+
+		@Override
+		public String toString() {
+
+			return String.format("%d requests, %d errors, %.0f requests/s, p50 %d ms, p99 %d ms", requests, errors,
+					requests / (elapsedNanos / 1e9), percentileMillis(0.5), percentileMillis(0.99));
+		}
+	}
+}
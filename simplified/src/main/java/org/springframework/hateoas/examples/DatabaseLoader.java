@@ -17,6 +17,7 @@ package org.springframework.hateoas.examples;
 
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
+import org.springframework.hateoas.SyntheticDataGenerator;
 import org.springframework.stereotype.Component;
 
 /**
@@ -32,14 +33,35 @@ class DatabaseLoader {
 	 * is operational, the database will be up.
 	 *
 	 * @param repository
+	 * @param data
 	 */
 	@Bean
-	CommandLineRunner init(EmployeeRepository repository) {
+	CommandLineRunner init(EmployeeRepository repository, SyntheticDataGenerator data) {
 
 		return args -> {
 			repository.save(new Employee("Frodo", "Baggins", "ring bearer"));
 			repository.save(new Employee("Bilbo", "Baggins", "burglar"));
+			generateEmployees(data);
 		};
 	}
 
+	/**
+	 * Add as many employees as {@literal synthetic-data.employees} asks for.
+	 */
+	private static void generateEmployees(SyntheticDataGenerator data) {
+
+		long employees = data.getProperties().getEmployees();
+
+		if (employees == 0) {
+			return;
+		}
+
+		long firstId = data.reserveIds("hibernate_sequence", employees);
+
+		// Starting at the version JPA would have given them, so they can be updated like any other
+		data.insert("INSERT INTO employee (id, first_name, last_name, role, version) VALUES (?, ?, ?, ?, 0)", employees,
+				(index, random) -> new Object[] { firstId + index, SyntheticDataGenerator.firstName(random),
+						SyntheticDataGenerator.lastName(random), SyntheticDataGenerator.role(random) });
+	}
+
 }
@@ -16,19 +16,23 @@
 package org.springframework.hateoas.examples;
 
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Version;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 /**
  * Domain object representing a company employee. Project Lombok keeps actual code at a minimum. {@code @Data} -
  * Generates getters, setters, toString, hash, and equals functions {@code @Entity} - JPA annotation to flag this class
  * for DB persistence {@code @NoArgsConstructor} - Create a constructor with no args to support JPA
- * {@code @AllArgsConstructor} - Create a constructor with all args to support testing
+ * {@code @Version} - Counter bumped by every update, published as the ETag
+ * {@code @EntityListeners} - Publishes every committed write to {@literal /employees/changes}
  * {@code @JsonIgnoreProperties(ignoreUnknow=true)} When converting JSON to Java, ignore any unrecognized attributes.
  * This is critical for REST because it encourages adding new fields in later versions that won't break. It also allows
  * things like _links to be ignore as well, meaning HAL documents can be fetched and later posted to the server without
@@ -38,8 +42,8 @@ import javax.persistence.Id;
  */
 @Data
 @Entity
+@EntityListeners(EmployeeChangeListener.class)
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
-@AllArgsConstructor
 class Employee {
 
 	@Id @GeneratedValue private Long id;
@@ -47,6 +51,17 @@ class Employee {
 	private String lastName;
 	private String role;
 
+	@JsonIgnore @Version private Long version;
+
+	/**
+	 * Useful constructor for an employee that's already stored, e.g. in tests.
+	 */
+	Employee(Long id, String firstName, String lastName, String role) {
+
+		this(firstName, lastName, role);
+		this.id = id;
+	}
+
 	/**
 	 * Useful constructor when id is not yet known.
 	 * 
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * Pushes every committed {@link Employee} change to the clients listening on {@literal /employees/changes}, so they
+ * don't have to poll the collection. Each subscriber gets a bounded buffer drained by a small shared pool. A slow
+ * client never holds up the writer: once its buffer is full the oldest change is dropped, and the client is sent a
+ * {@literal resync} event telling it how many it missed, so it knows to fetch {@literal /employees} again.
+ * <p>
+ * {@link SseEmitter#send(SseEventBuilder)} blocks until the container has written the event, so a client that stops
+ * reading would hold a pool thread. Sends run as {@link ForkJoinPool.ManagedBlocker}s, letting the pool start a spare
+ * thread for the other subscribers meanwhile. A subscriber still stuck in a send after {@link #SEND_TIMEOUT} is
+ * dropped at the next change, and its stream is ended with an error once the send returns.
+ */
+@Component
+class EmployeeChangeFeed implements DisposableBean {
+
+	static final int DEFAULT_BUFFER_SIZE = 256;
+	static final long SUBSCRIPTION_TIMEOUT = Duration.ofMinutes(30).toMillis();
+	static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+
+	enum ChangeType {
+		CREATED, UPDATED, DELETED
+	}
+
+	private final Set<Subscription> subscriptions = Collections.newSetFromMap(new ConcurrentHashMap<>());
+	private final AtomicLong sequence = new AtomicLong();
+	private final EmployeeLinks links;
+	private final int bufferSize;
+	private final Executor executor;
+
+	@Autowired
+	EmployeeChangeFeed(EmployeeLinks links) {
+		this(links, DEFAULT_BUFFER_SIZE, new ForkJoinPool(4, pool -> {
+
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("employee-changes-" + thread.getPoolIndex());
+			return thread;
+		}, null, true));
+	}
+
+	EmployeeChangeFeed(EmployeeLinks links, int bufferSize, Executor executor) {
+
+		this.links = links;
+		this.bufferSize = bufferSize;
+		this.executor = executor;
+	}
+
+	/**
+	 * Register a new listener. It stays subscribed until it disconnects or the emitter times out.
+	 */
+	SseEmitter subscribe() {
+
+		SseEmitter emitter = new SseEmitter(SUBSCRIPTION_TIMEOUT);
+		Subscription subscription = new Subscription(emitter);
+
+		emitter.onCompletion(() -> this.subscriptions.remove(subscription));
+		emitter.onTimeout(() -> this.subscriptions.remove(subscription));
+		emitter.onError(throwable -> this.subscriptions.remove(subscription));
+
+		this.subscriptions.add(subscription);
+
+		return emitter;
+	}
+
+	/**
+	 * Build the model once and hand it to every subscriber. Nothing is built when no one is listening.
+	 */
+	void publish(ChangeType type, Employee employee) {
+
+		if (this.subscriptions.isEmpty()) {
+			return;
+		}
+
+		// Snapshot the entity, the persistence context may still hand the same instance to later writes.
+		Employee snapshot = new Employee(employee.getId(), employee.getFirstName(), employee.getLastName(),
+				employee.getRole());
+		snapshot.setVersion(employee.getVersion());
+
+		Change change = new Change(this.sequence.incrementAndGet(), type, this.links.toModel(snapshot));
+		long now = System.nanoTime();
+
+		this.subscriptions.forEach(subscription -> {
+
+			if (subscription.isStalled(now)) {
+				subscription.stalled = true;
+				this.subscriptions.remove(subscription);
+			} else {
+				subscription.offer(change);
+			}
+		});
+	}
+
+	/**
+	 * {@link #publish(ChangeType, Employee)} once the surrounding transaction commits, so subscribers never see a write
+	 * that got rolled back. Outside a transaction, the change is published right away.
+	 */
+	void publishAfterCommit(ChangeType type, Employee employee) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			publish(type, employee);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+			@Override
+			public void afterCommit() {
+				publish(type, employee);
+			}
+		});
+	}
+
+	@Override
+	public void destroy() {
+
+		this.subscriptions.forEach(subscription -> subscription.emitter.complete());
+
+		if (this.executor instanceof ExecutorService) {
+			((ExecutorService) this.executor).shutdownNow();
+		}
+	}
+
+	private static class Change {
+
+		private final long id;
+		private final ChangeType type;
+		private final EntityModel<Employee> model;
+
+		Change(long id, ChangeType type, EntityModel<Employee> model) {
+
+			this.id = id;
+			this.type = type;
+			this.model = model;
+		}
+
+		/**
+		 * {@link SseEventBuilder}s can't be shared between emitters, so every subscriber gets its own.
+		 */
+		SseEventBuilder toEvent() {
+
+			return SseEmitter.event() //
+					.id(Long.toString(this.id)) //
+					.name(this.type.name().toLowerCase()) //
+					.data(this.model, MediaTypes.HAL_JSON);
+		}
+	}
+
+	private class Subscription {
+
+		private final SseEmitter emitter;
+		private final Deque<Change> buffer = new ArrayDeque<>();
+		private int dropped;
+		private boolean draining;
+		private volatile long sendingSince;
+		private volatile boolean stalled;
+
+		Subscription(SseEmitter emitter) {
+			this.emitter = emitter;
+		}
+
+		void offer(Change change) {
+
+			synchronized (this) {
+
+				if (this.buffer.size() == bufferSize) {
+					this.buffer.pollFirst();
+					this.dropped++;
+				}
+
+				this.buffer.addLast(change);
+
+				if (this.draining) {
+					return;
+				}
+
+				this.draining = true;
+			}
+
+			executor.execute(this::drain);
+		}
+
+		/**
+		 * Whether a send to this subscriber has been under way for longer than {@link #SEND_TIMEOUT}.
+		 */
+		boolean isStalled(long now) {
+
+			long since = this.sendingSince;
+
+			return since != 0 && now - since > SEND_TIMEOUT.toNanos();
+		}
+
+		private void drain() {
+
+			try {
+				while (true) {
+
+					Change next;
+					int missed;
+
+					synchronized (this) {
+
+						next = this.buffer.pollFirst();
+						missed = this.dropped;
+						this.dropped = 0;
+
+						if (next == null && missed == 0) {
+							this.draining = false;
+							return;
+						}
+					}
+
+					if (missed > 0) {
+						send(SseEmitter.event() //
+								.name("resync") //
+								.data(Collections.singletonMap("dropped", missed)));
+					}
+
+					if (next != null) {
+						send(next.toEvent());
+					}
+
+					if (this.stalled) {
+						throw new TimeoutException("Subscriber took longer than " + SEND_TIMEOUT + " to accept a change");
+					}
+				}
+			} catch (InterruptedException e) {
+
+				// The feed is shutting down.
+				Thread.currentThread().interrupt();
+				subscriptions.remove(this);
+				this.emitter.completeWithError(e);
+
+			} catch (IOException | IllegalStateException | TimeoutException e) {
+
+				// The client went away, the emitter is already completed, or the client stalled and was dropped.
+				subscriptions.remove(this);
+				this.emitter.completeWithError(e);
+			}
+		}
+
+		private void send(SseEventBuilder event) throws IOException, InterruptedException {
+
+			Send send = new Send(this.emitter, event);
+
+			this.sendingSince = System.nanoTime();
+
+			try {
+				ForkJoinPool.managedBlock(send);
+			} finally {
+				this.sendingSince = 0;
+			}
+
+			if (send.failure != null) {
+				throw send.failure;
+			}
+		}
+	}
+
+	/**
+	 * A single blocking {@link SseEmitter#send(SseEventBuilder)}. Outside a {@link ForkJoinPool} it simply runs on the
+	 * calling thread.
+	 */
+	private static class Send implements ForkJoinPool.ManagedBlocker {
+
+		private final SseEmitter emitter;
+		private final SseEventBuilder event;
+		private boolean done;
+		private IOException failure;
+
+		Send(SseEmitter emitter, SseEventBuilder event) {
+
+			this.emitter = emitter;
+			this.event = event;
+		}
+
+		@Override
+		public boolean block() {
+
+			try {
+				this.emitter.send(this.event);
+			} catch (IOException e) {
+				this.failure = e;
+			}
+
+			this.done = true;
+
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return this.done;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.hateoas.examples.EmployeeChangeFeed.ChangeType;
+
+/**
+ * JPA entity listener that hands {@link Employee} writes to the {@link EmployeeChangeFeed}. Hibernate obtains it through
+ * Spring, so the feed is injected. Changes are published once the surrounding transaction commits, so subscribers never
+ * see a write that got rolled back.
+ */
+class EmployeeChangeListener {
+
+	private final EmployeeChangeFeed feed;
+
+	EmployeeChangeListener(EmployeeChangeFeed feed) {
+		this.feed = feed;
+	}
+
+	@PostPersist
+	void onCreate(Employee employee) {
+		this.feed.publishAfterCommit(ChangeType.CREATED, employee);
+	}
+
+	@PostUpdate
+	void onUpdate(Employee employee) {
+		this.feed.publishAfterCommit(ChangeType.UPDATED, employee);
+	}
+
+	@PostRemove
+	void onRemove(Employee employee) {
+		this.feed.publishAfterCommit(ChangeType.DELETED, employee);
+	}
+}
@@ -15,25 +15,37 @@
  */
 package org.springframework.hateoas.examples;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
-
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.JsonMergePatch;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.VersionETags;
+import org.springframework.hateoas.examples.EmployeeChangeFeed.ChangeType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * Spring Web {@link RestController} used to generate a REST API.
@@ -44,9 +56,17 @@ import org.springframework.web.bind.annotation.RestController;
 class EmployeeController {
 
 	private final EmployeeRepository repository;
+	private final ObjectMapper mapper;
+	private final EmployeeChangeFeed changes;
+	private final EmployeeLinks links;
+
+	EmployeeController(EmployeeRepository repository, ObjectMapper mapper, EmployeeChangeFeed changes,
+			EmployeeLinks links) {
 
-	EmployeeController(EmployeeRepository repository) {
 		this.repository = repository;
+		this.mapper = mapper;
+		this.changes = changes;
+		this.links = links;
 	}
 
 	/**
@@ -54,17 +74,18 @@ class EmployeeController {
 	 * {@link ResponseEntity} fluent API.
 	 */
 	@GetMapping("/employees")
-	ResponseEntity<CollectionModel<EntityModel<Employee>>> findAll() {
-
-		List<EntityModel<Employee>> employees = StreamSupport.stream(repository.findAll().spliterator(), false)
-				.map(employee -> EntityModel.of(employee, //
-						linkTo(methodOn(EmployeeController.class).findOne(employee.getId())).withSelfRel(), //
-						linkTo(methodOn(EmployeeController.class).findAll()).withRel("employees"))) //
-				.collect(Collectors.toList());
+	ResponseEntity<CollectionModel<?>> findAll() {
+		return ResponseEntity.ok(links.toCollectionModel(repository.findAll()));
+	}
 
-		return ResponseEntity.ok( //
-				CollectionModel.of(employees, //
-						linkTo(methodOn(EmployeeController.class).findAll()).withSelfRel()));
+	/**
+	 * Subscribe to a {@literal text/event-stream} of {@literal created}, {@literal updated} and {@literal deleted} events,
+	 * each carrying the employee as HAL. A {@literal resync} event means changes were dropped and the collection should be
+	 * fetched again.
+	 */
+	@GetMapping(value = "/employees/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	SseEmitter changes() {
+		return changes.subscribe();
 	}
 
 	@PostMapping("/employees")
@@ -73,8 +94,7 @@ class EmployeeController {
 		try {
 			Employee savedEmployee = repository.save(employee);
 
-			EntityModel<Employee> employeeResource = EntityModel.of(savedEmployee, //
-					linkTo(methodOn(EmployeeController.class).findOne(savedEmployee.getId())).withSelfRel());
+			EntityModel<Employee> employeeResource = EntityModel.of(savedEmployee, links.self(savedEmployee.getId()));
 
 			return ResponseEntity //
 					.created(new URI(employeeResource.getRequiredLink(IanaLinkRelations.SELF).getHref())) //
@@ -94,34 +114,132 @@ class EmployeeController {
 	ResponseEntity<EntityModel<Employee>> findOne(@PathVariable long id) {
 
 		return repository.findById(id) //
-				.map(employee -> EntityModel.of(employee, //
-						linkTo(methodOn(EmployeeController.class).findOne(employee.getId())).withSelfRel(), //
-						linkTo(methodOn(EmployeeController.class).findAll()).withRel("employees"))) //
-				.map(ResponseEntity::ok) //
+				.map(employee -> ResponseEntity.ok() //
+						.headers(VersionETags.headersFor(employee.getVersion())) //
+						.body(links.toModel(employee))) //
 				.orElse(ResponseEntity.notFound().build());
 	}
 
 	/**
-	 * Update existing employee then return a Location header.
+	 * Update existing employee then return a Location header and the new ETag. The update is a single
+	 * {@code UPDATE ... WHERE version = ?}. If the client sends an {@literal If-Match} header with the ETag it last saw,
+	 * that's the version, and when someone else got there first, nothing is written and the answer is
+	 * {@literal 412 Precondition Failed}. Without one, it's the version just read, and a write committed in between is
+	 * answered with {@literal 409 Conflict}.
 	 * 
 	 * @param employee
 	 * @param id
+	 * @param ifMatch
 	 * @return
 	 */
 	@PutMapping("/employees/{id}")
-	ResponseEntity<?> updateEmployee(@RequestBody Employee employee, @PathVariable long id) {
+	ResponseEntity<?> updateEmployee(@RequestBody Employee employee, @PathVariable long id,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+		OptionalLong version;
 
-		Employee employeeToUpdate = employee;
-		employeeToUpdate.setId(id);
-		repository.save(employeeToUpdate);
+		if (ifMatch == null || VersionETags.isWildcard(ifMatch)) {
 
-		Link newlyCreatedLink = linkTo(methodOn(EmployeeController.class).findOne(id)).withSelfRel();
+			Optional<Employee> current = repository.findById(id);
+			version = current.isPresent() ? OptionalLong.of(current.get().getVersion()) : OptionalLong.empty();
+		} else {
+			version = VersionETags.versionOf(ifMatch);
+		}
+
+		if (!version.isPresent()) {
+			return ifMatch == null ? ResponseEntity.notFound().build() : preconditionFailed(id, ifMatch);
+		}
+
+		if (repository.updateIfVersion(id, version.getAsLong(), employee.getFirstName(), employee.getLastName(),
+				employee.getRole()) == 0) {
+			return notUpdated(id, ifMatch);
+		}
+
+		long newVersion = version.getAsLong() + 1;
+
+		// A bulk update bypasses the entity listener, so publish the change here.
+		Employee updatedEmployee = new Employee(id, employee.getFirstName(), employee.getLastName(), employee.getRole());
+		updatedEmployee.setVersion(newVersion);
+		changes.publish(ChangeType.UPDATED, updatedEmployee);
+
+		Link newlyCreatedLink = links.self(id);
 
 		try {
-			return ResponseEntity.noContent().location(new URI(newlyCreatedLink.getHref())).build();
+			return ResponseEntity.noContent() //
+					.location(new URI(newlyCreatedLink.getHref())) //
+					.headers(VersionETags.headersFor(newVersion)) //
+					.build();
 		} catch (URISyntaxException e) {
-			return ResponseEntity.badRequest().body("Unable to update " + employeeToUpdate);
+			return ResponseEntity.badRequest().body("Unable to update " + employee);
+		}
+	}
+
+	private static ResponseEntity<?> preconditionFailed(long id, String ifMatch) {
+		return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body("Employee " + id + " doesn't match " + ifMatch);
+	}
+
+	/**
+	 * A conditional update found the employee at another version than it expected. That breaks the client's
+	 * {@literal If-Match}, or else someone else's write was committed since the version was read.
+	 */
+	private static ResponseEntity<?> notUpdated(long id, String ifMatch) {
+
+		if (ifMatch != null && !VersionETags.isWildcard(ifMatch)) {
+			return preconditionFailed(id, ifMatch);
 		}
+
+		return ResponseEntity.status(HttpStatus.CONFLICT).body("Employee " + id + " was changed concurrently");
 	}
 
+	/**
+	 * Change only the properties present in a {@link JsonMergePatch}, then return the updated resource and its new
+	 * ETag. Lookup, merge and a conditional update like {@link #updateEmployee(Employee, long, String)}'s share one
+	 * transaction, and an {@literal If-Match} header is honored the same way.
+	 *
+	 * @param patch
+	 * @param id
+	 * @param ifMatch
+	 * @return
+	 */
+	@PatchMapping(value = "/employees/{id}", consumes = JsonMergePatch.MEDIA_TYPE_VALUE)
+	@Transactional
+	public ResponseEntity<?> patchEmployee(@RequestBody JsonNode patch, @PathVariable long id,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+		Optional<Employee> employeeToPatch = repository.findById(id);
+
+		if (!employeeToPatch.isPresent()) {
+			return ifMatch == null ? ResponseEntity.notFound().build() : preconditionFailed(id, ifMatch);
+		}
+
+		Employee current = employeeToPatch.get();
+
+		if (!VersionETags.matches(ifMatch, current.getVersion())) {
+			return preconditionFailed(id, ifMatch);
+		}
+
+		if (patch.isObject()) {
+			((ObjectNode) patch).remove("id");
+		}
+
+		try {
+			// Merged into a copy, as Hibernate would flush changes to the managed one ahead of the update
+			Employee patchedEmployee = JsonMergePatch.apply(patch,
+					new Employee(id, current.getFirstName(), current.getLastName(), current.getRole()), mapper);
+
+			if (repository.updateIfVersion(id, current.getVersion(), patchedEmployee.getFirstName(),
+					patchedEmployee.getLastName(), patchedEmployee.getRole()) == 0) {
+				return notUpdated(id, ifMatch);
+			}
+
+			patchedEmployee.setVersion(current.getVersion() + 1);
+			changes.publishAfterCommit(ChangeType.UPDATED, patchedEmployee);
+
+			return ResponseEntity.ok() //
+					.headers(VersionETags.headersFor(patchedEmployee.getVersion())) //
+					.body(links.toModel(patchedEmployee));
+		} catch (IOException e) {
+			return ResponseEntity.badRequest().body("Unable to patch employee " + id + ": " + e.getMessage());
+		}
+	}
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.springframework.hateoas.AffordanceTemplate;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Builds the links of employee resources in one of two styles.
+ * <ul>
+ * <li>By default every href is absolute. {@link WebMvcLinkBuilder} derives scheme, host and port from the current
+ * request (and any forwarded headers), and every embedded employee carries its own {@literal self} and
+ * {@literal employees} links.</li>
+ * <li>With {@literal links.compact=true}, hrefs are relative to the host and only prefixed with the context path.
+ * Custom relations are rendered as CURIEs, see {@link SpringHateoasSimplifiedApplication#curieProvider()}. A collection
+ * carries a single templated {@literal item} link, so the embedded employees are left with just their id.</li>
+ * </ul>
+ * Either way, an employee's {@literal self} link affords the {@literal PUT} and {@literal PATCH} of
+ * {@link EmployeeController}, which HAL-FORMS renders as templates.
+ */
+class EmployeeLinks {
+
+	private final boolean compact;
+	private final String employeesPath;
+	private final String changesPath;
+	private final AffordanceTemplate updateEmployee;
+	private final AffordanceTemplate patchEmployee;
+
+	EmployeeLinks(boolean compact) {
+
+		this.compact = compact;
+		this.updateEmployee = AffordanceTemplate.of(methodOn(EmployeeController.class).updateEmployee(null, 0L, null));
+		this.patchEmployee = AffordanceTemplate.of(methodOn(EmployeeController.class).patchEmployee(null, 0L, null))
+				.withInput(Employee.class);
+
+		// Outside of a request, the link builder renders bare paths. Resolve them once.
+		this.employeesPath = linkTo(methodOn(EmployeeController.class).findAll()).toUri().getPath();
+		this.changesPath = linkTo(methodOn(EmployeeController.class).changes()).toUri().getPath();
+	}
+
+	EntityModel<Employee> toModel(Employee employee) {
+
+		Link self = patchEmployee.applyTo(updateEmployee.applyTo(self(employee.getId())));
+
+		return EntityModel.of(employee, self, employees().withRel("employees"));
+	}
+
+	CollectionModel<?> toCollectionModel(Iterable<Employee> employees) {
+
+		if (compact) {
+			return CollectionModel.of(employees, //
+					employees().withSelfRel(), //
+					Link.of(UriTemplate.of(contextPath() + employeesPath + "/{id}"), IanaLinkRelations.ITEM), //
+					changes());
+		}
+
+		List<EntityModel<Employee>> models = StreamSupport.stream(employees.spliterator(), false) //
+				.map(this::toModel) //
+				.collect(Collectors.toList());
+
+		return CollectionModel.of(models, employees().withSelfRel(), changes());
+	}
+
+	Link self(long id) {
+
+		return compact //
+				? Link.of(contextPath() + employeesPath + "/" + id) //
+				: linkTo(methodOn(EmployeeController.class).findOne(id)).withSelfRel();
+	}
+
+	private Link employees() {
+
+		return compact //
+				? Link.of(contextPath() + employeesPath) //
+				: linkTo(methodOn(EmployeeController.class).findAll()).withSelfRel();
+	}
+
+	private Link changes() {
+
+		return compact //
+				? Link.of(contextPath() + changesPath, "changes") //
+				: linkTo(methodOn(EmployeeController.class).changes()).withRel("changes");
+	}
+
+	private static String contextPath() {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		return attributes instanceof ServletRequestAttributes //
+				? ((ServletRequestAttributes) attributes).getRequest().getContextPath() //
+				: "";
+	}
+}
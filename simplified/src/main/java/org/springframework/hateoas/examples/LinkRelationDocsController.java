@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Documents the custom link relations, so the {@literal ex} CURIE of compact links points somewhere.
+ */
+@RestController
+class LinkRelationDocsController {
+
+	private static final Map<String, String> DOCS = new HashMap<>();
+
+	static {
+		DOCS.put("employees", "The collection of all employees. GET lists them, POST adds one.");
+		DOCS.put("changes", "A text/event-stream of created, updated and deleted employees, sent after each commit.");
+	}
+
+	@GetMapping(value = "/docs/rels/{rel}", produces = MediaType.TEXT_PLAIN_VALUE)
+	ResponseEntity<String> describe(@PathVariable String rel) {
+
+		return Optional.ofNullable(DOCS.get(rel)) //
+				.map(ResponseEntity::ok) //
+				.orElseGet(() -> ResponseEntity.notFound().build());
+	}
+}
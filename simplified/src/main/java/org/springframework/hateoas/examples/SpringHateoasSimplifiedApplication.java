@@ -16,15 +16,28 @@
 
 package org.springframework.hateoas.examples;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.DefaultCurieProvider;
+import org.springframework.hateoas.mediatype.hal.HalLinkRelation;
 import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
 
 /**
+ * Serves HAL, and HAL-FORMS to clients asking for it.
+ *
  * @author Greg Turnquist
  */
 @SpringBootApplication
+@EnableHypermediaSupport(type = { HypermediaType.HAL, HypermediaType.HAL_FORMS })
 public class SpringHateoasSimplifiedApplication {
 
 	public static void main(String... args) {
@@ -40,4 +53,40 @@ public class SpringHateoasSimplifiedApplication {
 	EvoInflectorLinkRelationProvider relProvider() {
 		return new EvoInflectorLinkRelationProvider();
 	}
+
+	/**
+	 * Render links absolute, or compact with {@literal links.compact=true}.
+	 *
+	 * @param compact
+	 * @return
+	 */
+	@Bean
+	EmployeeLinks employeeLinks(@Value("${links.compact:false}") boolean compact) {
+		return new EmployeeLinks(compact);
+	}
+
+	/**
+	 * In compact mode, prefix custom link relations with a CURIE pointing at their documentation, served by
+	 * {@link LinkRelationDocsController}. Keys in {@literal _embedded} stay as they are, so clients find the employees
+	 * in the same place in either mode.
+	 *
+	 * @return
+	 */
+	@Bean
+	@ConditionalOnProperty("links.compact")
+	CurieProvider curieProvider() {
+
+		return new DefaultCurieProvider("ex", UriTemplate.of("/docs/rels/{rel}")) {
+
+			@Override
+			public HalLinkRelation getNamespacedRelFrom(Link link) {
+				return super.getNamespacedRelFor(link.getRel());
+			}
+
+			@Override
+			public HalLinkRelation getNamespacedRelFor(LinkRelation relation) {
+				return HalLinkRelation.of(relation);
+			}
+		};
+	}
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * The same {@link EmployeeController}, rendering compact links.
+ */
+@RunWith(SpringRunner.class)
+@WebMvcTest(controllers = { EmployeeController.class, LinkRelationDocsController.class },
+		properties = "links.compact=true")
+public class CompactLinksTests {
+
+	@Autowired private MockMvc mvc;
+
+	@MockBean private EmployeeRepository repository;
+	@MockBean private EmployeeChangeFeed changes;
+
+	@Test
+	public void collectionShouldCarryATemplatedItemLinkInsteadOfItemLinks() throws Exception {
+
+		given(repository.findAll()).willReturn( //
+				Arrays.asList( //
+						new Employee(1L, "Frodo", "Baggins", "ring bearer"), //
+						new Employee(2L, "Bilbo", "Baggins", "burglar")));
+
+		mvc.perform(get("/app/employees").contextPath("/app").accept(MediaTypes.HAL_JSON_VALUE)) //
+				.andDo(print()) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.employees[0].id", is(1)))
+				.andExpect(jsonPath("$._embedded.employees[0].firstName", is("Frodo")))
+				.andExpect(jsonPath("$._embedded.employees[0]._links").doesNotExist())
+				.andExpect(jsonPath("$._embedded.employees[1].id", is(2)))
+				.andExpect(jsonPath("$._links.self.href", is("/app/employees")))
+				.andExpect(jsonPath("$._links.item.href", is("/app/employees/{id}")))
+				.andExpect(jsonPath("$._links.item.templated", is(true)))
+				.andExpect(jsonPath("$._links['ex:changes'].href", is("/app/employees/changes")))
+				.andExpect(jsonPath("$._links.curies[0].name", is("ex")))
+				.andExpect(jsonPath("$._links.curies[0].href", is("http://localhost/app/docs/rels/{rel}")));
+	}
+
+	@Test
+	public void itemShouldCarryRelativeLinks() throws Exception {
+
+		given(repository.findById(1L)).willReturn(Optional.of(new Employee(1L, "Frodo", "Baggins", "ring bearer")));
+
+		mvc.perform(get("/employees/1").accept(MediaTypes.HAL_JSON_VALUE)) //
+				.andDo(print()) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$.id", is(1)))
+				.andExpect(jsonPath("$._links.self.href", is("/employees/1")))
+				.andExpect(jsonPath("$._links['ex:employees'].href", is("/employees")));
+	}
+
+	@Test
+	public void curiesShouldPointAtDocumentation() throws Exception {
+
+		mvc.perform(get("/docs/rels/employees")) //
+				.andExpect(status().isOk()) //
+				.andExpect(content().string(containsString("employees")));
+
+		mvc.perform(get("/docs/rels/changes")) //
+				.andExpect(status().isOk()) //
+				.andExpect(content().string(containsString("text/event-stream")));
+
+		mvc.perform(get("/docs/rels/unknown")) //
+				.andExpect(status().isNotFound());
+	}
+}
@@ -16,22 +16,33 @@
 package org.springframework.hateoas.examples;
 
 import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.Executor;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.hateoas.JsonMergePatch;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.examples.EmployeeChangeFeed.ChangeType;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 /**
  * How to test the hypermedia-based {@link EmployeeController} with everything else mocked out.
@@ -45,6 +56,42 @@ public class EmployeeControllerTests {
 	@Autowired private MockMvc mvc;
 
 	@MockBean private EmployeeRepository repository;
+	@Autowired private EmployeeChangeFeed changes;
+	@Autowired private QueuedExecutor executor;
+
+	/**
+	 * Runs the change feed with a tiny buffer and lets each test decide when subscribers get drained.
+	 */
+	@TestConfiguration
+	static class ChangeFeedConfiguration {
+
+		@Bean
+		QueuedExecutor executor() {
+			return new QueuedExecutor();
+		}
+
+		@Bean
+		EmployeeChangeFeed employeeChangeFeed(EmployeeLinks links, QueuedExecutor executor) {
+			return new EmployeeChangeFeed(links, 2, executor);
+		}
+	}
+
+	static class QueuedExecutor implements Executor {
+
+		private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+		@Override
+		public void execute(Runnable task) {
+			tasks.add(task);
+		}
+
+		void runAll() {
+
+			while (!tasks.isEmpty()) {
+				tasks.poll().run();
+			}
+		}
+	}
 
 	@Test
 	public void getShouldFetchAHalDocument() throws Exception {
@@ -73,4 +120,164 @@ public class EmployeeControllerTests {
 				.andExpect(jsonPath("$._links.self.href", is("http://localhost/employees"))) //
 				.andReturn();
 	}
+
+	@Test
+	public void halFormsShouldOfferToReplaceAndToPatchAnEmployee() throws Exception {
+
+		Employee frodo = new Employee(1L, "Frodo", "Baggins", "ring bearer");
+		frodo.setVersion(3L);
+
+		given(repository.findById(1L)).willReturn(Optional.of(frodo));
+
+		mvc.perform(get("/employees/1").accept(MediaTypes.HAL_FORMS_JSON_VALUE)) //
+				.andDo(print()) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaTypes.HAL_FORMS_JSON_VALUE))
+				.andExpect(jsonPath("$._templates.default.method", is("put")))
+				.andExpect(jsonPath("$._templates.patchEmployee.method", is("patch")))
+				.andExpect(jsonPath("$._templates.patchEmployee.properties[*].name", //
+						hasItems("firstName", "lastName", "role")));
+
+		mvc.perform(get("/employees/1").accept(MediaTypes.HAL_JSON_VALUE)) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._templates").doesNotExist());
+	}
+
+	@Test
+	public void patchShouldLeaveMissingPropertiesAlone() throws Exception {
+
+		Employee frodo = new Employee(1L, "Frodo", "Baggins", "ring bearer");
+		frodo.setVersion(3L);
+
+		given(repository.findById(1L)).willReturn(Optional.of(frodo));
+		given(repository.updateIfVersion(1L, 3L, "Frodo", "Baggins", "gardener")).willReturn(1);
+
+		mvc.perform(patch("/employees/1") //
+				.contentType(JsonMergePatch.MEDIA_TYPE) //
+				.content("{ \"role\" : \"gardener\" }") //
+				.accept(MediaTypes.HAL_JSON_VALUE)) //
+				.andDo(print()) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.ETAG, "\"4\"")) //
+				.andExpect(jsonPath("$.id", is(1))) //
+				.andExpect(jsonPath("$.firstName", is("Frodo"))) //
+				.andExpect(jsonPath("$.lastName", is("Baggins"))) //
+				.andExpect(jsonPath("$.role", is("gardener"))) //
+				.andExpect(jsonPath("$._links.self.href", is("http://localhost/employees/1")));
+
+		// The managed employee is left alone, Hibernate would otherwise write it too
+		assertThat(frodo.getRole(), is("ring bearer"));
+	}
+
+	@Test
+	public void patchShouldHonorIfMatch() throws Exception {
+
+		Employee frodo = new Employee(1L, "Frodo", "Baggins", "ring bearer");
+		frodo.setVersion(3L);
+
+		given(repository.findById(1L)).willReturn(Optional.of(frodo));
+		given(repository.updateIfVersion(1L, 3L, "Frodo", "Baggins", "gardener")).willReturn(1);
+
+		mvc.perform(patch("/employees/1").header(HttpHeaders.IF_MATCH, "\"2\"") //
+				.contentType(JsonMergePatch.MEDIA_TYPE) //
+				.content("{ \"role\" : \"gardener\" }")) //
+				.andExpect(status().isPreconditionFailed());
+
+		mvc.perform(patch("/employees/1").header(HttpHeaders.IF_MATCH, "\"3\"") //
+				.contentType(JsonMergePatch.MEDIA_TYPE) //
+				.content("{ \"role\" : \"gardener\" }")) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+		// Someone else's write landed between the lookup and the update
+		mvc.perform(patch("/employees/1") //
+				.contentType(JsonMergePatch.MEDIA_TYPE) //
+				.content("{ \"role\" : \"cook\" }")) //
+				.andExpect(status().isConflict());
+
+		mvc.perform(patch("/employees/1").header(HttpHeaders.IF_MATCH, "\"3\"") //
+				.contentType(JsonMergePatch.MEDIA_TYPE) //
+				.content("{ \"role\" : \"cook\" }")) //
+				.andExpect(status().isPreconditionFailed());
+	}
+
+	@Test
+	public void putWithIfMatchShouldOnlyUpdateTheVersionItWasBasedOn() throws Exception {
+
+		Employee frodo = new Employee(1L, "Frodo", "Baggins", "ring bearer");
+		frodo.setVersion(3L);
+
+		given(repository.findById(1L)).willReturn(Optional.of(frodo));
+		given(repository.updateIfVersion(1L, 3L, "Frodo", "Baggins", "hero")).willReturn(1);
+
+		mvc.perform(get("/employees/1").accept(MediaTypes.HAL_JSON_VALUE)) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+
+		String hero = "{ \"firstName\" : \"Frodo\", \"lastName\" : \"Baggins\", \"role\" : \"hero\" }";
+
+		mvc.perform(put("/employees/1").contentType(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_MATCH, "\"3\"")
+				.content(hero)) //
+				.andExpect(status().isNoContent()) //
+				.andExpect(header().string(HttpHeaders.ETAG, "\"4\"")) //
+				.andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/employees/1"));
+
+		mvc.perform(put("/employees/1").contentType(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_MATCH, "\"2\"")
+				.content(hero)) //
+				.andExpect(status().isPreconditionFailed());
+
+		mvc.perform(put("/employees/1").contentType(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_MATCH, "W/\"3\"")
+				.content(hero)) //
+				.andExpect(status().isPreconditionFailed());
+
+		// Without If-Match, the update is conditional on the version just read
+		mvc.perform(put("/employees/1").contentType(MediaType.APPLICATION_JSON).content(hero)) //
+				.andExpect(status().isNoContent()) //
+				.andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+		mvc.perform(put("/employees/1").contentType(MediaType.APPLICATION_JSON)
+				.content("{ \"firstName\" : \"Frodo\", \"lastName\" : \"Baggins\", \"role\" : \"cook\" }")) //
+				.andExpect(status().isConflict());
+
+		given(repository.findById(2L)).willReturn(Optional.empty());
+
+		mvc.perform(put("/employees/2").contentType(MediaType.APPLICATION_JSON).content(hero)) //
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void changesShouldStreamCommittedWritesAndReportDroppedOnes() throws Exception {
+
+		given(repository.updateIfVersion(1L, 3L, "Frodo", "Baggins", "hero")).willReturn(1);
+
+		MvcResult subscription = mvc.perform(get("/employees/changes").accept(MediaType.TEXT_EVENT_STREAM)) //
+				.andExpect(request().asyncStarted()) //
+				.andReturn();
+
+		mvc.perform(put("/employees/1").contentType(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_MATCH, "\"3\"")
+				.content("{ \"firstName\" : \"Frodo\", \"lastName\" : \"Baggins\", \"role\" : \"hero\" }")) //
+				.andExpect(status().isNoContent());
+
+		executor.runAll();
+
+		String stream = subscription.getResponse().getContentAsString();
+
+		assertThat(stream, containsString("event:updated"));
+		assertThat(stream, containsString("\"role\":\"hero\""));
+		assertThat(stream, containsString("\"self\":{\"href\":\"http://localhost/employees/1\"}"));
+
+		// Three changes into a buffer of two: the oldest is dropped and the client is told to resync.
+		changes.publish(ChangeType.CREATED, new Employee(2L, "Bilbo", "Baggins", "burglar"));
+		changes.publish(ChangeType.CREATED, new Employee(3L, "Sam", "Gamgee", "gardener"));
+		changes.publish(ChangeType.DELETED, new Employee(2L, "Bilbo", "Baggins", "burglar"));
+
+		executor.runAll();
+
+		stream = subscription.getResponse().getContentAsString();
+
+		assertThat(stream, containsString("event:resync\ndata:{\"dropped\":1}"));
+		assertThat(stream, not(containsString("event:created\ndata:{\"id\":2")));
+		assertThat(stream, containsString("\"firstName\":\"Sam\""));
+		assertThat(stream, containsString("event:deleted"));
+	}
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.hateoas.JsonMergePatch;
+import org.springframework.hateoas.VersionETags;
+import org.springframework.hateoas.examples.EmployeeChangeFeed.ChangeType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link EmployeeController#patchEmployee(com.fasterxml.jackson.databind.JsonNode, long, String)} against the real
+ * database, announcing the change on the {@link EmployeeChangeFeed}.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+public class EmployeePatchTests {
+
+	/**
+	 * The transaction each {@link EmployeeRepository} call joined, by method name.
+	 */
+	private static final List<String> TRANSACTIONS = new CopyOnWriteArrayList<>();
+
+	@TestConfiguration
+	static class RecordTransactions {
+
+		@Bean
+		static BeanPostProcessor recordRepositoryTransactions() {
+
+			return new BeanPostProcessor() {
+
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+					if (!(bean instanceof EmployeeRepository)) {
+						return bean;
+					}
+
+					ProxyFactory proxy = new ProxyFactory(bean);
+					proxy.addAdvice((MethodInterceptor) invocation -> {
+
+						TRANSACTIONS.add(invocation.getMethod().getName() + " in "
+								+ TransactionSynchronizationManager.getCurrentTransactionName());
+						return invocation.proceed();
+					});
+
+					return proxy.getProxy();
+				}
+			};
+		}
+	}
+
+	@Autowired private MockMvc mvc;
+	@Autowired private EmployeeRepository repository;
+	@SpyBean private EmployeeChangeFeed changes;
+
+	@Test
+	public void patchShouldBeMergedIntoTheCurrentRowInOneTransaction() throws Exception {
+
+		Employee employee = repository.save(new Employee("Samwise", "Gamgee", "gardener"));
+
+		// Someone else changes the employee after the client last read it
+		employee.setRole("ring bearer");
+		employee = repository.save(employee);
+
+		TRANSACTIONS.clear();
+		clearInvocations(changes);
+
+		mvc.perform(patch("/employees/{id}", employee.getId()) //
+				.contentType(JsonMergePatch.MEDIA_TYPE) //
+				.content("{ \"lastName\" : \"Gardner\" }")) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.ETAG, VersionETags.of(employee.getVersion() + 1))) //
+				.andExpect(jsonPath("$.firstName", is("Samwise"))) //
+				.andExpect(jsonPath("$.lastName", is("Gardner"))) //
+				.andExpect(jsonPath("$.role", is("ring bearer")));
+
+		String patchEmployee = EmployeeController.class.getName() + ".patchEmployee";
+
+		assertThat(TRANSACTIONS, contains("findById in " + patchEmployee, "updateIfVersion in " + patchEmployee));
+
+		Employee patched = repository.findById(employee.getId()).get();
+
+		assertThat(patched.getLastName(), is("Gardner"));
+		assertThat(patched.getRole(), is("ring bearer"));
+		assertThat(patched.getVersion(), is(employee.getVersion() + 1));
+
+		// The bulk update bypasses the entity listener, so the controller announces it, once it's committed
+		long version = employee.getVersion() + 1;
+
+		verify(changes).publishAfterCommit(eq(ChangeType.UPDATED), any());
+		verify(changes).publish(eq(ChangeType.UPDATED),
+				argThat(change -> change.getLastName().equals("Gardner") && change.getVersion() == version));
+		verify(changes, times(1)).publish(any(), any());
+	}
+}
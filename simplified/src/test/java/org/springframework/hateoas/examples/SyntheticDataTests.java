@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.stream.StreamSupport;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * {@link DatabaseLoader} adding generated employees around JPA, which must keep working afterwards.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = { "synthetic-data.employees=5000", "synthetic-data.batch-size=300",
+		"synthetic-data.threads=4" })
+public class SyntheticDataTests {
+
+	@Autowired private EmployeeRepository repository;
+
+	@Test
+	public void generatedEmployeesShouldBeLoadedNextToTheFixedOnes() {
+
+		assertThat(repository.count(), is(5002L));
+		assertThat(StreamSupport.stream(repository.findAll().spliterator(), false) //
+				.filter(employee -> employee.getFirstName() == null || employee.getRole() == null) //
+				.count(), is(0L));
+	}
+
+	@Test
+	public void savingShouldNotRunIntoAGeneratedId() {
+
+		long highestId = StreamSupport.stream(repository.findAll().spliterator(), false) //
+				.mapToLong(employee -> employee.getId()) //
+				.max().getAsLong();
+
+		Employee gandalf = repository.save(new Employee("Gandalf", "the Grey", "wizard"));
+
+		assertThat(gandalf.getId(), is(greaterThan(highestId)));
+		assertThat(repository.count(), is(5003L));
+
+		repository.delete(gandalf);
+	}
+
+	@Test
+	public void generatedEmployeesShouldBeUpdatedLikeAnyOther() {
+
+		Employee generated = StreamSupport.stream(repository.findAll().spliterator(), false) //
+				.filter(employee -> !employee.getLastName().equals("Baggins")) //
+				.findFirst().get();
+
+		generated.setRole("wizard");
+
+		Employee updated = repository.save(generated);
+
+		assertThat(updated.getId(), is(generated.getId()));
+		assertThat(updated.getVersion(), is(1L));
+		assertThat(repository.count(), is(5002L));
+	}
+}
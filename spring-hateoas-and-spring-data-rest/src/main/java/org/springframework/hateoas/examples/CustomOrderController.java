@@ -18,17 +18,26 @@ package org.springframework.hateoas.examples;
 
 import static org.springframework.hateoas.examples.OrderStatus.*;
 
+import java.util.Optional;
+
 import org.springframework.data.rest.webmvc.BasePathAwareController;
+import org.springframework.hateoas.VersionETags;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 
 /**
+ * Each transition is checked and made by a single conditional update, see {@link OrderRepository#transition}, so
+ * concurrent requests for the same order can't both pass the check.
+ *
  * @author Greg Turnquist
  */
 @BasePathAwareController
 public class CustomOrderController {
 
+	static final int MAX_ATTEMPTS = 3;
+
 	private final OrderRepository repository;
 
 	public CustomOrderController(OrderRepository repository) {
@@ -37,46 +46,46 @@ public class CustomOrderController {
 
 	@PostMapping("/orders/{id}/pay")
 	ResponseEntity<?> pay(@PathVariable Long id) {
-
-		Order order = this.repository.findById(id).orElseThrow(() -> new OrderNotFoundException(id));
-
-		if (valid(order.getOrderStatus(), OrderStatus.PAID_FOR)) {
-
-			order.setOrderStatus(OrderStatus.PAID_FOR);
-			return ResponseEntity.ok(repository.save(order));
-		}
-
-		return ResponseEntity.badRequest()
-				.body("Transitioning from " + order.getOrderStatus() + " to " + OrderStatus.PAID_FOR + " is not valid.");
+		return transition(id, OrderStatus.PAID_FOR);
 	}
 
 	@PostMapping("/orders/{id}/cancel")
 	ResponseEntity<?> cancel(@PathVariable Long id) {
-
-		Order order = this.repository.findById(id).orElseThrow(() -> new OrderNotFoundException(id));
-
-		if (valid(order.getOrderStatus(), OrderStatus.CANCELLED)) {
-
-			order.setOrderStatus(OrderStatus.CANCELLED);
-			return ResponseEntity.ok(repository.save(order));
-		}
-
-		return ResponseEntity.badRequest()
-				.body("Transitioning from " + order.getOrderStatus() + " to " + OrderStatus.CANCELLED + " is not valid.");
+		return transition(id, OrderStatus.CANCELLED);
 	}
 
 	@PostMapping("/orders/{id}/fulfill")
 	ResponseEntity<?> fulfill(@PathVariable Long id) {
+		return transition(id, OrderStatus.FULFILLED);
+	}
+
+	/**
+	 * Make the transition with a single update that only matches the order in a status it's valid to move from. Its
+	 * version only goes into the {@literal ETag}, as read back from the updated row, so other changes to the order,
+	 * made before or meanwhile, don't get in the way. Only if nothing matched is the order read, to tell why: it's gone,
+	 * or the transition isn't valid from where it is. If the transition is valid by then, the order moved in between,
+	 * and the update is tried again, up to {@link #MAX_ATTEMPTS} times in all. An order that keeps moving is answered
+	 * with {@literal 409 Conflict}.
+	 */
+	private ResponseEntity<?> transition(Long id, OrderStatus newStatus) {
+
+		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+
+			Optional<Order> moved = this.repository.transition(id, predecessorsOf(newStatus), newStatus);
 
-		Order order = this.repository.findById(id).orElseThrow(() -> new OrderNotFoundException(id));
+			if (moved.isPresent()) {
+				return ResponseEntity.ok().headers(VersionETags.headersFor(moved.get().getVersion())).body(moved.get());
+			}
 
-		if (valid(order.getOrderStatus(), OrderStatus.FULFILLED)) {
+			Order order = this.repository.findById(id).orElseThrow(() -> new OrderNotFoundException(id));
 
-			order.setOrderStatus(OrderStatus.FULFILLED);
-			return ResponseEntity.ok(repository.save(order));
+			if (!valid(order.getOrderStatus(), newStatus)) {
+				return ResponseEntity.badRequest()
+						.body("Transitioning from " + order.getOrderStatus() + " to " + newStatus + " is not valid.");
+			}
 		}
 
-		return ResponseEntity.badRequest()
-				.body("Transitioning from " + order.getOrderStatus() + " to " + OrderStatus.FULFILLED + " is not valid.");
+		return ResponseEntity.status(HttpStatus.CONFLICT)
+				.body("Order " + id + " kept changing while transitioning it to " + newStatus + ", try again.");
 	}
 }
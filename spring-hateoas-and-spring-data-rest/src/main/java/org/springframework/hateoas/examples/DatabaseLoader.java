@@ -16,8 +16,13 @@
 
 package org.springframework.hateoas.examples;
 
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
+import org.springframework.hateoas.SyntheticDataGenerator;
 import org.springframework.stereotype.Component;
 
 /**
@@ -26,12 +31,48 @@ import org.springframework.stereotype.Component;
 @Component
 public class DatabaseLoader {
 
+	private static final String[] SIZES = { "tall", "grande", "venti" };
+	private static final String[] DRINKS = { "mocha", "latte", "cappuccino", "flat white", "americano",
+			"hazelnut machiatto", "chai latte", "cold brew" };
+
 	@Bean
-	CommandLineRunner init(OrderRepository repository) {
+	CommandLineRunner init(OrderRepository repository, SyntheticDataGenerator data) {
 
 		return args -> {
 			repository.save(new Order("grande mocha"));
 			repository.save(new Order("venti hazelnut machiatto"));
+			generateOrders(data);
 		};
 	}
+
+	/**
+	 * Add as many orders as {@literal synthetic-data.orders} asks for, in each {@link OrderStatus} as often as
+	 * {@literal synthetic-data.order-statuses} says. The status is stored by its ordinal.
+	 */
+	private static void generateOrders(SyntheticDataGenerator data) {
+
+		long orders = data.getProperties().getOrders();
+
+		if (orders == 0) {
+			return;
+		}
+
+		Map<OrderStatus, Double> statuses = new LinkedHashMap<>();
+
+		data.getProperties().getOrderStatuses() //
+				.forEach((status, weight) -> statuses.put(OrderStatus.valueOf(status.toUpperCase(Locale.ROOT)), weight));
+
+		if (statuses.isEmpty()) {
+			for (OrderStatus status : OrderStatus.values()) {
+				statuses.put(status, 1.0);
+			}
+		}
+
+		long firstId = data.reserveIds("hibernate_sequence", orders);
+
+		data.insert("INSERT INTO orders (id, order_status, description, version) VALUES (?, ?, ?, 0)", orders,
+				(index, random) -> new Object[] { firstId + index, //
+						SyntheticDataGenerator.pick(statuses, random).ordinal(), //
+						SIZES[random.nextInt(SIZES.length)] + " " + DRINKS[random.nextInt(DRINKS.length)] });
+	}
 }
@@ -16,10 +16,13 @@
 
 package org.springframework.hateoas.examples;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import java.util.Objects;
 
 /**
@@ -36,6 +39,9 @@ class Order {
 
     private String description;
 
+    @JsonIgnore @Version
+    private Long version;
+
     private Order() {
         this.id = null;
         this.orderStatus = OrderStatus.BEING_CREATED;
@@ -71,6 +77,10 @@ class Order {
         this.description = description;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -15,9 +15,13 @@
  */
 package org.springframework.hateoas.examples;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
 /**
  * @author Greg Turnquist
  */
+@ResponseStatus(HttpStatus.NOT_FOUND)
 class OrderNotFoundException extends RuntimeException {
 
 	public OrderNotFoundException(Long id) {
@@ -16,11 +16,45 @@
 
 package org.springframework.hateoas.examples;
 
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * @author Greg Turnquist
  */
 public interface OrderRepository extends CrudRepository<Order, Long> {
 
+	/**
+	 * Move an {@link Order} to {@literal newStatus}, if it is in one of {@literal currentStatuses}, and read it back in
+	 * the same transaction, so it's the order as moved, at the version the move gave it. Two requests racing to move the
+	 * same order can't both succeed: the second one waits for the first one's row lock, and then no longer matches.
+	 * Other changes to the order, e.g. to its description, don't get in the way.
+	 *
+	 * @return the order as moved, or nothing if it's gone or in none of {@literal currentStatuses}
+	 */
+	@Transactional
+	default Optional<Order> transition(Long id, Set<OrderStatus> currentStatuses, OrderStatus newStatus) {
+		return moveStatus(id, currentStatuses, newStatus) == 1 ? findById(id) : Optional.empty();
+	}
+
+	/**
+	 * The single statement behind {@link #transition(Long, Set, OrderStatus)}, which counts the move in the order's
+	 * version like any other change. A row without a version is at version {@literal 0}.
+	 *
+	 * @return {@literal 1} if the order moved, {@literal 0} if it's gone or in none of {@literal currentStatuses}
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@RestResource(exported = false)
+	@Query("update Order o set o.orderStatus = :newStatus, o.version = coalesce(o.version, 0) + 1 " //
+			+ "where o.id = :id and o.orderStatus in :currentStatuses")
+	int moveStatus(@Param("id") Long id, @Param("currentStatuses") Set<OrderStatus> currentStatuses,
+			@Param("newStatus") OrderStatus newStatus);
 }
@@ -16,6 +16,11 @@
 
 package org.springframework.hateoas.examples;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * @author Greg Turnquist
  */
@@ -41,4 +46,15 @@ public enum OrderStatus {
 			throw new RuntimeException("Unrecognized situation.");
 		}
 	}
+
+	/**
+	 * Every {@link OrderStatus} it is {@link #valid(OrderStatus, OrderStatus)} to move to {@literal newStatus} from, for
+	 * checking the transition in the same statement that makes it.
+	 */
+	static Set<OrderStatus> predecessorsOf(OrderStatus newStatus) {
+
+		return Arrays.stream(values()) //
+				.filter(currentStatus -> valid(currentStatus, newStatus)) //
+				.collect(Collectors.toCollection(() -> EnumSet.noneOf(OrderStatus.class)));
+	}
 }
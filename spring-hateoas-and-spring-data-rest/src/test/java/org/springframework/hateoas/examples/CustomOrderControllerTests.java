@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * {@link CustomOrderController} with the repository mocked, to run into what real requests rarely do.
+ */
+public class CustomOrderControllerTests {
+
+	private final OrderRepository repository = mock(OrderRepository.class);
+	private final CustomOrderController controller = new CustomOrderController(this.repository);
+
+	@Test
+	void aTransitionShouldNotReadTheOrderFirst() {
+
+		given(this.repository.transition(1L, OrderStatus.predecessorsOf(OrderStatus.PAID_FOR), OrderStatus.PAID_FOR))
+				.willReturn(Optional.of(order(OrderStatus.PAID_FOR, 8L)));
+
+		ResponseEntity<?> response = this.controller.pay(1L);
+
+		// Whatever else changed the order before, the ETag is the version the transition gave it
+		assertThat(response.getStatusCode(), is(HttpStatus.OK));
+		assertThat(response.getHeaders().getFirst(HttpHeaders.ETAG), is("\"8\""));
+		then(this.repository).should(never()).findById(anyLong());
+	}
+
+	@Test
+	void anInvalidTransitionShouldBeTurnedDown() {
+
+		given(this.repository.transition(eq(1L), anySet(), eq(OrderStatus.CANCELLED))).willReturn(Optional.empty());
+		given(this.repository.findById(1L)).willReturn(Optional.of(order(OrderStatus.PAID_FOR, 1L)));
+
+		ResponseEntity<?> response = this.controller.cancel(1L);
+
+		assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
+		then(this.repository).should(times(1)).transition(eq(1L), anySet(), eq(OrderStatus.CANCELLED));
+	}
+
+	@Test
+	void aMissingOrderShouldNotBeFound() {
+
+		given(this.repository.transition(eq(1L), anySet(), eq(OrderStatus.PAID_FOR))).willReturn(Optional.empty());
+		given(this.repository.findById(1L)).willReturn(Optional.empty());
+
+		assertThrows(OrderNotFoundException.class, () -> this.controller.pay(1L));
+	}
+
+	@Test
+	void anOrderThatKeepsChangingShouldBeAConflict() {
+
+		// Not payable when updated, and payable once more by the time it's read, every time
+		given(this.repository.transition(eq(1L), anySet(), eq(OrderStatus.PAID_FOR))).willReturn(Optional.empty());
+		given(this.repository.findById(1L)).willReturn(Optional.of(order(OrderStatus.BEING_CREATED, 3L)));
+
+		ResponseEntity<?> response = this.controller.pay(1L);
+
+		assertThat(response.getStatusCode(), is(HttpStatus.CONFLICT));
+		then(this.repository).should(times(CustomOrderController.MAX_ATTEMPTS)).transition(eq(1L), anySet(),
+				eq(OrderStatus.PAID_FOR));
+		then(this.repository).should(times(CustomOrderController.MAX_ATTEMPTS)).findById(1L);
+	}
+
+	@Test
+	void anOrderThatChangedOnceShouldBeTriedAgain() {
+
+		given(this.repository.transition(eq(1L), anySet(), eq(OrderStatus.PAID_FOR))) //
+				.willReturn(Optional.empty(), Optional.of(order(OrderStatus.PAID_FOR, 4L)));
+		given(this.repository.findById(1L)).willReturn(Optional.of(order(OrderStatus.BEING_CREATED, 3L)));
+
+		ResponseEntity<?> response = this.controller.pay(1L);
+
+		assertThat(response.getStatusCode(), is(HttpStatus.OK));
+		assertThat(response.getHeaders().getFirst(HttpHeaders.ETAG), is("\"4\""));
+		then(this.repository).should(times(1)).findById(1L);
+	}
+
+	private static Order order(OrderStatus status, Long version) {
+
+		Order order = new Order("grande mocha");
+		order.setOrderStatus(status);
+		ReflectionTestUtils.setField(order, "version", version);
+
+		return order;
+	}
+}
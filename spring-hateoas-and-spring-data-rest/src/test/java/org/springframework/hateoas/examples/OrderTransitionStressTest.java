@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.examples;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Hammers {@link CustomOrderController} with competing transitions of the same orders, from many threads over real
+ * HTTP, and checks each order took exactly one path through {@link OrderStatus}.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "spring.datasource.generate-unique-name=true")
+public class OrderTransitionStressTest {
+
+	private static final int ORDERS = 200;
+	private static final int ATTEMPTS = 4;
+
+	@Autowired TestRestTemplate rest;
+	@Autowired OrderRepository repository;
+	@Autowired JdbcTemplate jdbc;
+
+	private ExecutorService clients;
+	private List<Long> ids;
+
+	@BeforeEach
+	void setUp() {
+
+		this.clients = Executors.newFixedThreadPool(16);
+		this.ids = IntStream.range(0, ORDERS) //
+				.mapToObj(i -> this.repository.save(new Order("order " + i)).getId()) //
+				.collect(Collectors.toList());
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.clients.shutdownNow();
+	}
+
+	@Test
+	void competingPaymentsAndCancellationsShouldLetExactlyOneThrough() throws Exception {
+
+		List<Callable<Outcome>> requests = new ArrayList<>();
+
+		for (Long id : this.ids) {
+			for (int i = 0; i < ATTEMPTS; i++) {
+				requests.add(() -> post(id, "pay"));
+				requests.add(() -> post(id, "cancel"));
+			}
+		}
+
+		List<Outcome> outcomes = runConcurrently(requests);
+
+		for (Long id : this.ids) {
+
+			List<Outcome> succeeded = outcomes.stream() //
+					.filter(outcome -> outcome.id.equals(id) && outcome.status == HttpStatus.OK) //
+					.collect(Collectors.toList());
+
+			assertThat("order " + id, succeeded, hasSize(1));
+
+			Order order = this.repository.findById(id).get();
+
+			assertThat(order.getOrderStatus(), is(succeeded.get(0).action.equals("pay") //
+					? OrderStatus.PAID_FOR //
+					: OrderStatus.CANCELLED));
+			assertThat(order.getVersion(), is(1L));
+			assertThat(succeeded.get(0).etag, is("\"1\""));
+		}
+
+		assertThat(outcomes.stream().filter(outcome -> outcome.status == HttpStatus.BAD_REQUEST).count(),
+				is((long) ORDERS * (2 * ATTEMPTS - 1)));
+	}
+
+	@Test
+	void competingFulfillmentsShouldLetExactlyOneThrough() throws Exception {
+
+		this.ids.forEach(id -> post(id, "pay"));
+
+		List<Callable<Outcome>> requests = new ArrayList<>();
+
+		for (Long id : this.ids) {
+			for (int i = 0; i < ATTEMPTS; i++) {
+				requests.add(() -> post(id, "fulfill"));
+			}
+		}
+
+		List<Outcome> outcomes = runConcurrently(requests);
+
+		assertThat(outcomes.stream().filter(outcome -> outcome.status == HttpStatus.OK).count(), is((long) ORDERS));
+		assertThat(outcomes.stream().filter(outcome -> outcome.status == HttpStatus.OK) //
+				.map(outcome -> outcome.id).distinct().count(), is((long) ORDERS));
+
+		this.ids.forEach(id -> {
+
+			Order order = this.repository.findById(id).get();
+
+			assertThat(order.getOrderStatus(), is(OrderStatus.FULFILLED));
+			assertThat(order.getVersion(), is(2L));
+		});
+	}
+
+	@Test
+	void editsOfOtherFieldsShouldNotGetInTheWay() throws Exception {
+
+		List<Callable<Outcome>> requests = new ArrayList<>();
+
+		for (Long id : this.ids) {
+
+			requests.add(() -> post(id, "pay"));
+
+			for (int i = 0; i < ATTEMPTS; i++) {
+
+				String description = "edit " + i;
+
+				requests.add(() -> {
+
+					// What a PATCH through Spring Data REST comes down to
+					this.jdbc.update("update ORDERS set DESCRIPTION = ?, VERSION = VERSION + 1 where ID = ?", //
+							description, id);
+
+					return new Outcome(id, "edit", HttpStatus.OK, null);
+				});
+			}
+		}
+
+		List<Outcome> outcomes = runConcurrently(requests);
+
+		assertThat(outcomes.stream().filter(outcome -> outcome.status != HttpStatus.OK).count(), is(0L));
+
+		for (Long id : this.ids) {
+
+			Order order = this.repository.findById(id).get();
+
+			assertThat(order.getOrderStatus(), is(OrderStatus.PAID_FOR));
+			assertThat(order.getVersion(), is(ATTEMPTS + 1L));
+		}
+	}
+
+	@Test
+	void anOrderWithoutAVersionShouldStartAtZero() {
+
+		Long id = this.ids.get(0);
+		this.jdbc.update("update ORDERS set VERSION = null where ID = ?", id);
+
+		Outcome paid = post(id, "pay");
+
+		assertThat(paid.status, is(HttpStatus.OK));
+		assertThat(paid.etag, is("\"1\""));
+		assertThat(this.repository.findById(id).get().getVersion(), is(1L));
+	}
+
+	@Test
+	void transitioningAMissingOrderShouldBeNotFound() {
+		assertThat(post(Long.MAX_VALUE, "pay").status, is(HttpStatus.NOT_FOUND));
+	}
+
+	private Outcome post(Long id, String action) {
+
+		ResponseEntity<String> response = this.rest.postForEntity("/api/orders/{id}/{action}", null, String.class, id,
+				action);
+
+		return new Outcome(id, action, response.getStatusCode(), response.getHeaders().getETag());
+	}
+
+	/**
+	 * Each order's requests are next to each other in the list, so the clients pick them up at the same time.
+	 */
+	private List<Outcome> runConcurrently(List<Callable<Outcome>> requests) throws Exception {
+
+		List<Outcome> outcomes = new ArrayList<>();
+
+		for (Future<Outcome> outcome : this.clients.invokeAll(requests)) {
+			outcomes.add(outcome.get());
+		}
+
+		return outcomes;
+	}
+
+	private static class Outcome {
+
+		final Long id;
+		final String action;
+		final HttpStatus status;
+		final String etag;
+
+		Outcome(Long id, String action, HttpStatus status, String etag) {
+
+			this.id = id;
+			this.action = action;
+			this.status = status;
+			this.etag = etag;
+		}
+	}
+}